@@ -0,0 +1,369 @@
+package linkylist;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH benchmarks for every LinkyList operation, with java.util.LinkedList and ArrayList as baselines.
+ * HashedLinkyList is a LinkyList created with LinkyList.hashIndexed().
+ * Unlike the single cold runs in LinkyListComparison, each benchmark is warmed up, forked into a fresh
+ * JVM and feeds every result to a Blackhole so the JIT cannot discard the work.
+ * <p>
+ * Runs are parameterized over list size (10^2 to 10^7) and element type. The benchmarks that take an
+ * index are also parameterized over access pattern, through the Access state: SEQUENTIAL walks every
+ * index in order and wraps at the end, RANDOM uses a fixed pseudo-random sequence, and HEAD and TAIL
+ * always touch the first or last element. Mutating benchmarks undo their own change in the same
+ * invocation so the list keeps its size. main() runs everything with the GC profiler attached, which adds allocation
+ * rate (gc.alloc.rate.norm, bytes per operation) to each result.
+ *
+ * @author Austin Benedicto
+ * @version 12/14/2025
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+@State(Scope.Thread)
+public class LinkyListBenchmark
+{
+    // Length of the precomputed RANDOM sequence; a power of two so the cursor can wrap with a mask
+    private static final int PATTERN_LENGTH = 1 << 12;
+
+    @Param({ "100", "1000", "10000", "100000", "1000000", "10000000" })
+    public int size;
+
+    @Param({ "LinkyList", "HashedLinkyList", "LinkedList", "ArrayList" })
+    public String implementation;
+
+    @Param({ "Integer", "String" })
+    public String elementType;
+
+    private ListOps list;
+    private ListOps copy;
+    private Object[] values;
+    // Values not already in the list, for the bulk benchmarks
+    private Set<Object> batch;
+
+    /**
+     * The order in which the index-based benchmarks visit the list. It is a state of its own so the
+     * benchmarks that take no index are not run once per access pattern.
+     */
+    @State(Scope.Thread)
+    public static class Access
+    {
+        @Param({ "SEQUENTIAL", "RANDOM", "HEAD", "TAIL" })
+        public String accessPattern;
+
+        private boolean sequential;
+        private int size;
+        private int[] indices;
+        private int cursor;
+
+        @Setup(Level.Trial)
+        public void setUp( LinkyListBenchmark benchmark )
+        {
+            size = benchmark.size;
+            sequential = "SEQUENTIAL".equals( accessPattern );
+            cursor = 0;
+
+            Random rand = new Random( 12345 );
+            indices = new int[PATTERN_LENGTH];
+            for( int i = 0; i < PATTERN_LENGTH; i++ )
+            {
+                switch( accessPattern )
+                {
+                    case "SEQUENTIAL": break;
+                    case "RANDOM":     indices[i] = rand.nextInt( size ); break;
+                    case "HEAD":       indices[i] = 0; break;
+                    case "TAIL":       indices[i] = size - 1; break;
+                    default: throw new IllegalArgumentException("Unknown access pattern: " + accessPattern);
+                }
+            }
+        }
+
+        /**
+         * Returns the next index to visit. SEQUENTIAL advances a cursor through the whole list rather
+         * than a precomputed sequence, so large lists are visited all the way to the tail.
+         *
+         * @return the next index to visit
+         */
+        int nextIndex()
+        {
+            if( sequential )
+            {
+                int index = cursor;
+                cursor = (index + 1 == size) ? 0 : index + 1;
+                return index;
+            }
+            return indices[cursor++ & (PATTERN_LENGTH - 1)];
+        }
+    }
+
+    /**
+     * The operations under test, so one benchmark body can drive LinkyList and the JDK lists alike
+     */
+    private interface ListOps
+    {
+        boolean add( Object element );
+        void add( int index, Object element );
+        Object get( int index );
+        Object set( int index, Object element );
+        Object remove( int index );
+        boolean remove( Object obj );
+        boolean contains( Object obj );
+        int indexOf( Object obj );
+        int lastIndexOf( Object obj );
+        int size();
+        boolean isEmpty();
+        void clear();
+        boolean addAll( Collection<Object> c );
+        boolean removeAll( Collection<Object> c );
+        void traverse( Blackhole bh );
+        boolean equalsList( ListOps other );
+    }
+
+    private static final class LinkyOps implements ListOps
+    {
+        final LinkyList<Object> list;
+
+        LinkyOps( LinkyList<Object> list ) { this.list = list; }
+
+        public boolean add( Object element ) { return list.add( element ); }
+        public void add( int index, Object element ) { list.add( index, element ); }
+        public Object get( int index ) { return list.get( index ); }
+        public Object set( int index, Object element ) { return list.set( index, element ); }
+        public Object remove( int index ) { return list.remove( index ); }
+        public boolean remove( Object obj ) { return list.remove( obj ); }
+        public boolean contains( Object obj ) { return list.contains( obj ); }
+        public int indexOf( Object obj ) { return list.indexOf( obj ); }
+        public int lastIndexOf( Object obj ) { return list.lastIndexOf( obj ); }
+        public int size() { return list.size(); }
+        public boolean isEmpty() { return list.isEmpty(); }
+        public void clear() { list.clear(); }
+        public boolean addAll( Collection<Object> c ) { return list.addAll( c ); }
+        public boolean removeAll( Collection<Object> c ) { return list.removeAll( c ); }
+
+        public void traverse( Blackhole bh )
+        {
+            for( Object element : list )
+                bh.consume( element );
+        }
+
+        public boolean equalsList( ListOps other )
+        {
+            return list.equals( ((LinkyOps) other).list );
+        }
+    }
+
+    private static final class JdkOps implements ListOps
+    {
+        final List<Object> list;
+
+        JdkOps( List<Object> list ) { this.list = list; }
+
+        public boolean add( Object element ) { return list.add( element ); }
+        public void add( int index, Object element ) { list.add( index, element ); }
+        public Object get( int index ) { return list.get( index ); }
+        public Object set( int index, Object element ) { return list.set( index, element ); }
+        public Object remove( int index ) { return list.remove( index ); }
+        public boolean remove( Object obj ) { return list.remove( obj ); }
+        public boolean contains( Object obj ) { return list.contains( obj ); }
+        public int indexOf( Object obj ) { return list.indexOf( obj ); }
+        public int lastIndexOf( Object obj ) { return list.lastIndexOf( obj ); }
+        public int size() { return list.size(); }
+        public boolean isEmpty() { return list.isEmpty(); }
+        public void clear() { list.clear(); }
+        public boolean addAll( Collection<Object> c ) { return list.addAll( c ); }
+        public boolean removeAll( Collection<Object> c ) { return list.removeAll( c ); }
+
+        public void traverse( Blackhole bh )
+        {
+            for( Object element : list )
+                bh.consume( element );
+        }
+
+        public boolean equalsList( ListOps other )
+        {
+            return list.equals( ((JdkOps) other).list );
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        values = new Object[size];
+        for( int i = 0; i < size; i++ )
+            values[i] = "String".equals( elementType ) ? "value-" + i : Integer.valueOf( i );
+
+        list = newList();
+        copy = newList();
+        for( int i = 0; i < size; i++ )
+        {
+            list.add( values[i] );
+            copy.add( values[i] );
+        }
+
+        batch = new HashSet<>();
+        for( int i = 0; i < Math.min( size, 1000 ); i++ )
+            batch.add( "batch-" + i );
+    }
+
+    private ListOps newList()
+    {
+        switch( implementation )
+        {
+            case "LinkyList":       return new LinkyOps( new LinkyList<>() );
+            case "HashedLinkyList": return new LinkyOps( LinkyList.hashIndexed() );
+            case "LinkedList":      return new JdkOps( new LinkedList<>() );
+            case "ArrayList":       return new JdkOps( new ArrayList<>() );
+            default: throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        }
+    }
+
+    // ==================== READS ====================
+
+    @Benchmark
+    public Object get( Access access )
+    {
+        return list.get( access.nextIndex() );
+    }
+
+    @Benchmark
+    public boolean contains( Access access )
+    {
+        return list.contains( values[access.nextIndex()] );
+    }
+
+    @Benchmark
+    public boolean containsMissing()
+    {
+        return list.contains( "missing" );
+    }
+
+    @Benchmark
+    public int indexOf( Access access )
+    {
+        return list.indexOf( values[access.nextIndex()] );
+    }
+
+    @Benchmark
+    public int lastIndexOf( Access access )
+    {
+        return list.lastIndexOf( values[access.nextIndex()] );
+    }
+
+    @Benchmark
+    public int size()
+    {
+        return list.size();
+    }
+
+    @Benchmark
+    public boolean isEmpty()
+    {
+        return list.isEmpty();
+    }
+
+    @Benchmark
+    public boolean equalsCopy()
+    {
+        return list.equalsList( copy );
+    }
+
+    @Benchmark
+    public void traverse( Blackhole bh )
+    {
+        list.traverse( bh );
+    }
+
+    // ==================== WRITES ====================
+
+    @Benchmark
+    public Object set( Access access )
+    {
+        int index = access.nextIndex();
+        return list.set( index, values[index] );
+    }
+
+    @Benchmark
+    public void appendThenRemoveLast( Blackhole bh )
+    {
+        bh.consume( list.add( values[0] ) );
+        bh.consume( list.remove( list.size() - 1 ) );
+    }
+
+    @Benchmark
+    public void addAtIndexThenRemove( Access access, Blackhole bh )
+    {
+        int index = access.nextIndex();
+        list.add( index, values[index] );
+        bh.consume( list.remove( index ) );
+    }
+
+    @Benchmark
+    public void removeObjectThenReinsert( Access access, Blackhole bh )
+    {
+        int index = access.nextIndex();
+        bh.consume( list.remove( values[index] ) );
+        list.add( index, values[index] );
+    }
+
+    @Benchmark
+    public void buildThenClear( Blackhole bh )
+    {
+        ListOps fresh = newList();
+        for( int i = 0; i < size; i++ )
+            fresh.add( values[i] );
+        bh.consume( fresh.size() );
+        fresh.clear();
+    }
+
+    @Benchmark
+    public void addAllThenRemoveAll( Blackhole bh )
+    {
+        // The batch is a HashSet so the JDK lists get the same O(1) lookup LinkyList builds for itself
+        bh.consume( list.addAll( batch ) );
+        bh.consume( list.removeAll( batch ) );
+    }
+
+    /**
+     * Runs every benchmark in this class with the GC profiler attached
+     *
+     * @param args JMH include patterns; defaults to this class
+     * @throws RunnerException if JMH fails to run the benchmarks
+     */
+    public static void main( String[] args ) throws RunnerException
+    {
+        Options options = new OptionsBuilder()
+            .include( args.length > 0 ? args[0] : LinkyListBenchmark.class.getSimpleName() )
+            .addProfiler( GCProfiler.class )
+            .build();
+        new Runner( options ).run();
+    }
+}
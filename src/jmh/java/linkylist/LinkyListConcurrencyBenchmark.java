@@ -0,0 +1,167 @@
+package linkylist;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Multi-threaded throughput benchmarks for the thread-safe LinkyList variants. Every thread runs the
+ * same mix against one shared list: a membership test most of the time, otherwise an append followed
+ * by removal of the same value, so the list keeps its size. The baseline is a plain LinkyList with
+ * every call inside one global synchronized block, the same locking Collections.synchronizedList uses
+ * and how the lists were shared before. The 95% read mix is the one StampedLinkyList is built for;
+ * CopyOnWriteLinkyList copies on every write, so it is only expected to win when writes are far rarer.
+ * <p>
+ * JMH fixes the thread count per run, so main() repeats the benchmarks at 1, 2, 4, ... 64 threads.
+ *
+ * @author Austin Benedicto
+ * @version 12/14/2025
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LinkyListConcurrencyBenchmark
+{
+    private static final int[] THREAD_COUNTS = { 1, 2, 4, 8, 16, 32, 64 };
+
+    /**
+     * The operations under test, so one benchmark body can drive every implementation
+     */
+    private interface SharedOps
+    {
+        boolean add( Integer element );
+        boolean remove( Integer element );
+        boolean contains( Integer element );
+    }
+
+    private static final class LockFreeOps implements SharedOps
+    {
+        final ConcurrentLinkyList<Integer> list = new ConcurrentLinkyList<>();
+
+        public boolean add( Integer element ) { return list.add( element ); }
+        public boolean remove( Integer element ) { return list.remove( element ); }
+        public boolean contains( Integer element ) { return list.contains( element ); }
+    }
+
+    private static final class StampedOps implements SharedOps
+    {
+        final StampedLinkyList<Integer> list = new StampedLinkyList<>();
+
+        public boolean add( Integer element ) { return list.add( element ); }
+        public boolean remove( Integer element ) { return list.remove( element ); }
+        public boolean contains( Integer element ) { return list.contains( element ); }
+    }
+
+    private static final class CopyOnWriteOps implements SharedOps
+    {
+        final CopyOnWriteLinkyList<Integer> list = new CopyOnWriteLinkyList<>();
+
+        public boolean add( Integer element ) { return list.add( element ); }
+        public boolean remove( Integer element ) { return list.remove( element ); }
+        public boolean contains( Integer element ) { return list.contains( element ); }
+    }
+
+    private static final class SynchronizedOps implements SharedOps
+    {
+        final LinkyList<Integer> list = new LinkyList<>();
+
+        public synchronized boolean add( Integer element ) { return list.add( element ); }
+        public synchronized boolean remove( Integer element ) { return list.remove( element ); }
+        public synchronized boolean contains( Integer element ) { return list.contains( element ); }
+    }
+
+    @State(Scope.Benchmark)
+    public static class SharedList
+    {
+        @Param({ "lockFree", "stamped", "copyOnWrite", "synchronized" })
+        public String implementation;
+
+        @Param({ "1000" })
+        public int size;
+
+        @Param({ "95", "50" })
+        public int readPercent;
+
+        SharedOps ops;
+        Integer[] values;
+
+        @Setup(Level.Trial)
+        public void setUp()
+        {
+            switch( implementation )
+            {
+                case "lockFree":     ops = new LockFreeOps(); break;
+                case "stamped":      ops = new StampedOps(); break;
+                case "copyOnWrite":  ops = new CopyOnWriteOps(); break;
+                case "synchronized": ops = new SynchronizedOps(); break;
+                default: throw new IllegalArgumentException("Unknown implementation: " + implementation);
+            }
+
+            // Half of the lookups hit; values are boxed once so the benchmark does not measure boxing
+            values = new Integer[size * 2];
+            for( int i = 0; i < values.length; i++ )
+                values[i] = i;
+            for( int i = 0; i < size; i++ )
+                ops.add( values[i] );
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadRandom
+    {
+        SplittableRandom rand;
+
+        @Setup(Level.Trial)
+        public void setUp()
+        {
+            rand = new SplittableRandom( Thread.currentThread().getId() );
+        }
+    }
+
+    @Benchmark
+    public boolean mixed( SharedList shared, ThreadRandom random )
+    {
+        Integer value = shared.values[random.rand.nextInt( shared.values.length )];
+        if( random.rand.nextInt( 100 ) < shared.readPercent )
+            return shared.ops.contains( value );
+
+        shared.ops.add( value );
+        return shared.ops.remove( value );
+    }
+
+    /**
+     * Runs the benchmarks once per thread count
+     *
+     * @param args JMH include patterns; defaults to this class
+     * @throws RunnerException if JMH fails to run the benchmarks
+     */
+    public static void main( String[] args ) throws RunnerException
+    {
+        for( int threads : THREAD_COUNTS )
+        {
+            Options options = new OptionsBuilder()
+                .include( args.length > 0 ? args[0] : LinkyListConcurrencyBenchmark.class.getSimpleName() )
+                .threads( threads )
+                .build();
+            new Runner( options ).run();
+        }
+    }
+}
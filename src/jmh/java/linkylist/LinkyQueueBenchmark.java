@@ -0,0 +1,150 @@
+package linkylist;
+
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Producer/consumer throughput benchmarks for ConcurrentLinkyQueue. Producer threads offer and
+ * consumer threads poll on one shared queue at the same time, and JMH reports ops/us for each side
+ * and for the group as a whole. The baselines are the JDK's concurrent queues and the old approach:
+ * a LinkyList used as a queue, with every add(T) and remove(0) in one synchronized block.
+ * <p>
+ * Every queue is bounded by the same capacity, except the ones that cannot be (the unbounded
+ * ConcurrentLinkyQueue and ConcurrentLinkedQueue). A new queue is created for every iteration, so one
+ * that filled up because producers outran consumers starts empty again.
+ *
+ * @author Austin Benedicto
+ * @version 12/14/2025
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Group)
+public class LinkyQueueBenchmark
+{
+    private static final Integer ELEMENT = 42;
+
+    @Param({ "linkyQueue", "linkyQueueUnbounded", "ConcurrentLinkedQueue", "LinkedBlockingQueue", "ArrayBlockingQueue", "synchronizedLinkyList" })
+    public String implementation;
+
+    @Param({ "1024" })
+    public int capacity;
+
+    private QueueOps queue;
+
+    /**
+     * The operations under test, so one benchmark body can drive every implementation
+     */
+    private interface QueueOps
+    {
+        boolean offer( Integer element );
+        Integer poll();
+    }
+
+    private static final class LinkyQueueOps implements QueueOps
+    {
+        final ConcurrentLinkyQueue<Integer> queue;
+
+        LinkyQueueOps( ConcurrentLinkyQueue<Integer> queue ) { this.queue = queue; }
+
+        public boolean offer( Integer element ) { return queue.offer( element ); }
+        public Integer poll() { return queue.poll(); }
+    }
+
+    private static final class JdkQueueOps implements QueueOps
+    {
+        final Queue<Integer> queue;
+
+        JdkQueueOps( Queue<Integer> queue ) { this.queue = queue; }
+
+        public boolean offer( Integer element ) { return queue.offer( element ); }
+        public Integer poll() { return queue.poll(); }
+    }
+
+    private static final class SynchronizedLinkyOps implements QueueOps
+    {
+        final LinkyList<Integer> list = new LinkyList<>();
+        final int capacity;
+
+        SynchronizedLinkyOps( int capacity ) { this.capacity = capacity; }
+
+        public synchronized boolean offer( Integer element )
+        {
+            return list.size() < capacity && list.add( element );
+        }
+
+        public synchronized Integer poll()
+        {
+            return list.isEmpty() ? null : list.remove( 0 );
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp()
+    {
+        switch( implementation )
+        {
+            case "linkyQueue":            queue = new LinkyQueueOps( new ConcurrentLinkyQueue<>( capacity ) ); break;
+            case "linkyQueueUnbounded":   queue = new LinkyQueueOps( new ConcurrentLinkyQueue<>() ); break;
+            case "ConcurrentLinkedQueue": queue = new JdkQueueOps( new ConcurrentLinkedQueue<>() ); break;
+            case "LinkedBlockingQueue":   queue = new JdkQueueOps( new LinkedBlockingQueue<>( capacity ) ); break;
+            case "ArrayBlockingQueue":    queue = new JdkQueueOps( new ArrayBlockingQueue<>( capacity ) ); break;
+            case "synchronizedLinkyList": queue = new SynchronizedLinkyOps( capacity ); break;
+            default: throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        }
+    }
+
+    @Benchmark
+    @Group("producerConsumer")
+    @GroupThreads(4)
+    public boolean offer()
+    {
+        return queue.offer( ELEMENT );
+    }
+
+    @Benchmark
+    @Group("producerConsumer")
+    @GroupThreads(4)
+    public Integer poll()
+    {
+        return queue.poll();
+    }
+
+    /**
+     * Runs every benchmark in this class
+     *
+     * @param args JMH include patterns; defaults to this class
+     * @throws RunnerException if JMH fails to run the benchmarks
+     */
+    public static void main( String[] args ) throws RunnerException
+    {
+        Options options = new OptionsBuilder()
+            .include( args.length > 0 ? args[0] : LinkyQueueBenchmark.class.getSimpleName() )
+            .build();
+        new Runner( options ).run();
+    }
+}
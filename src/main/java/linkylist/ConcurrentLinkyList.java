@@ -0,0 +1,358 @@
+package linkylist;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free, thread-safe version of LinkyList, after Harris and Michael's lock-free linked list.
+ * Elements stay in insertion order. Each node's next link is an AtomicMarkableReference, and every
+ * change to the chain is a compare-and-set on one of those links, so no thread ever blocks another.
+ * <p>
+ * Removal is done in two steps. A thread first marks the victim's own next link, which logically
+ * deletes the node and stops anyone appending after it. It then swings the predecessor's link past
+ * the node. Any thread that walks past a marked node finishes the second step on the owner's
+ * behalf, so a stalled remover never holds anyone up.
+ * <p>
+ * contains() only reads links and never retries, so it is wait-free for a list that is not growing
+ * without bound. size() and iteration are weakly consistent: they reflect some state of the list
+ * during the call, not necessarily a single instant.
+ *
+ * @author Austin Benedicto
+ * @version 12/14/2025
+ */
+public class ConcurrentLinkyList <T> implements Iterable<T>
+{
+    private static final class Node <T>
+    {
+        public final T data;
+        // The mark bit set means this node has been logically deleted
+        public final AtomicMarkableReference<Node<T>> next;
+
+        public Node( T data )
+        {
+            this.data = data;
+            this.next = new AtomicMarkableReference<>( null, false );
+        }
+    }
+
+    // Sentinel before the first element; never marked
+    private final Node<T> head;
+    // Some node at or near the end of the list, where appends start looking for the end
+    private volatile Node<T> tailHint;
+    private final LongAdder count;
+
+    /**
+     * Constructor for ConcurrentLinkyList
+     */
+    public ConcurrentLinkyList()
+    {
+        head = new Node<>( null );
+        tailHint = head;
+        count = new LongAdder();
+    }
+
+    /**
+     * True if the ConcurrentLinkyList has no elements, false otherwise
+     *
+     * @return if the ConcurrentLinkyList is empty, false otherwise
+     */
+    public boolean isEmpty()
+    {
+        return firstLive() == null;
+    }
+
+    /**
+     * Returns the number of elements in this list. With concurrent updates in flight the result is only
+     * an estimate.
+     *
+     * @return the number of elements in this list
+     */
+    public int size()
+    {
+        long sum = count.sum();
+        return (int) Math.max( 0, Math.min( sum, Integer.MAX_VALUE ) );
+    }
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param element the element to be appended
+     * @return true if the addition was successful, false otherwise
+     */
+    public boolean add( T element )
+    {
+        Node<T> newNode = new Node<>( element );
+        while( true )
+        {
+            Node<T> last = findLast();
+            if( last.next.compareAndSet( null, newNode, false, false ) )
+            {
+                count.increment();
+                tailHint = newNode;
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns true if this list contains the specified element. More formally, returns true if and only if this list contains at least one element e such that Objects.equals(obj, e).
+     *
+     * @param obj element whose presence in this list is to be tested
+     * @return true if this list contains the specified element
+     */
+    public boolean contains( Object obj )
+    {
+        boolean[] marked = { false };
+        Node<T> current = head.next.getReference();
+        while( current != null )
+        {
+            Node<T> succ = current.next.get( marked );
+            if( !marked[0] && matches( obj, current.data ) )
+                return true;
+            current = succ;
+        }
+        return false;
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from this list, if it is present.
+     *
+     * @param obj element to be removed from this list, if present
+     * @return true if this list contained the specified element
+     */
+    public boolean remove( Object obj )
+    {
+        boolean[] marked = { false };
+        retry:
+        while( true )
+        {
+            Node<T> pred = head;
+            Node<T> current = pred.next.getReference();
+            while( current != null )
+            {
+                Node<T> succ = current.next.get( marked );
+                if( marked[0] )
+                {
+                    // Finish someone else's removal before moving on
+                    if( !pred.next.compareAndSet( current, succ, false, false ) )
+                        continue retry;
+                    current = succ;
+                    continue;
+                }
+
+                if( matches( obj, current.data ) )
+                {
+                    // The mark is the linearization point; if the link moved under us, look at this node again
+                    if( !current.next.compareAndSet( succ, succ, false, true ) )
+                        continue;
+
+                    count.decrement();
+                    pred.next.compareAndSet( current, succ, false, false );
+                    return true;
+                }
+
+                pred = current;
+                current = succ;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Removes all of the elements present when the call starts. Elements appended concurrently may or
+     * may not be removed.
+     */
+    public void clear()
+    {
+        for( Node<T> current = firstLive(); current != null; current = nextLive( current ) )
+            markDeleted( current );
+
+        // One walk that snips everything the marks above left behind
+        findLast();
+    }
+
+    /**
+     * Returns a weakly consistent iterator over the elements in this list in insertion order. It never
+     * throws ConcurrentModificationException, and its remove() deletes the exact node last returned.
+     *
+     * @return an iterator over the elements in this list
+     */
+    public Iterator<T> iterator()
+    {
+        return new Itr();
+    }
+
+    /**
+     * Returns a String representation of this ConcurrentLinkyList, in the same format as LinkyList. With
+     * concurrent updates in flight it reflects some state of the list during the call.
+     *
+     * @return a String representation of this collection
+     */
+    public String toString()
+    {
+        StringBuilder printList = new StringBuilder( "[" );
+
+        String separator = "";
+        for( T element : this )
+        {
+            printList.append( separator ).append( String.valueOf(element) );
+            separator = ", ";
+        }
+        return printList.append("]").toString();
+    }
+
+    /**
+     * Finds the last node of the list, snipping out any deleted nodes on the way. Starts from the tail
+     * hint when that node is still live, otherwise from the head.
+     *
+     * @return a node that was live and last in the list when it was read
+     */
+    private Node<T> findLast()
+    {
+        boolean[] marked = { false };
+        retry:
+        while( true )
+        {
+            Node<T> pred = tailHint;
+            if( pred.next.isMarked() )
+                pred = head;
+
+            Node<T> current = pred.next.getReference();
+            while( current != null )
+            {
+                Node<T> succ = current.next.get( marked );
+                if( marked[0] )
+                {
+                    if( !pred.next.compareAndSet( current, succ, false, false ) )
+                        continue retry;
+                }
+                else
+                {
+                    pred = current;
+                }
+                current = succ;
+            }
+            return pred;
+        }
+    }
+
+    /**
+     * Marks the node deleted unless someone else already has
+     *
+     * @param node the node to delete
+     * @return true if this call deleted it
+     */
+    private boolean markDeleted( Node<T> node )
+    {
+        while( true )
+        {
+            Node<T> succ = node.next.getReference();
+            if( node.next.isMarked() )
+                return false;
+            if( node.next.compareAndSet( succ, succ, false, true ) )
+            {
+                count.decrement();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Swings the chain past a node this thread has just marked. Tries the node's last known
+     * predecessor first; if that link has moved, walks to the node, snipping every marked node on the
+     * way, from the predecessor when it is still live, otherwise from the head.
+     *
+     * @param pred a node that preceded the marked one when it was last seen
+     * @param node the marked node to unlink
+     */
+    private void unlink( Node<T> pred, Node<T> node )
+    {
+        if( pred.next.compareAndSet( node, node.next.getReference(), false, false ) )
+            return;
+
+        boolean[] marked = { false };
+        Node<T> start = pred.next.isMarked() ? head : pred;
+        retry:
+        while( true )
+        {
+            pred = start;
+            Node<T> current = pred.next.getReference();
+            while( current != null )
+            {
+                Node<T> succ = current.next.get( marked );
+                if( marked[0] )
+                {
+                    if( !pred.next.compareAndSet( current, succ, false, false ) )
+                    {
+                        start = head;
+                        continue retry;
+                    }
+                    if( current == node )
+                        return;
+                }
+                else
+                {
+                    pred = current;
+                }
+                current = succ;
+            }
+            // Someone else already snipped it
+            return;
+        }
+    }
+
+    private Node<T> firstLive()
+    {
+        return nextLive( head );
+    }
+
+    private Node<T> nextLive( Node<T> node )
+    {
+        Node<T> current = node.next.getReference();
+        while( current != null && current.next.isMarked() )
+            current = current.next.getReference();
+        return current;
+    }
+
+    private static boolean matches( Object obj, Object data )
+    {
+        return (obj == null && data == null) || (obj != null && obj.equals(data));
+    }
+
+    private class Itr implements Iterator<T>
+    {
+        private Node<T> next = firstLive();
+        private Node<T> lastReturned;
+        // The last element returned and not removed, or the head; precedes lastReturned unless the chain moved
+        private Node<T> pred = head;
+
+        public boolean hasNext()
+        {
+            return next != null;
+        }
+
+        public T next()
+        {
+            if( next == null )
+                throw new NoSuchElementException();
+
+            if( lastReturned != null )
+                pred = lastReturned;
+            lastReturned = next;
+            next = nextLive( next );
+            return lastReturned.data;
+        }
+
+        public void remove()
+        {
+            if( lastReturned == null )
+                throw new IllegalStateException();
+
+            if( markDeleted( lastReturned ) )
+                unlink( pred, lastReturned );
+            lastReturned = null;
+        }
+    }
+}
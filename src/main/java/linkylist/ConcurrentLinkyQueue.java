@@ -0,0 +1,414 @@
+package linkylist;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread-safe FIFO work queue made of singly-linked nodes, after Michael and Scott's non-blocking
+ * queue. Producers and consumers work at opposite ends. offer() appends with a compare-and-set on the
+ * last node's next link and then swings the tail reference; poll() swings the head reference. Neither
+ * end ever walks the list, and a producer never waits for a consumer or the other way round.
+ * <p>
+ * The head always points at a dummy node. The first element lives in the node after it, and a
+ * successful poll() turns that node into the new dummy. A thread that finds the tail lagging one node
+ * behind advances it before retrying, so a stalled producer cannot hold anyone up.
+ * <p>
+ * Capacity is optional. A bounded queue reserves a slot in a shared counter before every offer(), so
+ * offer() returns false when the queue is full. An unbounded queue skips the counter entirely, which is
+ * the faster mode. put() and take() block only when the queue is full or empty: they first try the
+ * non-blocking path, and only then wait on a lock. Producers and consumers only touch that lock when
+ * someone is actually waiting.
+ * <p>
+ * Null elements are not permitted, since poll() and peek() use null to mean empty.
+ *
+ * @author Austin Benedicto
+ * @version 12/14/2025
+ */
+public class ConcurrentLinkyQueue <T>
+{
+    private static final class Node <T>
+    {
+        // Written before the node is published, cleared by the consumer that takes it
+        T data;
+        volatile Node<T> next;
+
+        Node( T data )
+        {
+            this.data = data;
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Node, Node> NEXT =
+        AtomicReferenceFieldUpdater.newUpdater( Node.class, Node.class, "next" );
+
+    private final AtomicReference<Node<T>> head;
+    private final AtomicReference<Node<T>> tail;
+    private final int capacity;
+    // Reserved slots; only maintained when the queue is bounded
+    private final AtomicInteger count;
+
+    // Blocking support, untouched unless a put() or take() actually has to wait
+    private final ReentrantLock waitLock;
+    private final Condition notEmpty;
+    private final Condition notFull;
+    private final AtomicInteger waitingTakers;
+    private final AtomicInteger waitingPutters;
+
+    /**
+     * Constructor for an unbounded ConcurrentLinkyQueue
+     */
+    public ConcurrentLinkyQueue()
+    {
+        this( Integer.MAX_VALUE );
+    }
+
+    /**
+     * Constructor for a ConcurrentLinkyQueue holding at most capacity elements
+     *
+     * @param capacity the most elements the queue holds at once; Integer.MAX_VALUE for unbounded
+     * @throws IllegalArgumentException if the capacity is less than 1
+     */
+    public ConcurrentLinkyQueue( int capacity )
+    {
+        if( capacity < 1 )
+            throw new IllegalArgumentException("Capacity: " + capacity);
+
+        Node<T> dummy = new Node<>( null );
+        this.head = new AtomicReference<>( dummy );
+        this.tail = new AtomicReference<>( dummy );
+        this.capacity = capacity;
+        this.count = new AtomicInteger();
+        this.waitLock = new ReentrantLock();
+        this.notEmpty = waitLock.newCondition();
+        this.notFull = waitLock.newCondition();
+        this.waitingTakers = new AtomicInteger();
+        this.waitingPutters = new AtomicInteger();
+    }
+
+    /**
+     * Inserts the specified element at the tail of this queue if there is room for it
+     *
+     * @param element the element to add
+     * @return true if the element was added, false if the queue is full
+     * @throws NullPointerException if the element is null
+     */
+    public boolean offer( T element )
+    {
+        if( element == null )
+            throw new NullPointerException();
+        if( isBounded() && !reserveSlot() )
+            return false;
+
+        enqueue( new Node<>( element ) );
+        if( waitingTakers.get() > 0 )
+            signal( notEmpty );
+        return true;
+    }
+
+    /**
+     * Inserts the specified element at the tail of this queue, waiting for room if it is full
+     *
+     * @param element the element to add
+     * @throws NullPointerException if the element is null
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void put( T element ) throws InterruptedException
+    {
+        if( offer( element ) )
+            return;
+
+        waitLock.lockInterruptibly();
+        waitingPutters.incrementAndGet();
+        try
+        {
+            // Registering before the retry means a consumer freeing a slot from here on will signal us
+            while( !offer( element ) )
+                notFull.await();
+        }
+        catch( InterruptedException e )
+        {
+            // We may have swallowed a signal meant for a waiter; pass it on
+            notFull.signal();
+            throw e;
+        }
+        finally
+        {
+            waitingPutters.decrementAndGet();
+            waitLock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves and removes the head of this queue
+     *
+     * @return the head of this queue, or null if this queue is empty
+     */
+    public T poll()
+    {
+        T element = dequeue();
+        if( element != null && isBounded() )
+        {
+            count.decrementAndGet();
+            if( waitingPutters.get() > 0 )
+                signal( notFull );
+        }
+        return element;
+    }
+
+    /**
+     * Retrieves and removes the head of this queue, waiting until an element becomes available
+     *
+     * @return the head of this queue
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T take() throws InterruptedException
+    {
+        T element = poll();
+        if( element != null )
+            return element;
+
+        waitLock.lockInterruptibly();
+        waitingTakers.incrementAndGet();
+        try
+        {
+            // Registering before the retry means a producer adding from here on will signal us
+            while( (element = poll()) == null )
+                notEmpty.await();
+            return element;
+        }
+        catch( InterruptedException e )
+        {
+            // We may have swallowed a signal meant for a waiter; pass it on
+            notEmpty.signal();
+            throw e;
+        }
+        finally
+        {
+            waitingTakers.decrementAndGet();
+            waitLock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves and removes the head of this queue, waiting up to the given time for an element
+     *
+     * @param timeout how long to wait before giving up
+     * @param unit the unit of the timeout
+     * @return the head of this queue, or null if the time ran out first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public T poll( long timeout, TimeUnit unit ) throws InterruptedException
+    {
+        T element = poll();
+        if( element != null )
+            return element;
+
+        long nanos = unit.toNanos( timeout );
+        waitLock.lockInterruptibly();
+        waitingTakers.incrementAndGet();
+        try
+        {
+            while( (element = poll()) == null )
+            {
+                if( nanos <= 0L )
+                    return null;
+                nanos = notEmpty.awaitNanos( nanos );
+            }
+            return element;
+        }
+        catch( InterruptedException e )
+        {
+            notEmpty.signal();
+            throw e;
+        }
+        finally
+        {
+            waitingTakers.decrementAndGet();
+            waitLock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves, but does not remove, the head of this queue
+     *
+     * @return the head of this queue, or null if this queue is empty
+     */
+    public T peek()
+    {
+        while( true )
+        {
+            Node<T> first = head.get().next;
+            if( first == null )
+                return null;
+
+            T element = first.data;
+            // A consumer may have taken the node and cleared it between the two reads
+            if( element != null )
+                return element;
+        }
+    }
+
+    /**
+     * True if the queue has no elements, false otherwise
+     *
+     * @return if the queue is empty, false otherwise
+     */
+    public boolean isEmpty()
+    {
+        return head.get().next == null;
+    }
+
+    /**
+     * Returns the number of elements in this queue. A bounded queue answers in O(1); an unbounded one
+     * has to count its nodes. With producers and consumers in flight the result is only an estimate.
+     *
+     * @return the number of elements in this queue
+     */
+    public int size()
+    {
+        if( isBounded() )
+            return count.get();
+
+        int size = 0;
+        for( Node<T> current = head.get().next; current != null && size < Integer.MAX_VALUE; current = current.next )
+            size++;
+        return size;
+    }
+
+    /**
+     * Returns how many more elements this queue can accept without blocking
+     *
+     * @return the remaining capacity, or Integer.MAX_VALUE if the queue is unbounded
+     */
+    public int remainingCapacity()
+    {
+        return isBounded() ? capacity - count.get() : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns a String representation of this queue from head to tail, in the same format as LinkyList
+     *
+     * @return a String representation of this collection
+     */
+    public String toString()
+    {
+        StringBuilder printList = new StringBuilder( "[" );
+
+        String separator = "";
+        for( Node<T> current = head.get().next; current != null; current = current.next )
+        {
+            T element = current.data;
+            if( element != null )
+            {
+                printList.append( separator ).append( String.valueOf(element) );
+                separator = ", ";
+            }
+        }
+        return printList.append("]").toString();
+    }
+
+    private boolean isBounded()
+    {
+        return capacity != Integer.MAX_VALUE;
+    }
+
+    /**
+     * Claims one slot of a bounded queue
+     *
+     * @return true if a slot was free, false if the queue is full
+     */
+    private boolean reserveSlot()
+    {
+        while( true )
+        {
+            int current = count.get();
+            if( current >= capacity )
+                return false;
+            if( count.compareAndSet( current, current + 1 ) )
+                return true;
+        }
+    }
+
+    /**
+     * Links the node after the last node and then advances the tail past it
+     *
+     * @param newNode the node to append
+     */
+    private void enqueue( Node<T> newNode )
+    {
+        while( true )
+        {
+            Node<T> last = tail.get();
+            Node<T> next = last.next;
+            if( last != tail.get() )
+                continue;
+
+            if( next == null )
+            {
+                // The CAS on next is the linearization point; the tail swing may be finished by anyone
+                if( NEXT.compareAndSet( last, null, newNode ) )
+                {
+                    tail.compareAndSet( last, newNode );
+                    return;
+                }
+            }
+            else
+            {
+                // The tail is lagging behind a finished append; help it along
+                tail.compareAndSet( last, next );
+            }
+        }
+    }
+
+    /**
+     * Advances the head past the dummy and returns the element of the node that becomes the new dummy
+     *
+     * @return the element removed, or null if the queue was empty
+     */
+    private T dequeue()
+    {
+        while( true )
+        {
+            Node<T> first = head.get();
+            Node<T> last = tail.get();
+            Node<T> next = first.next;
+            if( first != head.get() )
+                continue;
+
+            if( next == null )
+                return null;
+
+            if( first == last )
+            {
+                // Never let the head pass the tail
+                tail.compareAndSet( last, next );
+                continue;
+            }
+
+            T element = next.data;
+            if( head.compareAndSet( first, next ) )
+            {
+                next.data = null;
+                return element;
+            }
+        }
+    }
+
+    private void signal( Condition condition )
+    {
+        waitLock.lock();
+        try
+        {
+            condition.signal();
+        }
+        finally
+        {
+            waitLock.unlock();
+        }
+    }
+}
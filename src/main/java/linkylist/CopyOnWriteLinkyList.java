@@ -0,0 +1,723 @@
+package linkylist;
+
+import java.util.AbstractSequentialList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * A thread-safe list for data that is read constantly and changed rarely, such as listener registries
+ * and configuration. The elements live in a PersistentLinkyList held by a volatile reference. Readers
+ * just take the current reference and walk it: no lock, no retry and no ConcurrentModificationException,
+ * at the cost of a plain traversal of a linked list. Mutators take a lock, build the new version and
+ * publish it with one volatile write, so a reader sees either all of a change or none of it.
+ * <p>
+ * Every iterator, forEach() and stream works on the version that was current when it started, and is
+ * not affected by later changes. Iterators do not support remove(), set() or add().
+ * <p>
+ * A write costs a copy of part of the list, like any copy-on-write structure, but often less than all
+ * of it. The new version shares every cell after the last one the write changed, so writes near the
+ * front are cheap and add() to the end is the most expensive. Bulk mutators (addAll, removeIf,
+ * removeAll, retainAll, replaceAll, sort) build their result in one pass and publish once, however many
+ * elements they touch.
+ * <p>
+ * snapshot() returns the current version itself, which never changes and can be kept or passed on for
+ * free. subList() is AbstractList's view; unlike the list itself, it is not safe to share between threads.
+ *
+ * @author Austin Benedicto
+ * @version 12/14/2025
+ */
+public class CopyOnWriteLinkyList <T> extends AbstractSequentialList<T> implements List<T>
+{
+    private volatile PersistentLinkyList<T> elements;
+    // Serializes mutators; readers never take it
+    private final ReentrantLock lock;
+
+    /**
+     * Constructor for an empty CopyOnWriteLinkyList
+     */
+    public CopyOnWriteLinkyList()
+    {
+        this.elements = PersistentLinkyList.empty();
+        this.lock = new ReentrantLock();
+    }
+
+    /**
+     * Constructor for a CopyOnWriteLinkyList holding the given elements in iteration order
+     *
+     * @param c the elements to start with
+     */
+    public CopyOnWriteLinkyList( Collection<? extends T> c )
+    {
+        this.elements = PersistentLinkyList.copyOf( c );
+        this.lock = new ReentrantLock();
+    }
+
+    // ==================== READS ====================
+
+    /**
+     * Returns the current contents of this list as an immutable list, in O(1). Later changes to this list
+     * do not affect it.
+     *
+     * @return the current version of this list
+     */
+    public PersistentLinkyList<T> snapshot()
+    {
+        return elements;
+    }
+
+    /**
+     * Returns the number of elements in this list
+     *
+     * @return the number of elements in this list
+     */
+    public int size()
+    {
+        return elements.size();
+    }
+
+    /**
+     * Returns the element at the specified position in this list
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public T get( int index )
+    {
+        return elements.get( index );
+    }
+
+    /**
+     * Returns true if this list contains the specified element
+     *
+     * @param obj element whose presence in this list is to be tested
+     * @return true if this list contains the specified element
+     */
+    public boolean contains( Object obj )
+    {
+        return elements.contains( obj );
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this list, or -1 if this list does not contain the element
+     *
+     * @param obj element to search for
+     * @return the index of the first occurrence of the specified element in this list, or -1 if this list does not contain the element
+     */
+    public int indexOf( Object obj )
+    {
+        return elements.indexOf( obj );
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in this list, or -1 if this list does not contain the element
+     *
+     * @param obj element to search for
+     * @return the index of the last occurrence of the specified element in this list, or -1 if this list does not contain the element
+     */
+    public int lastIndexOf( Object obj )
+    {
+        int last = -1;
+        int index = 0;
+        for( T element : elements )
+        {
+            if( Objects.equals( obj, element ) )
+                last = index;
+            index++;
+        }
+        return last;
+    }
+
+    /**
+     * Returns an iterator over the current version of this list. It never sees later changes and never
+     * throws ConcurrentModificationException; it does not support remove().
+     *
+     * @return an iterator over the elements in this list
+     */
+    public Iterator<T> iterator()
+    {
+        return elements.iterator();
+    }
+
+    /**
+     * Returns a list iterator over the current version of this list, starting at the specified position.
+     * Going forward is O(1) per step; the first call to previous() copies the version into an array.
+     * It does not support remove(), set() or add().
+     *
+     * @param index index of the first element to be returned from next()
+     * @return a list iterator over the elements in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public ListIterator<T> listIterator( int index )
+    {
+        PersistentLinkyList<T> current = elements;
+        if( index < 0 || index > current.size() )
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + current.size());
+        return new SnapshotIterator<>( current, index );
+    }
+
+    /**
+     * Creates a Spliterator over the current version of this list
+     *
+     * @return a Spliterator over the elements in this list
+     */
+    public Spliterator<T> spliterator()
+    {
+        PersistentLinkyList<T> current = elements;
+        return Spliterators.spliterator( current.iterator(), current.size(), Spliterator.ORDERED | Spliterator.IMMUTABLE );
+    }
+
+    /**
+     * Performs the given action for each element of the current version of this list, in order
+     *
+     * @param action the action to be performed for each element
+     */
+    public void forEach( Consumer<? super T> action )
+    {
+        elements.forEach( action );
+    }
+
+    /**
+     * Returns an array containing all of the elements of the current version of this list, in order
+     *
+     * @return an array containing all of the elements in this list
+     */
+    public Object[] toArray()
+    {
+        PersistentLinkyList<T> current = elements;
+        Object[] array = new Object[current.size()];
+        int i = 0;
+        for( T element : current )
+            array[i++] = element;
+        return array;
+    }
+
+    /**
+     * Compares the specified object with this list for equality, as java.util.List specifies. The
+     * comparison uses a single version of this list.
+     *
+     * @param obj the object to be compared for equality with this list
+     * @return true if the specified object is equal to this list
+     */
+    public boolean equals( Object obj )
+    {
+        if( obj == this )
+            return true;
+        if( !(obj instanceof List) )
+            return false;
+
+        PersistentLinkyList<T> current = elements;
+        List<?> other = (List<?>) obj;
+        Iterator<T> mine = current.iterator();
+        Iterator<?> theirs = other.iterator();
+        while( mine.hasNext() && theirs.hasNext() )
+        {
+            if( !Objects.equals( mine.next(), theirs.next() ) )
+                return false;
+        }
+        return !mine.hasNext() && !theirs.hasNext();
+    }
+
+    /**
+     * Returns the hash code of the current version of this list, as java.util.List specifies
+     *
+     * @return the hash code value for this list
+     */
+    public int hashCode()
+    {
+        return elements.hashCode();
+    }
+
+    /**
+     * Returns a String representation of the current version of this list, in the same format as LinkyList
+     *
+     * @return a String representation of this collection
+     */
+    public String toString()
+    {
+        return elements.toString();
+    }
+
+    // ==================== WRITES ====================
+
+    /**
+     * Appends the specified element to the end of this list. Copies the whole list.
+     *
+     * @param element the element to be appended
+     * @return true if the addition was successful, false otherwise
+     */
+    public boolean add( T element )
+    {
+        lock.lock();
+        try
+        {
+            publish( elements.append( element ) );
+            return true;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list. Copies the elements in front of it.
+     *
+     * @param index index at which the specified element is to be inserted
+     * @param element element to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public void add( int index, T element )
+    {
+        lock.lock();
+        try
+        {
+            publish( elements.insert( index, element ) );
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Replaces the element at the specified position in this list. Copies the elements in front of it.
+     *
+     * @param index index of the element to replace
+     * @param element element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public T set( int index, T element )
+    {
+        lock.lock();
+        try
+        {
+            PersistentLinkyList<T> current = elements;
+            T oldValue = current.get( index );
+            publish( current.set( index, element ) );
+            return oldValue;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the element at the specified position in this list. Copies the elements in front of it.
+     *
+     * @param index the index of the element to be removed
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public T remove( int index )
+    {
+        lock.lock();
+        try
+        {
+            PersistentLinkyList<T> current = elements;
+            T oldValue = current.get( index );
+            publish( current.remove( index ) );
+            return oldValue;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from this list, if it is present. Copies the
+     * elements in front of it.
+     *
+     * @param obj element to be removed from this list, if present
+     * @return true if this list contained the specified element
+     */
+    public boolean remove( Object obj )
+    {
+        lock.lock();
+        try
+        {
+            PersistentLinkyList<T> current = elements;
+            PersistentLinkyList<T> updated = current.remove( obj );
+            if( updated == current )
+                return false;
+            publish( updated );
+            return true;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all of the elements from this list, in O(1)
+     */
+    public void clear()
+    {
+        lock.lock();
+        try
+        {
+            publish( PersistentLinkyList.empty() );
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends all of the elements in the specified collection to the end of this list, in the order that
+     * they are returned by the collection's iterator. Copies this list once.
+     *
+     * @param c collection containing elements to be added to this list
+     * @return true if this list changed as a result of the call
+     */
+    public boolean addAll( Collection<? extends T> c )
+    {
+        return addAllAt( -1, c );
+    }
+
+    /**
+     * Inserts all of the elements in the specified collection into this list at the specified position, in
+     * the order that they are returned by the collection's iterator. Copies the elements in front of the
+     * position once and shares the rest.
+     *
+     * @param index index at which to insert the first element from the specified collection
+     * @param c collection containing elements to be added to this list
+     * @return true if this list changed as a result of the call
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public boolean addAll( int index, Collection<? extends T> c )
+    {
+        if( index < 0 )
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        return addAllAt( index, c );
+    }
+
+    /**
+     * Inserts all of the elements in the specified collection at the specified position, or at the end if
+     * the position is -1. The end is found with the lock held, so an append cannot land in the middle of
+     * elements another thread appended meanwhile.
+     *
+     * @param index index at which to insert the first element, or -1 for the end of the list
+     * @param c collection containing elements to be added to this list
+     * @return true if this list changed as a result of the call
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    private boolean addAllAt( int index, Collection<? extends T> c )
+    {
+        // Snapshot c before locking, so a slow or self-referencing collection is read exactly once
+        Object[] added = c.toArray();
+        lock.lock();
+        try
+        {
+            PersistentLinkyList<T> current = elements;
+            if( index == -1 )
+                index = current.size();
+            if( index < 0 || index > current.size() )
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + current.size());
+            if( added.length == 0 )
+                return false;
+
+            PersistentLinkyList.Builder<T> builder = PersistentLinkyList.builder();
+            PersistentLinkyList<T> suffix = current;
+            for( int i = 0; i < index; i++ )
+            {
+                builder.add( suffix.first() );
+                suffix = suffix.rest();
+            }
+            for( Object element : added )
+                builder.add( (T) element );
+            publish( builder.buildOnto( suffix ) );
+            return true;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all of the elements of this list that satisfy the given predicate, in one pass. The predicate
+     * is called once per element, with the lock held. Elements after the last one removed are shared
+     * rather than copied.
+     *
+     * @param filter a predicate which returns true for elements to be removed
+     * @return true if any elements were removed
+     * @throws ConcurrentModificationException if the predicate modifies this list
+     */
+    public boolean removeIf( Predicate<? super T> filter )
+    {
+        Objects.requireNonNull( filter );
+        lock.lock();
+        try
+        {
+            PersistentLinkyList<T> current = elements;
+            boolean[] remove = new boolean[current.size()];
+            int last = -1;
+            int i = 0;
+            for( T element : current )
+            {
+                if( filter.test( element ) )
+                {
+                    remove[i] = true;
+                    last = i;
+                }
+                i++;
+            }
+            // The lock is reentrant, so only the predicate itself can have changed the list
+            if( elements != current )
+                throw new ConcurrentModificationException();
+            if( last < 0 )
+                return false;
+
+            PersistentLinkyList.Builder<T> builder = PersistentLinkyList.builder();
+            PersistentLinkyList<T> suffix = current;
+            for( i = 0; i <= last; i++ )
+            {
+                if( !remove[i] )
+                    builder.add( suffix.first() );
+                suffix = suffix.rest();
+            }
+            publish( builder.buildOnto( suffix ) );
+            return true;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes from this list all of its elements that are contained in the specified collection
+     *
+     * @param c collection containing elements to be removed from this list
+     * @return true if this list changed as a result of the call
+     */
+    public boolean removeAll( Collection<?> c )
+    {
+        Collection<?> lookup = lookup( c );
+        return removeIf( lookup::contains );
+    }
+
+    /**
+     * Retains only the elements in this list that are contained in the specified collection
+     *
+     * @param c collection containing elements to be retained in this list
+     * @return true if this list changed as a result of the call
+     */
+    public boolean retainAll( Collection<?> c )
+    {
+        Collection<?> lookup = lookup( c );
+        return removeIf( element -> !lookup.contains( element ) );
+    }
+
+    /**
+     * Replaces each element of this list with the result of applying the operator to it, in one pass
+     *
+     * @param operator the operator to apply to each element
+     * @throws ConcurrentModificationException if the operator modifies this list
+     */
+    public void replaceAll( UnaryOperator<T> operator )
+    {
+        Objects.requireNonNull( operator );
+        lock.lock();
+        try
+        {
+            PersistentLinkyList<T> current = elements;
+            PersistentLinkyList.Builder<T> builder = PersistentLinkyList.builder();
+            for( T element : current )
+                builder.add( operator.apply( element ) );
+            if( elements != current )
+                throw new ConcurrentModificationException();
+            publish( builder.build() );
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Sorts this list according to the order induced by the specified Comparator. The sort is stable.
+     *
+     * @param c the Comparator used to compare list elements; null means natural ordering
+     */
+    @SuppressWarnings("unchecked")
+    public void sort( Comparator<? super T> c )
+    {
+        lock.lock();
+        try
+        {
+            T[] array = (T[]) toArray();
+            Arrays.sort( array, c );
+            publish( PersistentLinkyList.of( array ) );
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the elements from fromIndex, inclusive, to toIndex, exclusive, in one copy of the elements
+     * in front of the range; the elements after it are shared. Used by subList().clear().
+     *
+     * @param fromIndex index of the first element to be removed
+     * @param toIndex index after the last element to be removed
+     * @throws IndexOutOfBoundsException if fromIndex is negative, toIndex is past the end, or fromIndex is greater than toIndex
+     */
+    protected void removeRange( int fromIndex, int toIndex )
+    {
+        lock.lock();
+        try
+        {
+            if( fromIndex < 0 || toIndex > elements.size() || fromIndex > toIndex )
+                throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", Size: " + elements.size());
+            if( fromIndex == toIndex )
+                return;
+
+            PersistentLinkyList.Builder<T> builder = PersistentLinkyList.builder();
+            PersistentLinkyList<T> suffix = elements;
+            for( int i = 0; i < toIndex; i++ )
+            {
+                if( i < fromIndex )
+                    builder.add( suffix.first() );
+                suffix = suffix.rest();
+            }
+            publish( builder.buildOnto( suffix ) );
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Publishes a new version. The lock must be held.
+     *
+     * @param updated the new contents of this list
+     */
+    private void publish( PersistentLinkyList<T> updated )
+    {
+        elements = updated;
+        modCount++;
+    }
+
+    /**
+     * Returns a collection with the same members as c and a fast contains()
+     *
+     * @param c the collection
+     * @return c itself if it is a Set, otherwise a HashSet copy of it
+     */
+    private static Collection<?> lookup( Collection<?> c )
+    {
+        return (c instanceof Set) ? c : new HashSet<>( c );
+    }
+
+    /**
+     * Read-only list iterator over one version of the list
+     */
+    private static final class SnapshotIterator <T> implements ListIterator<T>
+    {
+        private final PersistentLinkyList<T> snapshot;
+        // Next cell going forward; only kept until previous() is first called
+        private PersistentLinkyList<T> cell;
+        // The version as an array, made on the first call to previous()
+        private Object[] array;
+        private int nextIndex;
+
+        SnapshotIterator( PersistentLinkyList<T> snapshot, int index )
+        {
+            this.snapshot = snapshot;
+            this.cell = snapshot;
+            for( int i = 0; i < index; i++ )
+                cell = cell.rest();
+            this.nextIndex = index;
+        }
+
+        public boolean hasNext()
+        {
+            return nextIndex < snapshot.size();
+        }
+
+        @SuppressWarnings("unchecked")
+        public T next()
+        {
+            if( !hasNext() )
+                throw new NoSuchElementException();
+            if( array != null )
+                return (T) array[nextIndex++];
+
+            T element = cell.first();
+            cell = cell.rest();
+            nextIndex++;
+            return element;
+        }
+
+        public boolean hasPrevious()
+        {
+            return nextIndex > 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        public T previous()
+        {
+            if( !hasPrevious() )
+                throw new NoSuchElementException();
+            if( array == null )
+            {
+                array = new Object[snapshot.size()];
+                int i = 0;
+                for( T element : snapshot )
+                    array[i++] = element;
+                cell = null;
+            }
+            return (T) array[--nextIndex];
+        }
+
+        public int nextIndex()
+        {
+            return nextIndex;
+        }
+
+        public int previousIndex()
+        {
+            return nextIndex - 1;
+        }
+
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Iterators over a snapshot cannot modify the list");
+        }
+
+        public void set( T element )
+        {
+            throw new UnsupportedOperationException("Iterators over a snapshot cannot modify the list");
+        }
+
+        public void add( T element )
+        {
+            throw new UnsupportedOperationException("Iterators over a snapshot cannot modify the list");
+        }
+    }
+}
@@ -0,0 +1,463 @@
+package linkylist;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * An indexed version of LinkyList. The elements form an ordinary singly linked chain, and a
+ * random subset of the nodes also carry skip pointers to nodes further along. Each skip pointer
+ * records its span (how many elements it jumps over), so positional operations can skip ahead
+ * in expected O(log n) instead of walking node by node. The skip pointers are maintained by
+ * every mutator as it goes; nothing is ever rebuilt.
+ *
+ * @author Austin Benedicto
+ * @version 12/14/2025
+ */
+public class IndexedLinkyList <T>
+{
+    private static final int MAX_LEVEL = 32;
+
+    private class Node
+    {
+        public T data;
+        // next[0] is the ordinary chain; higher levels skip ahead
+        public final Node[] next;
+        // span[i] is the number of elements between this node and next[i], counting next[i]
+        public final int[] span;
+
+        public Node( T data, int level )
+        {
+            this.data = data;
+            this.next = newNodeArray( level );
+            this.span = new int[level];
+        }
+    }
+
+    // The header sits before the first element, at rank 0; the element at index i has rank i + 1
+    private final Node header;
+    // last[i] is the last node reaching level i, so appends never search
+    private final Node[] last;
+    private int level;
+    private int size;
+
+    // Scratch arrays filled by findPredecessors()
+    private final Node[] update;
+    private final int[] rank;
+
+    /**
+     * Constructor for IndexedLinkyList
+     */
+    public IndexedLinkyList()
+    {
+        header = new Node( null, MAX_LEVEL );
+        last = newNodeArray( MAX_LEVEL );
+        update = newNodeArray( MAX_LEVEL );
+        rank = new int[MAX_LEVEL];
+        clear();
+    }
+
+    /**
+     * True if the IndexedLinkyList is empty, false otherwise
+     *
+     * @return if the IndexedLinkyList is empty, false otherwise
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Removes all of the elements from this list. The list will be empty after this call returns.
+     */
+    public void clear()
+    {
+        for( int i = 0; i < MAX_LEVEL; i++ )
+        {
+            header.next[i] = null;
+            header.span[i] = 0;
+            last[i] = header;
+        }
+        level = 1;
+        size = 0;
+    }
+
+    /**
+     * Returns the number of elements in this list
+     *
+     * @return the number of elements in this list
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Returns true if this list contains the specified element. More formally, returns true if and only if this list contains at least one element e such that Objects.equals(obj, e).
+     *
+     * @param obj element whose presence in this list is to be tested
+     * @return true if this list contains the specified element
+     */
+    public boolean contains( Object obj )
+    {
+        return indexOf( obj ) >= 0;
+    }
+
+    /**
+     * Returns the element at the specified position in this list
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public T get( int index )
+    {
+        checkElementIndex( index );
+
+        return node( index ).data;
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with the specified element
+     *
+     * @param index index of the element to replace
+     * @param element element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public T set( int index, T element )
+    {
+        checkElementIndex( index );
+
+        Node current = node( index );
+        T oldData = current.data;
+        current.data = element;
+        return oldData;
+    }
+
+    /**
+     * Appends the specified element to the end of this list. This only touches the last node of
+     * each level, so it never searches the list.
+     *
+     * @param element the element to be appended
+     * @return true if the addition was successful, false otherwise
+     */
+    public boolean add( T element )
+    {
+        int newLevel = randomLevel();
+        raiseLevel( newLevel );
+
+        Node newNode = new Node( element, newLevel );
+        for( int i = 0; i < newLevel; i++ )
+        {
+            Node pred = last[i];
+            // A pointer to the end spans size - rank, which gives us the predecessor's rank
+            int predRank = size - pred.span[i];
+            pred.next[i] = newNode;
+            pred.span[i] = size + 1 - predRank;
+            newNode.span[i] = 0;
+            last[i] = newNode;
+        }
+        for( int i = newLevel; i < level; i++ )
+            last[i].span[i]++;
+
+        size++;
+        return true;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list. Shifts the element currently at that position (if any) and any subsequent elements to the right (adds one to their indices).
+     *
+     * @param index index at which the specified element is to be inserted
+     * @param element element to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public void add( int index, T element )
+    {
+        if( index < 0 || index > size )
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+        if( index == size )
+        {
+            add( element );
+            return;
+        }
+
+        findPredecessors( index );
+
+        int newLevel = randomLevel();
+        if( newLevel > level )
+        {
+            for( int i = level; i < newLevel; i++ )
+            {
+                rank[i] = 0;
+                update[i] = header;
+            }
+            raiseLevel( newLevel );
+        }
+
+        Node newNode = new Node( element, newLevel );
+        for( int i = 0; i < newLevel; i++ )
+        {
+            Node pred = update[i];
+            newNode.next[i] = pred.next[i];
+            pred.next[i] = newNode;
+            newNode.span[i] = pred.span[i] - (rank[0] - rank[i]);
+            pred.span[i] = (rank[0] - rank[i]) + 1;
+            if( newNode.next[i] == null )
+                last[i] = newNode;
+        }
+        for( int i = newLevel; i < level; i++ )
+            update[i].span[i]++;
+
+        size++;
+    }
+
+    /**
+     * Removes the element at the specified position in this list
+     *
+     * @param index the index of the element to be removed
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public T remove( int index )
+    {
+        checkElementIndex( index );
+
+        findPredecessors( index );
+
+        Node target = update[0].next[0];
+        for( int i = 0; i < level; i++ )
+        {
+            Node pred = update[i];
+            if( pred.next[i] == target )
+            {
+                pred.span[i] += target.span[i] - 1;
+                pred.next[i] = target.next[i];
+                if( last[i] == target )
+                    last[i] = pred;
+            }
+            else
+            {
+                pred.span[i]--;
+            }
+        }
+        while( level > 1 && header.next[level - 1] == null )
+            level--;
+
+        size--;
+        T removedData = target.data;
+        target.data = null;
+        return removedData;
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from this list, if it is present.
+     *
+     * @param obj element to be removed from this list, if present
+     * @return true if this list contained the specified element
+     */
+    public boolean remove( Object obj )
+    {
+        int index = indexOf( obj );
+        if( index < 0 )
+            return false;
+
+        remove( index );
+        return true;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this list, or -1 if this list does not contain the element. More formally, returns the lowest index i such that Objects.equals(o, get(i)), or -1 if there is no such index.
+     *
+     * @param obj element to search for
+     * @return the index of the first occurrence of the specified element in this list, or -1 if this list does not contain the element
+     */
+    public int indexOf( Object obj )
+    {
+        int index = 0;
+        for( Node current = header.next[0]; current != null; current = current.next[0] )
+        {
+            if( (obj == null && current.data == null) || (obj != null && obj.equals(current.data)) )
+                return index;
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in this list, or -1 if this list does not contain the element. More formally, returns the highest index i such that Objects.equals(o, get(i)), or -1 if there is no such index.
+     *
+     * @param obj element to search for
+     * @return the index of the last occurrence of the specified element in this list, or -1 if this list does not contain the element
+     */
+    public int lastIndexOf( Object obj )
+    {
+        int index = 0;
+        int lastFound = -1;
+        for( Node current = header.next[0]; current != null; current = current.next[0] )
+        {
+            if( (obj == null && current.data == null) || (obj != null && obj.equals(current.data)) )
+                lastFound = index;
+            index++;
+        }
+        return lastFound;
+    }
+
+    /**
+     * Compares the specified object with this list for equality
+     *
+     * @param obj the object to be compared for equality with this list
+     * @return true if the specified object is equal to this list
+     */
+    public boolean equals( Object obj )
+    {
+        if( obj == this )
+            return true;
+
+        if( !(obj instanceof IndexedLinkyList) )
+            return false;
+
+        IndexedLinkyList<?> list = (IndexedLinkyList<?>) obj;
+        if( this.size != list.size )
+            return false;
+
+        Node thisCurrent = this.header.next[0];
+        IndexedLinkyList<?>.Node otherCurrent = list.header.next[0];
+        while( thisCurrent != null )
+        {
+            if( thisCurrent.data == null ? otherCurrent.data != null : !thisCurrent.data.equals(otherCurrent.data) )
+                return false;
+
+            thisCurrent = thisCurrent.next[0];
+            otherCurrent = otherCurrent.next[0];
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this list, computed the same way as List.hashCode()
+     *
+     * @return a hash code for this list
+     */
+    public int hashCode()
+    {
+        int hash = 1;
+        for( Node current = header.next[0]; current != null; current = current.next[0] )
+            hash = 31 * hash + (current.data == null ? 0 : current.data.hashCode());
+        return hash;
+    }
+
+    /**
+     * Returns a String representation of this IndexedLinkyList. The String representation consists of a
+     * list of the collection's elements in order, enclosed in square brackets("[]"). Adjacent elements
+     * are separated by the characters ", " (comma and space). Elements are converted to Strings as by
+     * String.valueOf( Object).
+     *
+     * @return a String representation of this collection
+     */
+    public String toString()
+    {
+        StringBuilder printList = new StringBuilder( "[" );
+
+        for( Node current = header.next[0]; current != null; current = current.next[0] )
+        {
+            if( current != header.next[0] )
+                printList.append( ", " );
+            printList.append( String.valueOf(current.data) );
+        }
+        return printList.append("]").toString();
+    }
+
+    /**
+     * Returns the node at the specified position by descending through the skip levels.
+     * The index must already have been checked.
+     *
+     * @param index index of the node to return
+     * @return the node at the specified position
+     */
+    private Node node( int index )
+    {
+        int target = index + 1;
+        int traversed = 0;
+        Node current = header;
+        for( int i = level - 1; i >= 0; i-- )
+        {
+            while( current.next[i] != null && traversed + current.span[i] <= target )
+            {
+                traversed += current.span[i];
+                current = current.next[i];
+            }
+            if( traversed == target )
+                return current;
+        }
+        return current;
+    }
+
+    /**
+     * Fills update[i] with the last node on level i that comes before the specified index, and
+     * rank[i] with that node's rank
+     *
+     * @param index the index whose predecessors are wanted
+     */
+    private void findPredecessors( int index )
+    {
+        Node current = header;
+        for( int i = level - 1; i >= 0; i-- )
+        {
+            rank[i] = (i == level - 1) ? 0 : rank[i + 1];
+            while( current.next[i] != null && rank[i] + current.span[i] <= index )
+            {
+                rank[i] += current.span[i];
+                current = current.next[i];
+            }
+            update[i] = current;
+        }
+    }
+
+    /**
+     * Opens up skip levels up to newLevel. A new level starts with a single pointer from the
+     * header to the end, which spans the whole list.
+     *
+     * @param newLevel the number of levels needed
+     */
+    private void raiseLevel( int newLevel )
+    {
+        for( int i = level; i < newLevel; i++ )
+        {
+            header.next[i] = null;
+            header.span[i] = size;
+            last[i] = header;
+        }
+        if( newLevel > level )
+            level = newLevel;
+    }
+
+    /**
+     * Picks the number of levels for a new node; each extra level is taken with probability 1/4
+     *
+     * @return the number of levels, between 1 and MAX_LEVEL
+     */
+    private static int randomLevel()
+    {
+        int bits = ThreadLocalRandom.current().nextInt();
+        int newLevel = 1 + (Integer.numberOfTrailingZeros( bits ) >> 1);
+        return Math.min( newLevel, MAX_LEVEL );
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node[] newNodeArray( int length )
+    {
+        return (Node[]) new IndexedLinkyList<?>.Node[length];
+    }
+
+    /**
+     * Throws an IndexOutOfBoundsException if the index does not refer to an existing element
+     *
+     * @param index the index to check
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    private void checkElementIndex( int index )
+    {
+        if( index < 0 || index >= size )
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+}
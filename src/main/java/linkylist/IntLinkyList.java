@@ -0,0 +1,422 @@
+package linkylist;
+
+import java.util.Arrays;
+
+/**
+ * A version of LinkyList specialized for int values. Instead of one Node object and one boxed
+ * Integer per element, the list keeps its values and its next/prev links in parallel int arrays
+ * and links elements by slot number. That costs 12 bytes per element with no per-element
+ * objects at all, and searches compare ints directly instead of calling equals.
+ *
+ * @author Austin Benedicto
+ * @version 12/14/2025
+ */
+public class IntLinkyList
+{
+    private static final int DEFAULT_CAPACITY = 16;
+    // Marks the end of the chain in next/prev and an empty list in head/tail
+    private static final int NIL = -1;
+
+    private int[] values;
+    private int[] next;
+    private int[] prev;
+
+    private int head;
+    private int tail;
+    private int size;
+    // Slots below this index have been handed out at least once
+    private int used;
+    // Chain (through next) of slots released by removals
+    private int free;
+
+    /**
+     * Constructor for IntLinkyList
+     */
+    public IntLinkyList()
+    {
+        this( DEFAULT_CAPACITY );
+    }
+
+    /**
+     * Constructor for IntLinkyList with room for the given number of elements before it has to grow
+     *
+     * @param initialCapacity the number of elements to make room for
+     * @throws IllegalArgumentException if initialCapacity is negative
+     */
+    public IntLinkyList( int initialCapacity )
+    {
+        if( initialCapacity < 0 )
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+
+        values = new int[initialCapacity];
+        next = new int[initialCapacity];
+        prev = new int[initialCapacity];
+        clear();
+    }
+
+    /**
+     * True if the IntLinkyList is empty, false otherwise
+     *
+     * @return if the IntLinkyList is empty, false otherwise
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Removes all of the elements from this list. The list will be empty after this call returns.
+     * The storage already allocated is kept for reuse.
+     */
+    public void clear()
+    {
+        head = NIL;
+        tail = NIL;
+        size = 0;
+        used = 0;
+        free = NIL;
+    }
+
+    /**
+     * Returns the number of elements in this list
+     *
+     * @return the number of elements in this list
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Returns true if this list contains the specified value
+     *
+     * @param value value whose presence in this list is to be tested
+     * @return true if this list contains the specified value
+     */
+    public boolean contains( int value )
+    {
+        return indexOf( value ) >= 0;
+    }
+
+    /**
+     * Returns the value at the specified position in this list
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int get( int index )
+    {
+        checkElementIndex( index );
+
+        return values[slot( index )];
+    }
+
+    /**
+     * Replaces the value at the specified position in this list with the specified value
+     *
+     * @param index index of the value to replace
+     * @param value value to be stored at the specified position
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int set( int index, int value )
+    {
+        checkElementIndex( index );
+
+        int current = slot( index );
+        int oldValue = values[current];
+        values[current] = value;
+        return oldValue;
+    }
+
+    /**
+     * Appends the specified value to the end of this list.
+     *
+     * @param value the value to be appended
+     * @return true if the addition was successful, false otherwise
+     */
+    public boolean add( int value )
+    {
+        int newSlot = allocate( value );
+        prev[newSlot] = tail;
+        next[newSlot] = NIL;
+        if( tail == NIL )
+            head = newSlot;
+        else
+            next[tail] = newSlot;
+        tail = newSlot;
+        size++;
+        return true;
+    }
+
+    /**
+     * Inserts the specified value at the specified position in this list. Shifts the value currently at that position (if any) and any subsequent values to the right (adds one to their indices).
+     *
+     * @param index index at which the specified value is to be inserted
+     * @param value value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public void add( int index, int value )
+    {
+        if( index < 0 || index > size )
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+        if( index == size )
+        {
+            add( value );
+            return;
+        }
+
+        int succ = slot( index );
+        int pred = prev[succ];
+        int newSlot = allocate( value );
+        prev[newSlot] = pred;
+        next[newSlot] = succ;
+        prev[succ] = newSlot;
+        if( pred == NIL )
+            head = newSlot;
+        else
+            next[pred] = newSlot;
+        size++;
+    }
+
+    /**
+     * Removes the value at the specified position in this list
+     *
+     * @param index the index of the value to be removed
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int remove( int index )
+    {
+        checkElementIndex( index );
+
+        return unlink( slot( index ) );
+    }
+
+    /**
+     * Removes the first occurrence of the specified value from this list, if it is present. This is the
+     * counterpart of LinkyList.remove(Object); it has its own name because remove(int) removes by index.
+     *
+     * @param value value to be removed from this list, if present
+     * @return true if this list contained the specified value
+     */
+    public boolean removeValue( int value )
+    {
+        for( int current = head; current != NIL; current = next[current] )
+        {
+            if( values[current] == value )
+            {
+                unlink( current );
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified value in this list, or -1 if this list does not contain the value
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in this list, or -1 if this list does not contain the value
+     */
+    public int indexOf( int value )
+    {
+        int index = 0;
+        for( int current = head; current != NIL; current = next[current] )
+        {
+            if( values[current] == value )
+                return index;
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified value in this list, or -1 if this list does not contain the value
+     *
+     * @param value value to search for
+     * @return the index of the last occurrence of the specified value in this list, or -1 if this list does not contain the value
+     */
+    public int lastIndexOf( int value )
+    {
+        int index = size - 1;
+        for( int current = tail; current != NIL; current = prev[current] )
+        {
+            if( values[current] == value )
+                return index;
+            index--;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an array containing all of the values in this list in proper sequence
+     *
+     * @return an array containing all of the values in this list in proper sequence
+     */
+    public int[] toArray()
+    {
+        int[] result = new int[size];
+        int i = 0;
+        for( int current = head; current != NIL; current = next[current] )
+            result[i++] = values[current];
+        return result;
+    }
+
+    /**
+     * Compares the specified object with this list for equality
+     *
+     * @param obj the object to be compared for equality with this list
+     * @return true if the specified object is equal to this list
+     */
+    public boolean equals( Object obj )
+    {
+        if( obj == this )
+            return true;
+
+        if( !(obj instanceof IntLinkyList) )
+            return false;
+
+        IntLinkyList list = (IntLinkyList) obj;
+        if( this.size != list.size )
+            return false;
+
+        int otherCurrent = list.head;
+        for( int thisCurrent = head; thisCurrent != NIL; thisCurrent = next[thisCurrent] )
+        {
+            if( values[thisCurrent] != list.values[otherCurrent] )
+                return false;
+            otherCurrent = list.next[otherCurrent];
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this list, computed the same way as List.hashCode() over the boxed values
+     *
+     * @return a hash code for this list
+     */
+    public int hashCode()
+    {
+        int hash = 1;
+        for( int current = head; current != NIL; current = next[current] )
+            hash = 31 * hash + Integer.hashCode( values[current] );
+        return hash;
+    }
+
+    /**
+     * Returns a String representation of this IntLinkyList, in the same format as LinkyList
+     *
+     * @return a String representation of this collection
+     */
+    public String toString()
+    {
+        StringBuilder printList = new StringBuilder( "[" );
+
+        for( int current = head; current != NIL; current = next[current] )
+        {
+            if( current != head )
+                printList.append( ", " );
+            printList.append( values[current] );
+        }
+        return printList.append("]").toString();
+    }
+
+    /**
+     * Returns the slot holding the specified position, walking from whichever end of the list is closer.
+     * The index must already have been checked.
+     *
+     * @param index index of the slot to return
+     * @return the slot at the specified position
+     */
+    private int slot( int index )
+    {
+        int current;
+        if( index < (size >> 1) )
+        {
+            current = head;
+            for( int i = 0; i < index; i++ )
+                current = next[current];
+        }
+        else
+        {
+            current = tail;
+            for( int i = size - 1; i > index; i-- )
+                current = prev[current];
+        }
+        return current;
+    }
+
+    /**
+     * Takes a slot from the free chain, or a fresh one (growing the arrays if needed), and stores the value in it
+     *
+     * @param value the value to store
+     * @return the slot now holding the value
+     */
+    private int allocate( int value )
+    {
+        int newSlot;
+        if( free != NIL )
+        {
+            newSlot = free;
+            free = next[newSlot];
+        }
+        else
+        {
+            if( used == values.length )
+                grow();
+            newSlot = used++;
+        }
+        values[newSlot] = value;
+        return newSlot;
+    }
+
+    /**
+     * Unlinks the specified slot and puts it on the free chain
+     *
+     * @param current the slot to unlink
+     * @return the value held by the slot
+     */
+    private int unlink( int current )
+    {
+        int pred = prev[current];
+        int succ = next[current];
+
+        if( pred == NIL )
+            head = succ;
+        else
+            next[pred] = succ;
+
+        if( succ == NIL )
+            tail = pred;
+        else
+            prev[succ] = pred;
+
+        next[current] = free;
+        free = current;
+        size--;
+        return values[current];
+    }
+
+    private void grow()
+    {
+        int newCapacity = Math.max( DEFAULT_CAPACITY, values.length + (values.length >> 1) );
+        values = Arrays.copyOf( values, newCapacity );
+        next = Arrays.copyOf( next, newCapacity );
+        prev = Arrays.copyOf( prev, newCapacity );
+    }
+
+    /**
+     * Throws an IndexOutOfBoundsException if the index does not refer to an existing element
+     *
+     * @param index the index to check
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    private void checkElementIndex( int index )
+    {
+        if( index < 0 || index >= size )
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+}
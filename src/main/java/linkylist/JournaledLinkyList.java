@@ -0,0 +1,1090 @@
+package linkylist;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * A thread-safe LinkyList that survives crashes by writing every mutation to a write-ahead log before
+ * the mutation is acknowledged. The list lives in memory as usual. Each add, insert, set, remove and
+ * clear also appends a few bytes to a log file: an op code, the index if there is one, and the element
+ * as written by a LinkyCodec. Opening the list again loads the last snapshot and replays the log on
+ * top of it. checkpoint() writes a fresh snapshot and empties the log, so replay stays short.
+ * <p>
+ * Records collect in memory and reach the file as frames. A frame is a length, a CRC32 and a run of
+ * records. A frame cut off by a crash fails its checksum and is dropped during recovery, along with
+ * everything after it. When the log is forced to disk depends on the SyncPolicy:
+ * <ul>
+ * <li>ALWAYS: a mutation returns only once its record is on disk. Threads that mutate while another
+ *     thread's fsync is in flight are covered together by the next one (group commit), so the cost of
+ *     an fsync is shared rather than paid per mutation.</li>
+ * <li>INTERVAL: a background thread writes and forces the log every interval. A crash loses at most
+ *     the last interval's mutations.</li>
+ * <li>NEVER: the log is written whenever 64 KB of records have built up, and forced only by sync(),
+ *     checkpoint() and close(). The cheapest policy; a crash loses whatever had not been written.</li>
+ * </ul>
+ * A mutation is checked and its record encoded before it is applied to the list, so no thread ever
+ * sees a change the log has no record of, and one that throws (an index out of range, or an element
+ * the codec cannot encode) leaves both the list and the log as they were. If writing the log to the
+ * file fails, the list stops accepting mutations, since records it has already applied may be lost;
+ * reads still work. Interrupting a thread while it forces the log counts as a failure, because
+ * FileChannel closes a channel whose user is interrupted.
+ * <p>
+ * The snapshot and log carry a generation number. checkpoint() writes the snapshot under the next
+ * generation before it empties the log, so a crash in between leaves a log that recovery ignores
+ * rather than replays twice.
+ *
+ * @author Austin Benedicto
+ * @version 12/14/2025
+ */
+public class JournaledLinkyList <T> implements AutoCloseable
+{
+    /**
+     * When the log is forced to disk
+     */
+    public enum SyncPolicy
+    {
+        ALWAYS, INTERVAL, NEVER
+    }
+
+    /**
+     * How often INTERVAL forces the log when no interval is given
+     */
+    public static final long DEFAULT_SYNC_INTERVAL_MILLIS = 50;
+
+    private static final String SNAPSHOT_FILE = "snapshot.lnky";
+    private static final String LOG_FILE = "journal.log";
+
+    private static final int LOG_MAGIC = 0x4C4E4B4A;
+    private static final int LOG_HEADER_BYTES = 12;
+    private static final int FRAME_HEADER_BYTES = 8;
+    // Records waiting in memory are written out once they reach this size
+    private static final int FLUSH_BYTES = 64 * 1024;
+    // Largest frame recovery will accept, so a corrupt length cannot make it allocate gigabytes
+    private static final int MAX_FRAME_BYTES = 64 * 1024 * 1024;
+
+    // Op codes; NULL_ELEMENT is or'ed in when the element is null and therefore not encoded
+    private static final int ADD = 1;
+    private static final int ADD_AT = 2;
+    private static final int SET = 3;
+    private static final int REMOVE_AT = 4;
+    // Logs written before remove(Object) was logged by index; replayed but never written
+    private static final int REMOVE = 5;
+    private static final int CLEAR = 6;
+    private static final int NULL_ELEMENT = 0x80;
+
+    private final LinkyList<T> list;
+    private final LinkyCodec<T> codec;
+    private final SyncPolicy policy;
+    private final Path directory;
+    private final FileChannel log;
+    private final ScheduledExecutorService flusher;
+
+    // Guards the list and every field below
+    private final ReentrantLock lock;
+    private final Condition synced;
+    private final FrameBuffer buffer;
+    private final DataOutputStream records;
+    private final CRC32 crc;
+    private long generation;
+    // Sequence number of the last record buffered, written to the file, and forced to disk
+    private long appended;
+    private long written;
+    private long durable;
+    // True while some thread is forcing the log with the lock released
+    private boolean syncing;
+    private IOException failure;
+    private boolean closed;
+
+    private JournaledLinkyList( Path directory, LinkyList<T> list, LinkyCodec<T> codec, SyncPolicy policy,
+                                long syncIntervalMillis, FileChannel log, long generation )
+    {
+        this.list = list;
+        this.codec = codec;
+        this.policy = policy;
+        this.directory = directory;
+        this.log = log;
+        this.lock = new ReentrantLock();
+        this.synced = lock.newCondition();
+        this.buffer = new FrameBuffer();
+        this.records = new DataOutputStream( buffer );
+        this.crc = new CRC32();
+        this.generation = generation;
+
+        if( policy == SyncPolicy.INTERVAL )
+        {
+            flusher = Executors.newSingleThreadScheduledExecutor( task -> {
+                Thread thread = new Thread( task, "JournaledLinkyList flusher" );
+                thread.setDaemon( true );
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay( this::syncQuietly, syncIntervalMillis, syncIntervalMillis, TimeUnit.MILLISECONDS );
+        }
+        else
+        {
+            flusher = null;
+        }
+    }
+
+    /**
+     * Opens the journaled list kept in the given directory, recovering it from its snapshot and log, or
+     * creates an empty one if the directory holds none. INTERVAL syncs every DEFAULT_SYNC_INTERVAL_MILLIS.
+     *
+     * @param <T> the type of elements in the list
+     * @param directory the directory holding the snapshot and log; created if missing
+     * @param codec writes and reads the elements
+     * @param policy when the log is forced to disk
+     * @return the recovered list
+     * @throws IOException if the files cannot be read or written, or are damaged beyond a torn last frame
+     */
+    public static <T> JournaledLinkyList<T> open( Path directory, LinkyCodec<T> codec, SyncPolicy policy ) throws IOException
+    {
+        return open( directory, codec, policy, DEFAULT_SYNC_INTERVAL_MILLIS );
+    }
+
+    /**
+     * Opens the journaled list kept in the given directory, recovering it from its snapshot and log, or
+     * creates an empty one if the directory holds none
+     *
+     * @param <T> the type of elements in the list
+     * @param directory the directory holding the snapshot and log; created if missing
+     * @param codec writes and reads the elements
+     * @param policy when the log is forced to disk
+     * @param syncIntervalMillis how often INTERVAL forces the log; ignored by the other policies
+     * @return the recovered list
+     * @throws IOException if the files cannot be read or written, or are damaged beyond a torn last frame
+     * @throws IllegalArgumentException if the policy is INTERVAL and the interval is not positive
+     */
+    public static <T> JournaledLinkyList<T> open( Path directory, LinkyCodec<T> codec, SyncPolicy policy,
+                                                  long syncIntervalMillis ) throws IOException
+    {
+        if( policy == SyncPolicy.INTERVAL && syncIntervalMillis <= 0 )
+            throw new IllegalArgumentException("Sync interval must be positive: " + syncIntervalMillis);
+
+        Files.createDirectories( directory );
+        LinkyList<T> list;
+        long generation;
+        Path snapshot = directory.resolve( SNAPSHOT_FILE );
+        if( Files.exists( snapshot ) )
+        {
+            try( DataInputStream in = new DataInputStream( new BufferedInputStream( Files.newInputStream( snapshot ), 1 << 16 ) ) )
+            {
+                generation = in.readLong();
+                list = LinkyListSerializer.read( in, codec );
+            }
+        }
+        else
+        {
+            generation = 0;
+            list = new LinkyList<>();
+        }
+
+        FileChannel log = FileChannel.open( directory.resolve( LOG_FILE ),
+            StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE );
+        try
+        {
+            long end = replay( log, generation, list, codec );
+            if( end < 0 )
+            {
+                // No log yet, or one the current snapshot already covers
+                resetLog( log, generation );
+            }
+            else
+            {
+                // Drop a torn last frame so new frames follow the last good one
+                log.truncate( end );
+                log.position( end );
+            }
+            return new JournaledLinkyList<>( directory, list, codec, policy, syncIntervalMillis, log, generation );
+        }
+        catch( IOException | RuntimeException e )
+        {
+            log.close();
+            throw e;
+        }
+    }
+
+    // ==================== READS ====================
+
+    /**
+     * True if the list is empty, false otherwise
+     *
+     * @return if the list is empty, false otherwise
+     */
+    public boolean isEmpty()
+    {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of elements in this list
+     *
+     * @return the number of elements in this list
+     */
+    public int size()
+    {
+        lock.lock();
+        try
+        {
+            return list.size();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the element at the specified position in this list
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public T get( int index )
+    {
+        lock.lock();
+        try
+        {
+            return list.get( index );
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns true if this list contains the specified element
+     *
+     * @param obj element whose presence in this list is to be tested
+     * @return true if this list contains the specified element
+     */
+    public boolean contains( Object obj )
+    {
+        lock.lock();
+        try
+        {
+            return list.contains( obj );
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this list, or -1 if this list does not contain the element
+     *
+     * @param obj element to search for
+     * @return the index of the first occurrence of the specified element in this list, or -1 if this list does not contain the element
+     */
+    public int indexOf( Object obj )
+    {
+        lock.lock();
+        try
+        {
+            return list.indexOf( obj );
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Performs the given action for each element of the list, in order, while holding the lock.
+     * Mutators wait until the traversal is done, so the action should be quick.
+     *
+     * @param action the action to be performed for each element
+     */
+    public void forEach( Consumer<? super T> action )
+    {
+        lock.lock();
+        try
+        {
+            list.forEach( action );
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a String representation of this list, in the same format as LinkyList
+     *
+     * @return a String representation of this collection
+     */
+    public String toString()
+    {
+        lock.lock();
+        try
+        {
+            return list.toString();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    // ==================== WRITES ====================
+
+    /**
+     * Appends the specified element to the end of this list and logs it
+     *
+     * @param element the element to be appended
+     * @return true if the addition was successful, false otherwise
+     * @throws IllegalStateException if the list has been closed
+     * @throws UncheckedIOException if the codec cannot encode the element or the log cannot be written
+     */
+    public boolean add( T element )
+    {
+        long sequence;
+        lock.lock();
+        try
+        {
+            checkWritable();
+            int start = encodeRecord( ADD, -1, element );
+            try
+            {
+                list.add( element );
+            }
+            catch( RuntimeException e )
+            {
+                buffer.truncate( start );
+                throw e;
+            }
+            sequence = appendRecord();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+        commit( sequence );
+        return true;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list and logs it
+     *
+     * @param index index at which the specified element is to be inserted
+     * @param element element to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalStateException if the list has been closed
+     * @throws UncheckedIOException if the codec cannot encode the element or the log cannot be written
+     */
+    public void add( int index, T element )
+    {
+        long sequence;
+        lock.lock();
+        try
+        {
+            checkWritable();
+            if( index < 0 || index > list.size() )
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + list.size());
+            int start = encodeRecord( ADD_AT, index, element );
+            try
+            {
+                list.add( index, element );
+            }
+            catch( RuntimeException e )
+            {
+                buffer.truncate( start );
+                throw e;
+            }
+            sequence = appendRecord();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+        commit( sequence );
+    }
+
+    /**
+     * Replaces the element at the specified position in this list and logs it
+     *
+     * @param index index of the element to replace
+     * @param element element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalStateException if the list has been closed
+     * @throws UncheckedIOException if the codec cannot encode the element or the log cannot be written
+     */
+    public T set( int index, T element )
+    {
+        T oldValue;
+        long sequence;
+        lock.lock();
+        try
+        {
+            checkWritable();
+            checkElementIndex( index );
+            int start = encodeRecord( SET, index, element );
+            try
+            {
+                oldValue = list.set( index, element );
+            }
+            catch( RuntimeException e )
+            {
+                buffer.truncate( start );
+                throw e;
+            }
+            sequence = appendRecord();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+        commit( sequence );
+        return oldValue;
+    }
+
+    /**
+     * Removes the element at the specified position in this list and logs it
+     *
+     * @param index the index of the element to be removed
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalStateException if the list has been closed
+     * @throws UncheckedIOException if the log cannot be written
+     */
+    public T remove( int index )
+    {
+        T oldValue;
+        long sequence;
+        lock.lock();
+        try
+        {
+            checkWritable();
+            checkElementIndex( index );
+            int start = encodeRecord( REMOVE_AT, index, null );
+            try
+            {
+                oldValue = list.remove( index );
+            }
+            catch( RuntimeException e )
+            {
+                buffer.truncate( start );
+                throw e;
+            }
+            sequence = appendRecord();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+        commit( sequence );
+        return oldValue;
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from this list, if it is present, and logs
+     * the removal by its index, so the caller's object never goes through the codec. Nothing is logged
+     * if the element is not present.
+     *
+     * @param obj element to be removed from this list, if present
+     * @return true if this list contained the specified element
+     * @throws IllegalStateException if the list has been closed
+     * @throws UncheckedIOException if the log cannot be written
+     */
+    public boolean remove( Object obj )
+    {
+        long sequence;
+        lock.lock();
+        try
+        {
+            checkWritable();
+            int index = list.indexOf( obj );
+            if( index < 0 )
+                return false;
+            int start = encodeRecord( REMOVE_AT, index, null );
+            try
+            {
+                list.remove( index );
+            }
+            catch( RuntimeException e )
+            {
+                buffer.truncate( start );
+                throw e;
+            }
+            sequence = appendRecord();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+        commit( sequence );
+        return true;
+    }
+
+    /**
+     * Removes all of the elements from this list and logs it
+     *
+     * @throws IllegalStateException if the list has been closed
+     * @throws UncheckedIOException if the log cannot be written
+     */
+    public void clear()
+    {
+        long sequence;
+        lock.lock();
+        try
+        {
+            checkWritable();
+            int start = encodeRecord( CLEAR, -1, null );
+            try
+            {
+                list.clear();
+            }
+            catch( RuntimeException e )
+            {
+                buffer.truncate( start );
+                throw e;
+            }
+            sequence = appendRecord();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+        commit( sequence );
+    }
+
+    // ==================== DURABILITY ====================
+
+    /**
+     * Returns when the log should be forced to disk
+     *
+     * @return the sync policy
+     */
+    public SyncPolicy syncPolicy()
+    {
+        return policy;
+    }
+
+    /**
+     * Writes every mutation made so far to the log and forces it to disk, whatever the sync policy
+     *
+     * @throws IllegalStateException if the list has been closed
+     * @throws UncheckedIOException if the log cannot be written
+     */
+    public void sync()
+    {
+        long sequence;
+        lock.lock();
+        try
+        {
+            checkWritable();
+            sequence = appended;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+        syncTo( sequence );
+    }
+
+    /**
+     * Writes a snapshot of the list and empties the log, so the next recovery has nothing to replay.
+     * Mutators wait while the snapshot is written. The snapshot goes to a temporary file that replaces the
+     * old one only once it is complete and on disk.
+     *
+     * @throws IOException if the snapshot or log cannot be written; the previous snapshot and log stay valid
+     * @throws IllegalStateException if the list has been closed
+     */
+    public void checkpoint() throws IOException
+    {
+        lock.lock();
+        try
+        {
+            checkWritable();
+            long next = generation + 1;
+            Path snapshot = directory.resolve( SNAPSHOT_FILE );
+            Path temp = directory.resolve( SNAPSHOT_FILE + ".tmp" );
+            try( FileChannel channel = FileChannel.open( temp, StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING ) )
+            {
+                DataOutputStream out = new DataOutputStream( new BufferedOutputStream( Channels.newOutputStream( channel ), 1 << 16 ) );
+                out.writeLong( next );
+                LinkyListSerializer.write( list, out, codec );
+                out.flush();
+                channel.force( true );
+            }
+            Files.move( temp, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+            forceDirectory( directory );
+
+            // The snapshot now covers everything; from here a crash ignores the old log
+            generation = next;
+            buffer.reset();
+            try
+            {
+                resetLog( log, generation );
+            }
+            catch( IOException e )
+            {
+                failure = e;
+                throw e;
+            }
+            written = appended;
+            durable = appended;
+            synced.signalAll();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Forces every mutation to disk and closes the log. Closing an already closed list has no effect.
+     *
+     * @throws IOException if the final write or closing the log fails
+     */
+    public void close() throws IOException
+    {
+        // Not shutdownNow(): interrupting a thread inside log.force() would close the log under it
+        if( flusher != null )
+            flusher.shutdown();
+
+        lock.lock();
+        try
+        {
+            if( closed )
+                return;
+            while( syncing )
+                synced.awaitUninterruptibly();
+
+            try
+            {
+                if( failure == null )
+                {
+                    writeBuffered();
+                    log.force( false );
+                }
+            }
+            finally
+            {
+                closed = true;
+                log.close();
+            }
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    // ==================== LOGGING ====================
+
+    /**
+     * Encodes one record onto the end of the buffer, before the mutation it describes is applied. The lock
+     * must be held. If the codec fails part way through, the partial record is cut off again, so the
+     * failure rejects only this mutation.
+     *
+     * @param op the op code
+     * @param index the index the op applies to, or -1 if it has none
+     * @param element the element the op carries; ignored by ops that have none
+     * @return the size of the buffer before the record, for cutting it off if the mutation fails
+     * @throws UncheckedIOException if the codec throws an IOException
+     */
+    private int encodeRecord( int op, int index, T element )
+    {
+        boolean hasElement = (op == ADD || op == ADD_AT || op == SET);
+        int start = buffer.size();
+        try
+        {
+            records.writeByte( (hasElement && element == null) ? op | NULL_ELEMENT : op );
+            if( index >= 0 )
+                LinkyCodec.writeVarLong( records, index );
+            if( hasElement && element != null )
+                codec.encode( element, records );
+            return start;
+        }
+        catch( IOException e )
+        {
+            buffer.truncate( start );
+            throw new UncheckedIOException( e );
+        }
+        catch( RuntimeException e )
+        {
+            buffer.truncate( start );
+            throw e;
+        }
+    }
+
+    /**
+     * Counts the record just encoded and applied, writing the buffer out if it has grown large. The lock
+     * must be held.
+     *
+     * @return the record's sequence number
+     * @throws UncheckedIOException if the log cannot be written
+     */
+    private long appendRecord()
+    {
+        long sequence = ++appended;
+        try
+        {
+            if( buffer.size() >= FLUSH_BYTES )
+                writeBuffered();
+            return sequence;
+        }
+        catch( IOException e )
+        {
+            failure = e;
+            throw new UncheckedIOException( e );
+        }
+    }
+
+    /**
+     * Checks that the index names an element of the list. The lock must be held.
+     *
+     * @param index the index to check
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    private void checkElementIndex( int index )
+    {
+        if( index < 0 || index >= list.size() )
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + list.size());
+    }
+
+    /**
+     * Waits until the record is as durable as the sync policy requires
+     *
+     * @param sequence the record's sequence number
+     */
+    private void commit( long sequence )
+    {
+        if( policy == SyncPolicy.ALWAYS )
+            syncTo( sequence );
+    }
+
+    /**
+     * Makes sure every record up to the given one is on disk. The thread that finds no fsync in flight
+     * writes out everything buffered and forces it with the lock released, so other threads keep adding
+     * records meanwhile; threads that find one in flight wait and then check whether it covered them.
+     *
+     * @param sequence the record that must be durable
+     * @throws UncheckedIOException if the log cannot be written
+     */
+    private void syncTo( long sequence )
+    {
+        lock.lock();
+        try
+        {
+            while( durable < sequence )
+            {
+                if( failure != null )
+                    throw new UncheckedIOException( "Journal is no longer writable", failure );
+                if( syncing )
+                {
+                    synced.awaitUninterruptibly();
+                    continue;
+                }
+
+                long upTo;
+                try
+                {
+                    writeBuffered();
+                    upTo = written;
+                }
+                catch( IOException e )
+                {
+                    failure = e;
+                    continue;
+                }
+
+                syncing = true;
+                lock.unlock();
+                IOException error = null;
+                try
+                {
+                    log.force( false );
+                }
+                catch( IOException e )
+                {
+                    error = e;
+                }
+                finally
+                {
+                    lock.lock();
+                    syncing = false;
+                    synced.signalAll();
+                }
+
+                if( error != null )
+                    failure = error;
+                else
+                    durable = Math.max( durable, upTo );
+            }
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Syncs on behalf of the INTERVAL flusher, which has nobody to report a failure to; the failure is
+     * kept and surfaces on the next mutation instead
+     */
+    private void syncQuietly()
+    {
+        try
+        {
+            lock.lock();
+            long sequence;
+            try
+            {
+                if( closed || failure != null )
+                    return;
+                sequence = appended;
+            }
+            finally
+            {
+                lock.unlock();
+            }
+            syncTo( sequence );
+        }
+        catch( UncheckedIOException e )
+        {
+            // Recorded in failure
+        }
+    }
+
+    /**
+     * Writes the buffered records to the log as one frame. The lock must be held.
+     *
+     * @throws IOException if the write fails
+     */
+    private void writeBuffered() throws IOException
+    {
+        if( buffer.size() == 0 )
+            return;
+
+        crc.reset();
+        crc.update( buffer.array(), 0, buffer.size() );
+        byte[] header = new byte[FRAME_HEADER_BYTES];
+        ByteBuffer.wrap( header ).putInt( buffer.size() ).putInt( (int) crc.getValue() );
+
+        ByteBuffer[] frame = { ByteBuffer.wrap( header ), ByteBuffer.wrap( buffer.array(), 0, buffer.size() ) };
+        while( frame[1].hasRemaining() )
+            log.write( frame );
+        buffer.reset();
+        written = appended;
+    }
+
+    private void checkWritable()
+    {
+        if( closed )
+            throw new IllegalStateException("List has been closed");
+        if( failure != null )
+            throw new UncheckedIOException( "Journal is no longer writable", failure );
+    }
+
+    // ==================== RECOVERY ====================
+
+    /**
+     * Applies every intact frame of the log to the list
+     *
+     * @param log the log, positioned anywhere
+     * @param generation the generation of the snapshot the list was loaded from
+     * @param list the list to apply the records to
+     * @param codec reads the elements
+     * @return the offset just past the last intact frame, or -1 if the log is empty or belongs to an older snapshot
+     * @throws IOException if the log cannot be read, is not a log, or holds a frame that is intact but does not apply
+     */
+    private static <T> long replay( FileChannel log, long generation, LinkyList<T> list, LinkyCodec<T> codec ) throws IOException
+    {
+        if( log.size() < LOG_HEADER_BYTES )
+            return -1;
+
+        log.position( 0 );
+        DataInputStream in = new DataInputStream( new BufferedInputStream( Channels.newInputStream( log ), 1 << 16 ) );
+        if( in.readInt() != LOG_MAGIC )
+            throw new StreamCorruptedException("Not a LinkyList journal");
+        if( in.readLong() != generation )
+            return -1;
+
+        long end = LOG_HEADER_BYTES;
+        CRC32 crc = new CRC32();
+        byte[] frame = new byte[FLUSH_BYTES];
+        while( true )
+        {
+            int length;
+            int checksum;
+            try
+            {
+                length = in.readInt();
+                checksum = in.readInt();
+                if( length <= 0 || length > MAX_FRAME_BYTES )
+                    return end;
+                if( frame.length < length )
+                    frame = new byte[length];
+                in.readFully( frame, 0, length );
+            }
+            catch( EOFException e )
+            {
+                return end;
+            }
+
+            crc.reset();
+            crc.update( frame, 0, length );
+            if( (int) crc.getValue() != checksum )
+                return end;
+
+            applyFrame( new ByteArrayInputStream( frame, 0, length ), list, codec );
+            end += FRAME_HEADER_BYTES + length;
+        }
+    }
+
+    private static <T> void applyFrame( InputStream frame, LinkyList<T> list, LinkyCodec<T> codec ) throws IOException
+    {
+        DataInputStream in = new DataInputStream( frame );
+        try
+        {
+            int header;
+            while( (header = in.read()) >= 0 )
+            {
+                int op = header & ~NULL_ELEMENT;
+                boolean isNull = (header & NULL_ELEMENT) != 0;
+                switch( op )
+                {
+                    case ADD:       list.add( isNull ? null : codec.decode( in ) ); break;
+                    case ADD_AT:    list.add( readIndex( in ), isNull ? null : codec.decode( in ) ); break;
+                    case SET:
+                    {
+                        int index = readIndex( in );
+                        list.set( index, isNull ? null : codec.decode( in ) );
+                        break;
+                    }
+                    case REMOVE_AT: list.remove( readIndex( in ) ); break;
+                    case REMOVE:    list.remove( isNull ? null : codec.decode( in ) ); break;  // Older logs only
+                    case CLEAR:     list.clear(); break;
+                    default: throw new StreamCorruptedException("Unknown journal op: " + header);
+                }
+            }
+        }
+        catch( EOFException | RuntimeException e )
+        {
+            // The frame passed its checksum, so a record that cannot be decoded or applied is corruption
+            StreamCorruptedException corrupted = new StreamCorruptedException("Journal record does not apply to the snapshot");
+            corrupted.initCause( e );
+            throw corrupted;
+        }
+    }
+
+    private static int readIndex( DataInputStream in ) throws IOException
+    {
+        long index = LinkyCodec.readVarLong( in );
+        if( index < 0 || index > Integer.MAX_VALUE )
+            throw new StreamCorruptedException("Bad journal index: " + index);
+        return (int) index;
+    }
+
+    /**
+     * Empties the log and starts it again for the given generation
+     *
+     * @param log the log
+     * @param generation the generation of the current snapshot
+     * @throws IOException if the log cannot be written
+     */
+    private static void resetLog( FileChannel log, long generation ) throws IOException
+    {
+        log.truncate( 0 );
+        ByteBuffer header = ByteBuffer.allocate( LOG_HEADER_BYTES ).putInt( LOG_MAGIC ).putLong( generation );
+        header.flip();
+        log.position( 0 );
+        while( header.hasRemaining() )
+            log.write( header );
+        log.force( false );
+    }
+
+    /**
+     * Forces a directory's entries to disk so a rename in it survives a crash. Not every platform can
+     * open a directory, and there it is skipped.
+     *
+     * @param directory the directory
+     */
+    private static void forceDirectory( Path directory )
+    {
+        try( FileChannel channel = FileChannel.open( directory, StandardOpenOption.READ ) )
+        {
+            channel.force( true );
+        }
+        catch( IOException e )
+        {
+            // Best effort
+        }
+    }
+
+    /**
+     * Collects records between writes. Unlike its superclass it is not synchronized, since codecs write to
+     * it a byte at a time and the journal's lock already guards it.
+     */
+    private static final class FrameBuffer extends ByteArrayOutputStream
+    {
+        FrameBuffer()
+        {
+            super( FLUSH_BYTES + FLUSH_BYTES / 4 );
+        }
+
+        public void write( int b )
+        {
+            if( count == buf.length )
+                buf = Arrays.copyOf( buf, buf.length * 2 );
+            buf[count++] = (byte) b;
+        }
+
+        public void write( byte[] b, int off, int len )
+        {
+            if( count + len > buf.length )
+                buf = Arrays.copyOf( buf, Math.max( buf.length * 2, count + len ) );
+            System.arraycopy( b, off, buf, count, len );
+            count += len;
+        }
+
+        public int size()
+        {
+            return count;
+        }
+
+        void truncate( int size )
+        {
+            count = size;
+        }
+
+        public void reset()
+        {
+            count = 0;
+        }
+
+        byte[] array()
+        {
+            return buf;
+        }
+    }
+}
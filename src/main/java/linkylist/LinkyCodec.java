@@ -0,0 +1,137 @@
+package linkylist;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Turns list elements into bytes and back for LinkyListSerializer. A codec only ever sees non-null
+ * values; the serializer records nulls itself. Codecs must read back exactly the bytes they wrote,
+ * because elements are packed back to back with no per-element framing.
+ * <p>
+ * The built-in codecs are compact. INTEGER and LONG write zigzag variable-length integers, so values
+ * near zero take one or two bytes whatever their sign. STRING writes a variable-length byte count
+ * followed by the UTF-8 bytes.
+ *
+ * @author Austin Benedicto
+ * @version 12/14/2025
+ */
+public interface LinkyCodec <T>
+{
+    /**
+     * Writes one non-null element
+     *
+     * @param value the element to write
+     * @param out where to write it
+     * @throws IOException if writing fails
+     */
+    void encode( T value, DataOutput out ) throws IOException;
+
+    /**
+     * Reads back one element written by encode
+     *
+     * @param in where to read it from
+     * @return the element
+     * @throws IOException if reading fails or the bytes are malformed
+     */
+    T decode( DataInput in ) throws IOException;
+
+    /**
+     * Integers as zigzag varints: 1 byte for -64..63, at most 5 bytes
+     */
+    LinkyCodec<Integer> INTEGER = new LinkyCodec<>()
+    {
+        public void encode( Integer value, DataOutput out ) throws IOException
+        {
+            int v = value;
+            writeVarLong( out, ((v << 1) ^ (v >> 31)) & 0xFFFFFFFFL );
+        }
+
+        public Integer decode( DataInput in ) throws IOException
+        {
+            int zigzag = (int) readVarLong( in );
+            return (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+    };
+
+    /**
+     * Longs as zigzag varints: 1 byte for -64..63, at most 10 bytes
+     */
+    LinkyCodec<Long> LONG = new LinkyCodec<>()
+    {
+        public void encode( Long value, DataOutput out ) throws IOException
+        {
+            long v = value;
+            writeVarLong( out, (v << 1) ^ (v >> 63) );
+        }
+
+        public Long decode( DataInput in ) throws IOException
+        {
+            long zigzag = readVarLong( in );
+            return (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+    };
+
+    /**
+     * Strings as a varint byte count followed by UTF-8
+     */
+    LinkyCodec<String> STRING = new LinkyCodec<>()
+    {
+        public void encode( String value, DataOutput out ) throws IOException
+        {
+            byte[] bytes = value.getBytes( StandardCharsets.UTF_8 );
+            writeVarLong( out, bytes.length );
+            out.write( bytes );
+        }
+
+        public String decode( DataInput in ) throws IOException
+        {
+            long length = readVarLong( in );
+            if( length < 0 || length > Integer.MAX_VALUE )
+                throw new IOException("Bad string length: " + length);
+
+            byte[] bytes = new byte[(int) length];
+            in.readFully( bytes );
+            return new String( bytes, StandardCharsets.UTF_8 );
+        }
+    };
+
+    /**
+     * Writes an unsigned variable-length integer, seven bits per byte, low bits first. The high bit of each
+     * byte says whether another byte follows.
+     *
+     * @param out where to write
+     * @param value the value, treated as unsigned
+     * @throws IOException if writing fails
+     */
+    static void writeVarLong( DataOutput out, long value ) throws IOException
+    {
+        while( (value & ~0x7FL) != 0 )
+        {
+            out.writeByte( (int) ((value & 0x7F) | 0x80) );
+            value >>>= 7;
+        }
+        out.writeByte( (int) value );
+    }
+
+    /**
+     * Reads an unsigned variable-length integer written by writeVarLong
+     *
+     * @param in where to read from
+     * @return the value
+     * @throws IOException if reading fails or the varint runs past 64 bits
+     */
+    static long readVarLong( DataInput in ) throws IOException
+    {
+        long value = 0;
+        for( int shift = 0; shift < 64; shift += 7 )
+        {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if( (b & 0x80) == 0 )
+                return value;
+        }
+        throw new IOException("Malformed varint");
+    }
+}
@@ -0,0 +1,2064 @@
+package linkylist;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Array;
+import java.util.AbstractSequentialList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Our version of a linked-list. Nodes are linked in both directions so that
+ * indexed operations can walk from whichever end of the list is closer.
+ * <p>
+ * LinkyList is a java.util.List, so it can be handed to any code that takes a List or Collection without
+ * copying. It is built on AbstractSequentialList, and overrides every operation that a direct walk of the
+ * nodes does better than the generic version built from the list iterator.
+ * <p>
+ * get, set, add(int) and remove(int) leave a finger on the node they reach, and the next indexed
+ * operation walks from it when it is nearer than either end, so loops over indices cost O(1) per step.
+ * Because get() moves the finger, threads sharing a list need outside synchronization even if they only
+ * call get(); StampedLinkyList does this for read-mostly sharing.
+ * <p>
+ * A list created with hashIndexed() also keeps a hash index from each distinct value to the nodes
+ * holding it. contains() then takes expected O(1) time instead of a scan that calls equals() on every
+ * node, and so do remove(Object), indexOf() and lastIndexOf() for a value that occurs once; the last two
+ * only count the nodes between the match and the nearer end of the list. Every mutator keeps the index
+ * current in O(1), so writes through a ListIterator stay O(1) however many duplicates the list holds.
+ * <p>
+ * The nodes holding one value are always kept in list order, so its first and last occurrences are at
+ * hand. To place a new occurrence without walking the list, each indexed node carries an order key that
+ * grows along the list. A node linked between two others takes a key between theirs; when there is no
+ * room left, the keys of a window of nodes around it are spread out again, and the window only grows
+ * as far as it must, which keeps the cost amortized O(log n). The new occurrence then goes at either end
+ * of its value's chain, or next to an equal neighbour, in O(1); only a value with occurrences on both
+ * sides of it compares keys along that value's own chain.
+ * <p>
+ * The index costs memory. Each node carries three more references, and each distinct value needs one
+ * hash map entry plus a small bucket object. On a 64-bit JVM with compressed references that is about
+ * 16 more bytes per node, plus about 64 bytes per distinct value. LinkyListComparison measures the
+ * actual figure. Elements must not change their hashCode() while they are in an indexed list.
+ *
+ * @author Austin Benedicto
+ * @version 12/14/2025
+ */
+public class LinkyList <T> extends AbstractSequentialList<T> implements List<T>
+{
+    private static class Node <T>
+    {
+        public T data;
+        public Node<T> next;
+        public Node<T> prev;
+
+        public Node( T data )
+        {
+            this.data = data;
+            this.next = null;
+            this.prev = null;
+        }
+    }
+
+    /**
+     * A node of a hash-indexed list, also linked to the nodes before and after it that hold an equal value.
+     * Order keys increase from the head of the list to the tail.
+     */
+    private static final class HashedNode <T> extends Node<T>
+    {
+        public HashedNode<T> prevSame;
+        public HashedNode<T> nextSame;
+        public Bucket<T> bucket;
+        public long order;
+
+        public HashedNode( T data )
+        {
+            super( data );
+        }
+    }
+
+    /**
+     * The nodes holding one distinct value, chained by their same-value links from first to last in list order
+     */
+    private static final class Bucket <T>
+    {
+        public HashedNode<T> first;
+        public HashedNode<T> last;
+    }
+
+    // Distance between the order keys of nodes added at either end of a hash-indexed list
+    private static final long ORDER_GAP = 1L << 32;
+    // How much sparser each doubling of a relabeled window must be, so relabeling stays amortized O(log n)
+    private static final double WINDOW_SLACK = 1.5;
+
+    // Characters reserved per element when toString() sizes its builder, and a cap on the total
+    private static final int CHARS_PER_ELEMENT = 8;
+    private static final int MAX_PRESIZE = 1 << 20;
+
+    private Node<T> head;
+    private Node<T> tail;
+    private int size;
+    // Where nodes come from and go back to, or null to allocate every node fresh
+    private final NodePool pool;
+    // Distinct value to the nodes holding it, or null if this list is not hash-indexed
+    private final HashMap<Object, Bucket<T>> hashIndex;
+    // Where the last get, set, add(int) or remove(int) left off: the node, its index, and the modCount
+    // they were recorded at. The finger is only used while modCount still matches. get() and set() move
+    // it in place, so like any write they need outside synchronization if the list is shared.
+    private Node<T> fingerNode;
+    private int fingerIndex;
+    private int fingerModCount;
+    // List hash code as of the last computation, or 0 if it must be recomputed. One field, like
+    // String.hash, so threads sharing an unmodified list can race to fill it in without tearing it.
+    private int cachedHash;
+
+    /**
+     * Constructor for LinkyList
+     */
+    public LinkyList()
+    {
+        this( null );
+    }
+
+    /**
+     * Constructor for LinkyList that takes its nodes from, and returns unlinked nodes to, the given pool.
+     * Lists that add and remove constantly can then run without allocating. The pool may be shared by
+     * any number of lists.
+     * 
+     * @param pool the pool to recycle nodes through, or null to allocate every node fresh
+     */
+    public LinkyList( NodePool pool )
+    {
+        this( pool, false );
+    }
+
+    private LinkyList( NodePool pool, boolean hashIndexed )
+    {
+        head = null;    
+        tail = null;
+        size = 0;
+        this.pool = pool;
+        this.hashIndex = hashIndexed ? new HashMap<>() : null;
+    }
+
+    /**
+     * Creates an empty LinkyList that keeps a hash index of its elements, so that contains() and
+     * remove(Object) run in expected constant time. Indexed lists allocate their own nodes and do not use
+     * a node pool.
+     * 
+     * @param <T> the type of elements held in the list
+     * @return a new, empty hash-indexed list
+     */
+    public static <T> LinkyList<T> hashIndexed()
+    {
+        return new LinkyList<>( null, true );
+    }
+
+    /**
+     * True if the LinkyList is empty, false otherwise
+     * 
+     * @return if the LinkyList is empty, false otherwise
+     */
+    public boolean isEmpty()
+    {
+        return head == null;
+    }
+
+    /**
+     * Removes all of the elements from this list. The list will be empty after this call returns.
+     * If the list uses a node pool, its nodes are handed back to the pool until the pool is full.
+     */
+    public void clear()
+    {
+        if( pool != null )
+        {
+            Node<T> current = head;
+            while( current != null )
+            {
+                Node<T> next = current.next;
+                if( !pool.release( current ) )
+                    break;
+                current = next;
+            }
+        }
+        
+        if( hashIndex != null )
+            hashIndex.clear();
+        
+        fingerNode = null;
+        cachedHash = 0;
+        head = null;
+        tail = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns the number of elements in this list
+     * 
+     * @return the number of elements in this list
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Returns true if this list contains the specified element. More formally, returns true if and only if this list contains at least one element e such that Objects.equals(obj, e).
+     * 
+     * @param obj element whose presence in this list is to be tested
+     * @return true if this list contains the specified element
+     */
+    public boolean contains( Object obj )
+    {
+        if( hashIndex != null )
+            return hashIndex.containsKey( obj );
+        
+        Node<T> current = head;
+        
+        while( current != null )
+        {
+            if( (obj == null && current.data == null) || (obj != null && obj.equals(current.data)) )
+                return true;
+            current = current.next;
+        }
+        
+        return false;
+    }
+
+    /**
+     * Returns the element at the specified position in this list
+     * 
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public T get( int index )
+    {
+        checkElementIndex( index );
+        
+        Node<T> current = node( index );
+        moveFinger( current, index );
+        return current.data;
+    }
+
+    /**
+     * Returns the element at the specified position without moving the finger. For StampedLinkyList's
+     * readers, which run side by side under the read lock, or optimistically during a write, and so must
+     * not write the finger.
+     * 
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    T getWithoutFinger( int index )
+    {
+        checkElementIndex( index );
+        
+        return node( index ).data;
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with the specified element
+     * 
+     * @param index index of the element to replace
+     * @param element element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public T set( int index, T element )
+    {
+        checkElementIndex( index );
+        
+        Node<T> current = node( index );
+        moveFinger( current, index );
+        T oldData = current.data;
+        setData( current, element );
+        return oldData;
+    }
+
+    /**
+     * Appends the specified element to the end of this list.
+     * 
+     * @param element the element to be appended
+     * @return true if the addition was successful, false otherwise
+     */
+    public boolean add( T element )
+    {
+        linkLast( element );
+        return true;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list. Shifts the element currently at that position (if any) and any subsequent elements to the right (adds one to their indices).
+     * 
+     * @param index index at which the specified element is to be inserted
+     * @param element element to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public void add( int index, T element )
+    {
+        if( index < 0 || index > size )
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        
+        if( index == size )
+        {
+            linkLast( element );
+        }
+        else
+        {
+            Node<T> succ = node( index );
+            linkBefore( element, succ );
+            moveFinger( succ.prev, index );
+        }
+    }
+
+    /**
+     * Removes the element at the specified position in this list
+     * 
+     * @param index the index of the element to be removed
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public T remove( int index )
+    {
+        checkElementIndex( index );
+        
+        Node<T> current = node( index );
+        Node<T> succ = current.next;
+        Node<T> pred = current.prev;
+        T data = unlink( current );
+        
+        // Leave the finger on a neighbour so the next nearby access can start there
+        if( succ != null )
+            moveFinger( succ, index );
+        else if( pred != null )
+            moveFinger( pred, index - 1 );
+        return data;
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from this list, if it is present.
+     * 
+     * @param obj element to be removed from this list, if present
+     * @return true if this list contained the specified element
+     */
+    public boolean remove( Object obj )
+    {
+        if( hashIndex != null )
+        {
+            Bucket<T> bucket = hashIndex.get( obj );
+            if( bucket == null )
+                return false;
+            unlink( bucket.first );
+            return true;
+        }
+        
+        for( Node<T> current = head; current != null; current = current.next )
+        {
+            if( (obj == null && current.data == null) || (obj != null && obj.equals(current.data)) )
+            {
+                unlink( current );
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Appends all of the elements in the specified collection to the end of this list, in the order they
+     * are returned by the collection's iterator. The new nodes are linked into a chain of their own first
+     * and then spliced on in one step, so the whole batch costs one pass over the collection.
+     * 
+     * @param c collection containing elements to be added to this list
+     * @return true if this list changed as a result of the call
+     * @throws NullPointerException if the specified collection is null
+     */
+    public boolean addAll( Collection<? extends T> c )
+    {
+        return addAll( size, c );
+    }
+
+    /**
+     * Inserts all of the elements in the specified collection into this list, starting at the specified
+     * position. Shifts the element currently at that position (if any) and any subsequent elements to the
+     * right. The list is walked once to find the position, then the new chain is spliced in.
+     * 
+     * @param index index at which to insert the first element from the specified collection
+     * @param c collection containing elements to be added to this list
+     * @return true if this list changed as a result of the call
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws NullPointerException if the specified collection is null
+     */
+    public boolean addAll( int index, Collection<? extends T> c )
+    {
+        if( index < 0 || index > size )
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        
+        // Snapshot first, so adding a collection that is backed by this list is safe
+        Object[] elements = c.toArray();
+        if( elements.length == 0 )
+            return false;
+        
+        spliceBefore( (index == size) ? null : node( index ), elements );
+        return true;
+    }
+
+    /**
+     * Links the elements in as a chain of their own, then splices the chain in before succ in one step
+     * 
+     * @param succ the node the chain goes in front of, or null to append it
+     * @param elements the elements to insert, in order; must not be empty
+     */
+    private void spliceBefore( Node<T> succ, Object[] elements )
+    {
+        Node<T> pred = (succ == null) ? tail : succ.prev;
+        
+        // Build the chain hanging off pred without touching the rest of the list
+        Node<T> first = null;
+        Node<T> last = pred;
+        for( Object element : elements )
+        {
+            @SuppressWarnings("unchecked")
+            Node<T> newNode = newNode( (T) element );
+            newNode.prev = last;
+            if( last == pred )
+                first = newNode;
+            else
+                last.next = newNode;
+            last = newNode;
+        }
+        
+        // Splice it in
+        if( pred == null )
+            head = first;
+        else
+            pred.next = first;
+        last.next = succ;
+        if( succ == null )
+            tail = last;
+        else
+            succ.prev = last;
+        
+        size += elements.length;
+        modCount++;
+        
+        // Appending extends the hash the same way a fresh computation would; anywhere else invalidates it
+        int h = cachedHash;
+        if( h != 0 && succ == null )
+        {
+            for( Object element : elements )
+                h = 31 * h + (element == null ? 0 : element.hashCode());
+            cachedHash = h;
+        }
+        else
+        {
+            cachedHash = 0;
+        }
+        
+        if( hashIndex != null )
+            indexBatch( pred == null ? head : pred.next, succ );
+    }
+
+    /**
+     * Removes from this list all of its elements that are contained in the specified collection. Membership
+     * is tested against a hash set of the collection (the collection itself if it is already a Set), so the
+     * whole purge is one pass over each of them rather than a scan of this list per element.
+     * 
+     * @param c collection containing elements to be removed from this list
+     * @return true if this list changed as a result of the call
+     * @throws NullPointerException if the specified collection is null
+     */
+    public boolean removeAll( Collection<?> c )
+    {
+        return batchRemove( c, true );
+    }
+
+    /**
+     * Retains only the elements in this list that are contained in the specified collection. Membership is
+     * tested the same way as in removeAll.
+     * 
+     * @param c collection containing elements to be retained in this list
+     * @return true if this list changed as a result of the call
+     * @throws NullPointerException if the specified collection is null
+     */
+    public boolean retainAll( Collection<?> c )
+    {
+        return batchRemove( c, false );
+    }
+
+    /**
+     * Removes all of the elements of this list that satisfy the given predicate, unlinking each match as
+     * the single pass over the chain reaches it. Errors or runtime exceptions thrown by the predicate are
+     * relayed to the caller, and elements already removed at that point stay removed.
+     * 
+     * @param filter a predicate which returns true for elements to be removed
+     * @return true if any elements were removed
+     * @throws NullPointerException if the specified filter is null
+     * @throws ConcurrentModificationException if the predicate modifies this list
+     */
+    public boolean removeIf( Predicate<? super T> filter )
+    {
+        if( filter == null )
+            throw new NullPointerException();
+        
+        boolean removed = false;
+        Node<T> current = head;
+        while( current != null )
+        {
+            Node<T> next = current.next;
+            int expectedModCount = modCount;
+            boolean matches = filter.test( current.data );
+            if( modCount != expectedModCount )
+                throw new ConcurrentModificationException();
+            
+            if( matches )
+            {
+                unlink( current );
+                removed = true;
+            }
+            current = next;
+        }
+        return removed;
+    }
+
+    /**
+     * Replaces each element of this list with the result of applying the operator to that element. The
+     * elements are rewritten in place, so no node is allocated or relinked.
+     * 
+     * @param operator the operator to apply to each element
+     * @throws NullPointerException if the specified operator is null
+     * @throws ConcurrentModificationException if the operator structurally modifies this list
+     */
+    public void replaceAll( UnaryOperator<T> operator )
+    {
+        if( operator == null )
+            throw new NullPointerException();
+        
+        int expectedModCount = modCount;
+        cachedHash = 0;
+        try
+        {
+            for( Node<T> current = head; current != null && modCount == expectedModCount; current = current.next )
+                current.data = operator.apply( current.data );
+        }
+        finally
+        {
+            // Every value may have changed, so one rebuild beats moving nodes between buckets one at a time.
+            // It runs even if the operator throws, since the values written so far are already in the nodes.
+            if( hashIndex != null )
+                rebuildIndex();
+        }
+        
+        if( modCount != expectedModCount )
+            throw new ConcurrentModificationException();
+    }
+
+    /**
+     * Performs the given action for each element of this list, in order, walking the chain directly
+     * instead of through an iterator.
+     * 
+     * @param action the action to be performed for each element
+     * @throws NullPointerException if the specified action is null
+     * @throws ConcurrentModificationException if the action structurally modifies this list
+     */
+    public void forEach( Consumer<? super T> action )
+    {
+        if( action == null )
+            throw new NullPointerException();
+        
+        int expectedModCount = modCount;
+        for( Node<T> current = head; current != null && modCount == expectedModCount; current = current.next )
+            action.accept( current.data );
+        
+        if( modCount != expectedModCount )
+            throw new ConcurrentModificationException();
+    }
+
+    /**
+     * Sorts this list according to the order induced by the specified Comparator. The sort is stable. The
+     * elements are copied into an array, sorted there, and written back into the existing nodes in one
+     * pass, so no node is relinked and the list's structure does not change.
+     * 
+     * @param c the Comparator used to compare list elements, or null to use the elements' natural ordering
+     * @throws ClassCastException if the list contains elements that are not mutually comparable
+     */
+    @SuppressWarnings("unchecked")
+    public void sort( Comparator<? super T> c )
+    {
+        Object[] elements = toArray();
+        Arrays.sort( (T[]) elements, c );
+        
+        int i = 0;
+        for( Node<T> current = head; current != null; current = current.next )
+            current.data = (T) elements[i++];
+        cachedHash = 0;
+        
+        if( hashIndex != null )
+            rebuildIndex();
+    }
+
+    /**
+     * Returns an array containing all of the elements in this list in proper sequence
+     * 
+     * @return an array containing all of the elements in this list in proper sequence
+     */
+    public Object[] toArray()
+    {
+        Object[] result = new Object[size];
+        int i = 0;
+        for( Node<T> current = head; current != null; current = current.next )
+            result[i++] = current.data;
+        return result;
+    }
+
+    /**
+     * Returns an array containing all of the elements in this list in proper sequence. The runtime type of
+     * the returned array is that of the specified array. If the list fits in the specified array, it is
+     * returned therein, and the element following the end of the list is set to null. Otherwise, a new
+     * array of the same type and the size of this list is allocated.
+     * 
+     * @param <E> the component type of the array to contain the collection
+     * @param a the array into which the elements of the list are to be stored, if it is big enough
+     * @return an array containing the elements of the list
+     * @throws ArrayStoreException if the runtime type of the specified array is not a supertype of the runtime type of every element in this list
+     * @throws NullPointerException if the specified array is null
+     */
+    @SuppressWarnings("unchecked")
+    public <E> E[] toArray( E[] a )
+    {
+        if( a.length < size )
+            a = (E[]) Array.newInstance( a.getClass().getComponentType(), size );
+        
+        int i = 0;
+        Object[] result = a;
+        for( Node<T> current = head; current != null; current = current.next )
+            result[i++] = current.data;
+        
+        if( a.length > size )
+            a[size] = null;
+        return a;
+    }
+
+    /**
+     * Returns a view of the portion of this list between the specified fromIndex, inclusive, and toIndex,
+     * exclusive. The view holds on to the nodes just outside the range, so it reaches its elements by
+     * walking in from whichever of its own ends is nearer, and never from the ends of this list.
+     * clear() and removeRange() unlink the range with a single splice, and addAll() splices in a chain
+     * the same way this list's addAll() does. Iterating the view costs O(1) per element. A structural
+     * change to this list that does not go through the view makes the view throw
+     * ConcurrentModificationException.
+     * 
+     * @param fromIndex low endpoint (inclusive) of the subList
+     * @param toIndex high endpoint (exclusive) of the subList
+     * @return a view of the specified range within this list
+     * @throws IndexOutOfBoundsException if an endpoint index value is out of range
+     * @throws IllegalArgumentException if the endpoint indices are out of order
+     */
+    public List<T> subList( int fromIndex, int toIndex )
+    {
+        checkSubListRange( fromIndex, toIndex, size );
+        
+        Node<T> before = (fromIndex == 0) ? null : node( fromIndex - 1 );
+        Node<T> after = (toIndex == size) ? null : node( toIndex );
+        return new SubList( null, before, after, toIndex - fromIndex );
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this list, or -1 if this list does not contain the element. More formally, returns the lowest index i such that Objects.equals(o, get(i)), or -1 if there is no such index.
+     * 
+     * @param obj element to search for
+     * @return the index of the first occurrence of the specified element in this list, or -1 if this list does not contain the element
+     */
+    public int indexOf( Object obj )
+    {
+        if( hashIndex != null )
+        {
+            Bucket<T> bucket = hashIndex.get( obj );
+            return (bucket == null) ? -1 : position( bucket.first );
+        }
+        
+        int index = 0;
+        for( Node<T> current = head; current != null; current = current.next )
+        {
+            if( (obj == null && current.data == null) || (obj != null && obj.equals(current.data)) )
+                return index;
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in this list, or -1 if this list does not contain the element. More formally, returns the highest index i such that Objects.equals(o, get(i)), or -1 if there is no such index.
+     * 
+     * @param obj element to search for
+     * @return the index of the last occurrence of the specified element in this list, or -1 if this list does not contain the element
+     */
+    public int lastIndexOf( Object obj )
+    {
+        if( hashIndex != null )
+        {
+            Bucket<T> bucket = hashIndex.get( obj );
+            return (bucket == null) ? -1 : position( bucket.last );
+        }
+        
+        int index = size - 1;
+        for( Node<T> current = tail; current != null; current = current.prev )
+        {
+            if( (obj == null && current.data == null) || (obj != null && obj.equals(current.data)) )
+                return index;
+            index--;
+        }
+        return -1;
+    }
+    
+    /**
+     * Returns an iterator over the elements in this list in proper sequence
+     * 
+     * @return an iterator over the elements in this list in proper sequence
+     */
+    public Iterator<T> iterator()
+    {
+        return new ListItr( 0 );
+    }
+    
+    /**
+     * Returns a list iterator over the elements in this list in proper sequence
+     * 
+     * @return a list iterator over the elements in this list in proper sequence
+     */
+    public ListIterator<T> listIterator()
+    {
+        return new ListItr( 0 );
+    }
+    
+    /**
+     * Returns a list iterator over the elements in this list in proper sequence, starting at the specified position in the list.
+     * The list iterator supports remove, set and add at the cursor in constant time, and fails fast with a
+     * ConcurrentModificationException if the list is structurally modified other than through the iterator itself.
+     * 
+     * @param index index of the first element to be returned from the list iterator (by a call to next)
+     * @return a list iterator over the elements in this list in proper sequence, starting at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public ListIterator<T> listIterator( int index )
+    {
+        if( index < 0 || index > size )
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        
+        return new ListItr( index );
+    }
+    
+    /**
+     * Creates a late-binding, fail-fast Spliterator over the elements in this list. The Spliterator reports
+     * SIZED, SUBSIZED and ORDERED. Splitting copies the front half of the remaining elements into an array,
+     * so each split hands off a balanced share of the work and the copying adds up to one pass over the list.
+     * 
+     * @return a Spliterator over the elements in this list
+     */
+    public Spliterator<T> spliterator()
+    {
+        return new LinkySpliterator();
+    }
+    
+    /**
+     * Returns a sequential Stream with this list as its source
+     * 
+     * @return a sequential Stream over the elements in this list
+     */
+    public Stream<T> stream()
+    {
+        return StreamSupport.stream( spliterator(), false );
+    }
+    
+    /**
+     * Returns a possibly parallel Stream with this list as its source
+     * 
+     * @return a possibly parallel Stream over the elements in this list
+     */
+    public Stream<T> parallelStream()
+    {
+        return StreamSupport.stream( spliterator(), true );
+    }
+    
+    /**
+     * Compares the specified object with this list for equality. As the List contract requires, the result
+     * is true if and only if the object is also a List with equal elements in the same order. Another
+     * LinkyList is rejected without a walk if its size differs, or if both lists have a cached hash code
+     * and the two differ; otherwise it is compared node by node.
+     * 
+     * @param obj the object to be compared for equality with this list
+     * @return true if the specified object is equal to this list
+     */
+    public boolean equals(Object obj)
+    {
+        if( obj == this )
+            return true;
+        
+        if( !(obj instanceof List) )
+            return false;
+        
+        // Any other List is compared element by element through its iterator
+        if( !(obj instanceof LinkyList) )
+            return super.equals( obj );
+        
+        LinkyList<?> list = (LinkyList<?>) obj;
+        
+        if( this.size != list.size )
+            return false;
+        
+        // Lists whose hashes are both known and differ cannot be equal; a 0 hash is not known yet
+        int thisHash = this.cachedHash;
+        int otherHash = list.cachedHash;
+        if( thisHash != 0 && otherHash != 0 && thisHash != otherHash )
+            return false;
+        
+        Node<T> thisCurrent = this.head;
+        Node<?> otherCurrent = list.head;
+        
+        while( thisCurrent != null && otherCurrent != null )
+        {
+            if( thisCurrent.data == null && otherCurrent.data != null )
+                return false;
+            if( thisCurrent.data != null && !thisCurrent.data.equals(otherCurrent.data) )
+                return false;
+            
+            thisCurrent = thisCurrent.next;
+            otherCurrent = otherCurrent.next;
+        }
+        
+        return thisCurrent == null && otherCurrent == null;
+    }
+    
+    /**
+     * Returns the hash code value for this list, computed as the List contract specifies. The value is
+     * cached: it is computed by one walk of the list and then reused until a mutator changes the list.
+     * Appends extend the cached value in place rather than discarding it. As with any hash key, the
+     * elements themselves must not change in ways that affect their hash codes.
+     * 
+     * @return the hash code value for this list
+     */
+    public int hashCode()
+    {
+        int h = cachedHash;
+        if( h == 0 )
+        {
+            h = 1;
+            for( Node<T> current = head; current != null; current = current.next )
+                h = 31 * h + (current.data == null ? 0 : current.data.hashCode());
+            cachedHash = h;
+        }
+        return h;
+    }
+    
+    /**
+     * Removes from this list all of the elements whose index is between fromIndex, inclusive, and toIndex,
+     * exclusive. Walks to fromIndex once, releases the nodes in the range, and then joins the nodes on
+     * either side with a single splice.
+     * 
+     * @param fromIndex index of first element to be removed
+     * @param toIndex index after last element to be removed
+     */
+    protected void removeRange( int fromIndex, int toIndex )
+    {
+        if( fromIndex >= toIndex )
+            return;
+        
+        unlinkRange( node( fromIndex ), toIndex - fromIndex );
+    }
+    
+    /**
+     * Releases count nodes starting at first, then joins the nodes on either side with a single splice
+     * 
+     * @param first the first node to remove
+     * @param count the number of nodes to remove; there must be at least that many from first on
+     */
+    private void unlinkRange( Node<T> first, int count )
+    {
+        Node<T> pred = first.prev;
+        Node<T> current = first;
+        for( int i = 0; i < count; i++ )
+        {
+            Node<T> next = current.next;
+            if( hashIndex != null )
+                unindexNode( (HashedNode<T>) current );
+            current.data = null;
+            current.prev = null;
+            current.next = null;
+            if( pool != null )
+                pool.release( current );
+            current = next;
+        }
+        
+        // current is now the first node after the range
+        if( pred == null )
+            head = current;
+        else
+            pred.next = current;
+        if( current == null )
+            tail = pred;
+        else
+            current.prev = pred;
+        
+        size -= count;
+        modCount++;
+        cachedHash = 0;
+    }
+    
+    /**
+     * Returns the node at the specified position, walking from whichever is closest: the head, the tail,
+     * or the finger left by the previous indexed operation. Loops that step through indices one at a time
+     * therefore take O(1) per step. The index must already have been checked.
+     * 
+     * @param index index of the node to return
+     * @return the node at the specified position
+     */
+    private Node<T> node( int index )
+    {
+        if( fingerNode != null && fingerModCount == modCount )
+        {
+            int distance = index - fingerIndex;
+            if( Math.abs( distance ) < Math.min( index, size - 1 - index ) )
+            {
+                Node<T> current = fingerNode;
+                for( ; distance > 0; distance-- )
+                    current = current.next;
+                for( ; distance < 0; distance++ )
+                    current = current.prev;
+                return current;
+            }
+        }
+        
+        Node<T> current;
+        if( index < (size >> 1) )
+        {
+            current = head;
+            for( int i = 0; i < index; i++ )
+                current = current.next;
+        }
+        else
+        {
+            current = tail;
+            for( int i = size - 1; i > index; i-- )
+                current = current.prev;
+        }
+        return current;
+    }
+    
+    /**
+     * Leaves the finger on the given node. The fields are updated in place, so this allocates nothing.
+     * 
+     * @param node the node just reached
+     * @param index the index of that node
+     */
+    private void moveFinger( Node<T> node, int index )
+    {
+        fingerNode = node;
+        fingerIndex = index;
+        fingerModCount = modCount;
+    }
+    
+    /**
+     * Returns the index of a node in this list by walking from it towards both ends at once and counting
+     * until one of the walks runs off the list, so the cost is twice the distance to the nearer end
+     * 
+     * @param node a node of this list
+     * @return the index of the node
+     */
+    private int position( Node<T> node )
+    {
+        Node<T> back = node.prev;
+        Node<T> forward = node.next;
+        int steps = 0;
+        while( back != null && forward != null )
+        {
+            back = back.prev;
+            forward = forward.next;
+            steps++;
+        }
+        return (back == null) ? steps : size - 1 - steps;
+    }
+    
+    /**
+     * Links the specified element as the last element of this list
+     * 
+     * @param element the element to be linked
+     */
+    private void linkLast( T element )
+    {
+        Node<T> newNode = newNode( element );
+        newNode.prev = tail;
+        if( tail == null )
+            head = newNode;
+        else
+            tail.next = newNode;
+        tail = newNode;
+        size++;
+        modCount++;
+        if( cachedHash != 0 )
+            cachedHash = 31 * cachedHash + (element == null ? 0 : element.hashCode());
+        if( hashIndex != null )
+            indexNode( (HashedNode<T>) newNode );
+    }
+    
+    /**
+     * Links the specified element immediately before the given (non-null) node
+     * 
+     * @param element the element to be linked
+     * @param succ the node that will follow the new element
+     */
+    private void linkBefore( T element, Node<T> succ )
+    {
+        Node<T> pred = succ.prev;
+        Node<T> newNode = newNode( element );
+        newNode.prev = pred;
+        newNode.next = succ;
+        succ.prev = newNode;
+        if( pred == null )
+            head = newNode;
+        else
+            pred.next = newNode;
+        size++;
+        modCount++;
+        cachedHash = 0;
+        if( hashIndex != null )
+            indexNode( (HashedNode<T>) newNode );
+    }
+    
+    /**
+     * Returns a node holding the specified element, from the pool if there is one
+     * 
+     * @param element the element the node will hold
+     * @return a node holding the element, with no links
+     */
+    private Node<T> newNode( T element )
+    {
+        if( hashIndex != null )
+            return new HashedNode<>( element );
+        return (pool == null) ? new Node<>( element ) : pool.acquire( element );
+    }
+    
+    /**
+     * Unlinks the specified (non-null) node from this list. The node's element reference is cleared,
+     * and the node goes back to the pool if there is one.
+     * 
+     * @param node the node to be unlinked
+     * @return the element held by the unlinked node
+     */
+    private T unlink( Node<T> node )
+    {
+        if( hashIndex != null )
+            unindexNode( (HashedNode<T>) node );
+        
+        T data = node.data;
+        Node<T> pred = node.prev;
+        Node<T> succ = node.next;
+        
+        if( pred == null )
+            head = succ;
+        else
+            pred.next = succ;
+        
+        if( succ == null )
+            tail = pred;
+        else
+            succ.prev = pred;
+        
+        node.data = null;
+        node.prev = null;
+        node.next = null;
+        if( pool != null )
+            pool.release( node );
+        size--;
+        modCount++;
+        cachedHash = 0;
+        return data;
+    }
+    
+    /**
+     * Unlinks, in one pass, every element whose membership in the collection equals the given flag
+     * 
+     * @param c the collection to test elements against
+     * @param removeMembers true to remove the elements in c, false to remove the ones not in it
+     * @return true if any element was removed
+     */
+    private boolean batchRemove( Collection<?> c, boolean removeMembers )
+    {
+        Collection<?> lookup = (c instanceof Set) ? c : new HashSet<>( c );
+        
+        return removeIf( element -> lookup.contains( element ) == removeMembers );
+    }
+    
+    /**
+     * Replaces the element held by a node, moving the node to its new value's bucket if the list is indexed
+     * 
+     * @param node the node to update
+     * @param element the new element
+     */
+    private void setData( Node<T> node, T element )
+    {
+        cachedHash = 0;
+        if( hashIndex == null )
+        {
+            node.data = element;
+            return;
+        }
+        
+        HashedNode<T> hashed = (HashedNode<T>) node;
+        unindexNode( hashed );
+        hashed.data = element;
+        insertInBucket( bucketFor( hashed ), hashed );
+    }
+    
+    /**
+     * Returns the bucket for the node's value, creating it if the value is new to the list
+     * 
+     * @param node the node whose value to look up
+     * @return the bucket for the node's value
+     */
+    private Bucket<T> bucketFor( HashedNode<T> node )
+    {
+        Bucket<T> bucket = hashIndex.get( node.data );
+        if( bucket == null )
+        {
+            bucket = new Bucket<>();
+            hashIndex.put( node.data, bucket );
+        }
+        return bucket;
+    }
+    
+    /**
+     * Gives a node that has just been linked into the list an order key and adds it to its value's bucket
+     * 
+     * @param node the newly linked node
+     */
+    private void indexNode( HashedNode<T> node )
+    {
+        assignOrder( node );
+        insertInBucket( bucketFor( node ), node );
+    }
+    
+    /**
+     * Places a node in its bucket, in list order. A node past either end of the bucket, or next to an
+     * equal neighbour, is placed in O(1); otherwise the bucket is searched from both ends at once, which
+     * costs at most the number of equal elements on the nearer side.
+     * 
+     * @param bucket the bucket for the node's value
+     * @param node the node to place; its order key must be current
+     */
+    private void insertInBucket( Bucket<T> bucket, HashedNode<T> node )
+    {
+        node.bucket = bucket;
+        if( bucket.first == null )
+        {
+            bucket.first = node;
+            bucket.last = node;
+        }
+        else if( node.order > bucket.last.order )
+            linkSameAfter( bucket, bucket.last, node );
+        else if( node.order < bucket.first.order )
+            linkSameBefore( bucket, node, bucket.first );
+        else if( node.next != null && ((HashedNode<T>) node.next).bucket == bucket )
+            linkSameBefore( bucket, node, (HashedNode<T>) node.next );
+        else if( node.prev != null && ((HashedNode<T>) node.prev).bucket == bucket )
+            linkSameAfter( bucket, (HashedNode<T>) node.prev, node );
+        else
+        {
+            // Both ends bracket the node, so each search stops before running off the chain
+            HashedNode<T> low = bucket.first;
+            HashedNode<T> high = bucket.last;
+            while( true )
+            {
+                low = low.nextSame;
+                if( low.order > node.order )
+                {
+                    linkSameBefore( bucket, node, low );
+                    return;
+                }
+                high = high.prevSame;
+                if( high.order < node.order )
+                {
+                    linkSameAfter( bucket, high, node );
+                    return;
+                }
+            }
+        }
+    }
+    
+    /**
+     * Gives a newly linked node an order key between those of its neighbours, relabeling a window around
+     * it if they have no room between them
+     * 
+     * @param node the newly linked node
+     */
+    private void assignOrder( HashedNode<T> node )
+    {
+        HashedNode<T> pred = (HashedNode<T>) node.prev;
+        HashedNode<T> succ = (HashedNode<T>) node.next;
+        if( pred == null && succ == null )
+            node.order = 0;
+        else if( succ == null && pred.order < Long.MAX_VALUE - ORDER_GAP )
+            node.order = pred.order + ORDER_GAP;
+        else if( pred == null && succ.order > Long.MIN_VALUE + ORDER_GAP )
+            node.order = succ.order - ORDER_GAP;
+        else
+        {
+            long low = (pred == null) ? Long.MIN_VALUE : pred.order;
+            long high = (succ == null) ? Long.MAX_VALUE : succ.order;
+            // Unsigned, since the span of the whole key range does not fit in a long
+            long span = high - low;
+            if( Long.compareUnsigned( span, 1 ) > 0 )
+                node.order = low + (span >>> 1);
+            else
+                relabel( node, node, 1 );
+        }
+    }
+    
+    /**
+     * Spreads out the order keys of a run of linked nodes evenly between the keys of the nodes around it.
+     * While the run is too dense for that, it is widened to about twice its size on both sides, and each
+     * widening asks for WINDOW_SLACK times more room per node, so most relabels stay small.
+     * 
+     * @param first the first node of the run
+     * @param last the last node of the run
+     * @param count the number of nodes in the run
+     */
+    private void relabel( Node<T> first, Node<T> last, int count )
+    {
+        double needed = 2;
+        while( true )
+        {
+            long low = (first.prev == null) ? Long.MIN_VALUE : ((HashedNode<T>) first.prev).order;
+            long high = (last.next == null) ? Long.MAX_VALUE : ((HashedNode<T>) last.next).order;
+            long span = high - low;
+            double room = (double) (span >>> 1) * 2;
+            boolean whole = (first.prev == null && last.next == null);
+            if( whole || room >= (count + 1) * needed )
+            {
+                long step = Long.divideUnsigned( span, count + 1 );
+                long order = low;
+                for( Node<T> current = first; ; current = current.next )
+                {
+                    order += step;
+                    ((HashedNode<T>) current).order = order;
+                    if( current == last )
+                        return;
+                }
+            }
+            
+            for( int i = count / 2 + 1; i > 0 && first.prev != null; i-- )
+            {
+                first = first.prev;
+                count++;
+            }
+            for( int i = count / 2 + 1; i > 0 && last.next != null; i-- )
+            {
+                last = last.next;
+                count++;
+            }
+            needed *= WINDOW_SLACK;
+        }
+    }
+    
+    /**
+     * Indexes a run of freshly spliced nodes. The run's order keys are spread between the nodes around it
+     * in one pass. A value that occurs more than once in the run is placed after its previous occurrence,
+     * which keeps the bucket in order; the first occurrence of each value is placed by its order key.
+     * 
+     * @param first the first node of the run
+     * @param succ the node after the run, or null if the run ends the list
+     */
+    private void indexBatch( Node<T> first, Node<T> succ )
+    {
+        Node<T> last = (succ == null) ? tail : succ.prev;
+        int count = 0;
+        for( Node<T> current = first; current != succ; current = current.next )
+            count++;
+        if( first.prev == null && succ == null )
+        {
+            // The run is the whole list, so it takes the usual gaps from zero, as appends would have
+            long gap = Math.min( ORDER_GAP, Long.MAX_VALUE / count );
+            long order = 0;
+            for( Node<T> current = first; current != succ; current = current.next, order += gap )
+                ((HashedNode<T>) current).order = order;
+        }
+        else
+            relabel( first, last, count );
+        
+        IdentityHashMap<Bucket<T>, HashedNode<T>> lastInRun = new IdentityHashMap<>();
+        for( Node<T> current = first; current != succ; current = current.next )
+        {
+            HashedNode<T> node = (HashedNode<T>) current;
+            Bucket<T> bucket = bucketFor( node );
+            HashedNode<T> previous = lastInRun.put( bucket, node );
+            if( previous != null )
+            {
+                node.bucket = bucket;
+                linkSameAfter( bucket, previous, node );
+            }
+            else
+                insertInBucket( bucket, node );
+        }
+    }
+    
+    /**
+     * Removes a node from its value's bucket, dropping the bucket when it empties
+     * 
+     * @param node the node to remove from the index
+     */
+    private void unindexNode( HashedNode<T> node )
+    {
+        Bucket<T> bucket = node.bucket;
+        if( node.prevSame == null )
+            bucket.first = node.nextSame;
+        else
+            node.prevSame.nextSame = node.nextSame;
+        
+        if( node.nextSame == null )
+            bucket.last = node.prevSame;
+        else
+            node.nextSame.prevSame = node.prevSame;
+        
+        if( bucket.first == null )
+            hashIndex.remove( node.data );
+        node.prevSame = null;
+        node.nextSame = null;
+        node.bucket = null;
+    }
+    
+    /**
+     * Rebuilds the index from scratch in one forward pass, appending each node to its bucket
+     */
+    private void rebuildIndex()
+    {
+        hashIndex.clear();
+        for( Node<T> current = head; current != null; current = current.next )
+        {
+            HashedNode<T> node = (HashedNode<T>) current;
+            node.prevSame = null;
+            node.nextSame = null;
+            node.bucket = null;
+            
+            Bucket<T> bucket = bucketFor( node );
+            node.bucket = bucket;
+            if( bucket.first == null )
+            {
+                bucket.first = node;
+                bucket.last = node;
+            }
+            else
+            {
+                linkSameAfter( bucket, bucket.last, node );
+            }
+        }
+    }
+    
+    private void linkSameBefore( Bucket<T> bucket, HashedNode<T> node, HashedNode<T> succ )
+    {
+        node.nextSame = succ;
+        node.prevSame = succ.prevSame;
+        if( succ.prevSame == null )
+            bucket.first = node;
+        else
+            succ.prevSame.nextSame = node;
+        succ.prevSame = node;
+    }
+    
+    private void linkSameAfter( Bucket<T> bucket, HashedNode<T> pred, HashedNode<T> node )
+    {
+        node.prevSame = pred;
+        node.nextSame = pred.nextSame;
+        if( pred.nextSame == null )
+            bucket.last = node;
+        else
+            pred.nextSame.prevSame = node;
+        pred.nextSame = node;
+    }
+    
+    /**
+     * Throws an IndexOutOfBoundsException if the index does not refer to an existing element.
+     * Uses the tracked size so the check never walks the list.
+     * 
+     * @param index the index to check
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    private void checkElementIndex( int index )
+    {
+        if( index < 0 || index >= size )
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+    
+    /**
+     * Throws if fromIndex and toIndex do not describe a range of a list of the given size
+     * 
+     * @param fromIndex low endpoint (inclusive) of the range
+     * @param toIndex high endpoint (exclusive) of the range
+     * @param size the size of the list the range is taken from
+     * @throws IndexOutOfBoundsException if an endpoint index value is out of range
+     * @throws IllegalArgumentException if the endpoint indices are out of order
+     */
+    private static void checkSubListRange( int fromIndex, int toIndex, int size )
+    {
+        if( fromIndex < 0 )
+            throw new IndexOutOfBoundsException("fromIndex = " + fromIndex);
+        if( toIndex > size )
+            throw new IndexOutOfBoundsException("toIndex = " + toIndex + ", Size: " + size);
+        if( fromIndex > toIndex )
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+    }
+    
+    /**
+     * Returns a String representation of this LinkyList. The String representation consists of a
+     * list of the collection's elements in the order they are returned by its iterator, enclosed
+     * in square brackets("[]"). Adjacent elements are separated by the character ", " (comma and space).
+     * Elements are converted to Strings as by String.valueOf( Object).
+     * 
+     * @return a String representation of this collection
+     */
+    public String toString()
+    {
+        return toString( Integer.MAX_VALUE );
+    }
+    
+    /**
+     * Returns a String representation of at most the first maxElements elements of this list, followed by
+     * a count of the rest, such as "[1, 2, 3, ... 997 more]". Meant for logging, where the full form of a
+     * large list would be far too long.
+     * 
+     * @param maxElements the most elements to include
+     * @return a bounded String representation of this collection
+     * @throws IllegalArgumentException if maxElements is negative
+     */
+    public String toString( int maxElements )
+    {
+        int shown = Math.min( size, Math.max( maxElements, 0 ) );
+        // The guess only has to be close; an unsynchronized builder then rarely has to grow more than once
+        StringBuilder printList = new StringBuilder( (int) Math.min( 24L + (long) shown * CHARS_PER_ELEMENT, MAX_PRESIZE ) );
+        try
+        {
+            return appendTo( printList, maxElements ).toString();
+        }
+        catch( IOException e )
+        {
+            // StringBuilder never throws
+            throw new UncheckedIOException( e );
+        }
+    }
+    
+    /**
+     * Appends the String representation of this list to the given Appendable, one element at a time, in
+     * the same format as toString(). Nothing is built up in memory first, so a list of any length can be
+     * written out.
+     * 
+     * @param <A> the type of the Appendable
+     * @param out where to append the elements
+     * @return the Appendable passed in
+     * @throws IOException if appending to out fails
+     */
+    public <A extends Appendable> A appendTo( A out ) throws IOException
+    {
+        return appendTo( out, Integer.MAX_VALUE );
+    }
+    
+    /**
+     * Appends the String representation of at most the first maxElements elements of this list to the given
+     * Appendable, in the same format as toString(int)
+     * 
+     * @param <A> the type of the Appendable
+     * @param out where to append the elements
+     * @param maxElements the most elements to include
+     * @return the Appendable passed in
+     * @throws IOException if appending to out fails
+     * @throws IllegalArgumentException if maxElements is negative
+     */
+    public <A extends Appendable> A appendTo( A out, int maxElements ) throws IOException
+    {
+        if( maxElements < 0 )
+            throw new IllegalArgumentException("Max elements: " + maxElements);
+        
+        out.append( '[' );
+        int shown = 0;
+        for( Node<T> current = head; current != null && shown < maxElements; current = current.next )
+        {
+            if( shown > 0 )
+                out.append( ", " );
+            out.append( current.data == this ? "(this Collection)" : String.valueOf( current.data ) );
+            shown++;
+        }
+        
+        if( shown < size )
+        {
+            if( shown > 0 )
+                out.append( ", " );
+            out.append( "... " ).append( String.valueOf( size - shown ) ).append( " more" );
+        }
+        out.append( ']' );
+        return out;
+    }
+    
+    /**
+     * Writes the String representation of this list to the given Writer, one element at a time, in the same
+     * format as toString(). The Writer is not flushed or closed.
+     * 
+     * @param out the Writer to write to
+     * @throws IOException if writing to out fails
+     */
+    public void writeTo( Writer out ) throws IOException
+    {
+        appendTo( out );
+    }
+    
+    /**
+     * A view of a range of a LinkyList, bounded by the nodes on either side of it. Neither bounding node can
+     * be removed through the view or a view nested in it, so they stay valid for as long as the view does.
+     */
+    private class SubList extends AbstractSequentialList<T>
+    {
+        // The view this one was taken from, or null if it was taken from the list itself
+        private final SubList parent;
+        // The nodes just outside the range, or null where the range reaches an end of the list
+        private final Node<T> before;
+        private final Node<T> after;
+        private int size;
+        private int expectedModCount;
+        
+        public SubList( SubList parent, Node<T> before, Node<T> after, int size )
+        {
+            this.parent = parent;
+            this.before = before;
+            this.after = after;
+            this.size = size;
+            this.expectedModCount = LinkyList.this.modCount;
+        }
+        
+        public int size()
+        {
+            checkForComodification();
+            return size;
+        }
+        
+        public T get( int index )
+        {
+            checkForComodification();
+            checkIndex( index, size );
+            return nodeAt( index ).data;
+        }
+        
+        public T set( int index, T element )
+        {
+            checkForComodification();
+            checkIndex( index, size );
+            Node<T> node = nodeAt( index );
+            T oldData = node.data;
+            setData( node, element );
+            return oldData;
+        }
+        
+        public ListIterator<T> listIterator( int index )
+        {
+            checkForComodification();
+            checkIndex( index, size + 1 );
+            return new SubListItr( index );
+        }
+        
+        public boolean addAll( Collection<? extends T> c )
+        {
+            return addAll( size, c );
+        }
+        
+        public boolean addAll( int index, Collection<? extends T> c )
+        {
+            checkForComodification();
+            checkIndex( index, size + 1 );
+            Object[] elements = c.toArray();
+            if( elements.length == 0 )
+                return false;
+            
+            spliceBefore( nodeAt( index ), elements );
+            resize( elements.length );
+            return true;
+        }
+        
+        protected void removeRange( int fromIndex, int toIndex )
+        {
+            checkForComodification();
+            if( fromIndex >= toIndex )
+                return;
+            
+            unlinkRange( nodeAt( fromIndex ), toIndex - fromIndex );
+            resize( fromIndex - toIndex );
+        }
+        
+        public List<T> subList( int fromIndex, int toIndex )
+        {
+            checkForComodification();
+            checkSubListRange( fromIndex, toIndex, size );
+            
+            Node<T> subBefore = (fromIndex == 0) ? before : nodeAt( fromIndex - 1 );
+            Node<T> subAfter = (toIndex == size) ? after : nodeAt( toIndex );
+            return new SubList( this, subBefore, subAfter, toIndex - fromIndex );
+        }
+        
+        /**
+         * Returns the node at the given position in the view, or the node after the view (null at the end
+         * of the list) for position size. Walks in from the nearer end of the view.
+         */
+        private Node<T> nodeAt( int index )
+        {
+            Node<T> current;
+            if( index <= (size >> 1) )
+            {
+                current = (before == null) ? head : before.next;
+                for( int i = 0; i < index; i++ )
+                    current = current.next;
+            }
+            else
+            {
+                current = after;
+                for( int i = size; i > index; i-- )
+                    current = (current == null) ? tail : current.prev;
+            }
+            return current;
+        }
+        
+        /**
+         * Records a change of size made through this view, in this view and every view it was taken from
+         */
+        private void resize( int delta )
+        {
+            for( SubList view = this; view != null; view = view.parent )
+            {
+                view.size += delta;
+                view.expectedModCount = LinkyList.this.modCount;
+            }
+        }
+        
+        private void checkIndex( int index, int bound )
+        {
+            if( index < 0 || index >= bound )
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        
+        private void checkForComodification()
+        {
+            if( LinkyList.this.modCount != expectedModCount )
+                throw new ConcurrentModificationException();
+        }
+        
+        /**
+         * The list's own iterator, started at a node of the view and kept within the view's bounds
+         */
+        private class SubListItr implements ListIterator<T>
+        {
+            private final ListItr iter;
+            
+            public SubListItr( int index )
+            {
+                iter = new ListItr( nodeAt( index ), index );
+            }
+            
+            public boolean hasNext()
+            {
+                return iter.nextIndex() < size;
+            }
+            
+            public T next()
+            {
+                checkForComodification();
+                if( !hasNext() )
+                    throw new NoSuchElementException();
+                return iter.next();
+            }
+            
+            public boolean hasPrevious()
+            {
+                return iter.nextIndex() > 0;
+            }
+            
+            public T previous()
+            {
+                checkForComodification();
+                if( !hasPrevious() )
+                    throw new NoSuchElementException();
+                return iter.previous();
+            }
+            
+            public int nextIndex()
+            {
+                return iter.nextIndex();
+            }
+            
+            public int previousIndex()
+            {
+                return iter.previousIndex();
+            }
+            
+            public void remove()
+            {
+                checkForComodification();
+                iter.remove();
+                resize( -1 );
+            }
+            
+            public void set( T element )
+            {
+                checkForComodification();
+                iter.set( element );
+            }
+            
+            public void add( T element )
+            {
+                checkForComodification();
+                iter.add( element );
+                resize( 1 );
+            }
+        }
+    }
+    
+    private class ListItr implements ListIterator<T>
+    {
+        // The node that next() will return, or null at the end of the list
+        private Node<T> next;
+        private int nextIndex;
+        // The node returned by the last call to next() or previous(), or null after remove() or add()
+        private Node<T> lastReturned;
+        private int expectedModCount = modCount;
+        
+        public ListItr( int index )
+        {
+            this( (index == size) ? null : node( index ), index );
+        }
+        
+        /**
+         * Starts the iterator at a node already found
+         * 
+         * @param next the node that next() will return, or null at the end of the list
+         * @param index the index reported for that node; SubList passes its own indices
+         */
+        public ListItr( Node<T> next, int index )
+        {
+            this.next = next;
+            this.nextIndex = index;
+        }
+        
+        public boolean hasNext()
+        {
+            return nextIndex < size;
+        }
+        
+        public T next()
+        {
+            checkForComodification();
+            if( !hasNext() )
+                throw new NoSuchElementException();
+            
+            lastReturned = next;
+            next = next.next;
+            nextIndex++;
+            return lastReturned.data;
+        }
+        
+        public boolean hasPrevious()
+        {
+            return nextIndex > 0;
+        }
+        
+        public T previous()
+        {
+            checkForComodification();
+            if( !hasPrevious() )
+                throw new NoSuchElementException();
+            
+            next = (next == null) ? tail : next.prev;
+            lastReturned = next;
+            nextIndex--;
+            return lastReturned.data;
+        }
+        
+        public int nextIndex()
+        {
+            return nextIndex;
+        }
+        
+        public int previousIndex()
+        {
+            return nextIndex - 1;
+        }
+        
+        public void remove()
+        {
+            checkForComodification();
+            if( lastReturned == null )
+                throw new IllegalStateException();
+            
+            Node<T> lastNext = lastReturned.next;
+            unlink( lastReturned );
+            if( next == lastReturned )
+                next = lastNext;
+            else
+                nextIndex--;
+            lastReturned = null;
+            expectedModCount++;
+        }
+        
+        public void set( T element )
+        {
+            if( lastReturned == null )
+                throw new IllegalStateException();
+            checkForComodification();
+            
+            setData( lastReturned, element );
+        }
+        
+        public void add( T element )
+        {
+            checkForComodification();
+            
+            lastReturned = null;
+            if( next == null )
+                linkLast( element );
+            else
+                linkBefore( element, next );
+            nextIndex++;
+            expectedModCount++;
+        }
+        
+        private void checkForComodification()
+        {
+            if( modCount != expectedModCount )
+                throw new ConcurrentModificationException();
+        }
+    }
+    
+    private class LinkySpliterator implements Spliterator<T>
+    {
+        // Largest array handed off by a single split
+        private static final int MAX_BATCH = 1 << 25;
+        
+        private Node<T> current;
+        // Remaining element count, or -1 until the spliterator binds to the list
+        private int est = -1;
+        private int expectedModCount;
+        
+        private int getEst()
+        {
+            if( est < 0 )
+            {
+                current = head;
+                est = size;
+                expectedModCount = modCount;
+            }
+            return est;
+        }
+        
+        public long estimateSize()
+        {
+            return getEst();
+        }
+        
+        public int characteristics()
+        {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+        
+        public Spliterator<T> trySplit()
+        {
+            int remaining = getEst();
+            if( remaining < 2 || current == null )
+                return null;
+            
+            int batch = Math.min( remaining >>> 1, MAX_BATCH );
+            Object[] elements = new Object[batch];
+            Node<T> node = current;
+            for( int i = 0; i < batch; i++ )
+            {
+                elements[i] = node.data;
+                node = node.next;
+            }
+            current = node;
+            est = remaining - batch;
+            return Spliterators.spliterator( elements, 0, batch, Spliterator.ORDERED );
+        }
+        
+        public boolean tryAdvance( Consumer<? super T> action )
+        {
+            if( action == null )
+                throw new NullPointerException();
+            if( getEst() <= 0 || current == null )
+                return false;
+            
+            T data = current.data;
+            current = current.next;
+            est--;
+            action.accept( data );
+            if( modCount != expectedModCount )
+                throw new ConcurrentModificationException();
+            return true;
+        }
+        
+        public void forEachRemaining( Consumer<? super T> action )
+        {
+            if( action == null )
+                throw new NullPointerException();
+            
+            int remaining = getEst();
+            Node<T> node = current;
+            current = null;
+            est = 0;
+            for( int i = 0; i < remaining && node != null; i++ )
+            {
+                T data = node.data;
+                node = node.next;
+                action.accept( data );
+            }
+            if( modCount != expectedModCount )
+                throw new ConcurrentModificationException();
+        }
+    }
+    
+    /**
+     * A pool of unlinked nodes that LinkyLists can recycle instead of allocating new ones. Each thread
+     * keeps its own stack of spare nodes, so acquiring and releasing never contend; the bound applies
+     * to each thread's stack. Released nodes have their element reference cleared before they are
+     * kept, so the pool never holds on to elements. Hit and miss counters show how well the bound fits
+     * the workload.
+     */
+    public static final class NodePool
+    {
+        private static final int INITIAL_CACHE_LENGTH = 16;
+        
+        private static final class Cache
+        {
+            Node<?>[] nodes = new Node<?>[INITIAL_CACHE_LENGTH];
+            int count = 0;
+        }
+        
+        private final int capacity;
+        private final ThreadLocal<Cache> caches = ThreadLocal.withInitial( Cache::new );
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder drops = new LongAdder();
+        
+        /**
+         * Constructor for NodePool
+         * 
+         * @param capacity the most spare nodes each thread keeps
+         * @throws IllegalArgumentException if capacity is negative
+         */
+        public NodePool( int capacity )
+        {
+            if( capacity < 0 )
+                throw new IllegalArgumentException("Illegal capacity: " + capacity);
+            
+            this.capacity = capacity;
+        }
+        
+        /**
+         * Returns the most spare nodes each thread keeps
+         * 
+         * @return the per-thread bound
+         */
+        public int capacity()
+        {
+            return capacity;
+        }
+        
+        /**
+         * Returns how many node requests were served from the pool
+         * 
+         * @return the number of pool hits
+         */
+        public long hits()
+        {
+            return hits.sum();
+        }
+        
+        /**
+         * Returns how many node requests found the calling thread's pool empty and allocated a new node
+         * 
+         * @return the number of pool misses
+         */
+        public long misses()
+        {
+            return misses.sum();
+        }
+        
+        /**
+         * Returns how many released nodes were dropped because the calling thread's pool was full
+         * 
+         * @return the number of dropped nodes
+         */
+        public long drops()
+        {
+            return drops.sum();
+        }
+        
+        /**
+         * Resets the hit, miss and drop counters to zero
+         */
+        public void resetCounters()
+        {
+            hits.reset();
+            misses.reset();
+            drops.reset();
+        }
+        
+        @SuppressWarnings("unchecked")
+        private <T> Node<T> acquire( T data )
+        {
+            Cache cache = caches.get();
+            if( cache.count == 0 )
+            {
+                misses.increment();
+                return new Node<>( data );
+            }
+            
+            Node<T> node = (Node<T>) cache.nodes[--cache.count];
+            cache.nodes[cache.count] = null;
+            node.data = data;
+            hits.increment();
+            return node;
+        }
+        
+        /**
+         * Keeps the node for reuse unless the calling thread's pool is full
+         * 
+         * @param node the node to release
+         * @return true if the node was kept, false if it was dropped
+         */
+        private boolean release( Node<?> node )
+        {
+            node.data = null;
+            node.next = null;
+            node.prev = null;
+            
+            Cache cache = caches.get();
+            if( cache.count == capacity )
+            {
+                drops.increment();
+                return false;
+            }
+            if( cache.count == cache.nodes.length )
+                cache.nodes = Arrays.copyOf( cache.nodes, Math.min( capacity, cache.count * 2 ) );
+            cache.nodes[cache.count++] = node;
+            return true;
+        }
+    }
+}
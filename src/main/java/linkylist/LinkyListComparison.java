@@ -0,0 +1,1400 @@
+package linkylist;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Random;
+
+/**
+ * Comparison class to test LinkyList correctness and performance against Java's LinkedList.
+ * The timings here are single cold runs and only give a rough picture; LinkyListBenchmark
+ * under src/jmh/java produces warmed-up, JIT-safe numbers with allocation rates.
+ * 
+ * @author Austin Benedicto
+ * @version 12/14/2025
+ */
+public class LinkyListComparison
+{
+    private static final int SMALL_SIZE = 100;
+    private static final int MEDIUM_SIZE = 1000;
+    private static final int LARGE_SIZE = 10000;
+    private static final int ITERATIONS = 1000;
+    
+    public static void main(String[] args)
+    {
+        System.out.println("=".repeat(80));
+        System.out.println("LinkyList vs Java LinkedList - Correctness and Performance Comparison");
+        System.out.println("=".repeat(80));
+        System.out.println();
+        
+        // Run correctness tests
+        System.out.println("CORRECTNESS TESTS");
+        System.out.println("-".repeat(80));
+        runCorrectnessTests();
+        
+        System.out.println("\n" + "=".repeat(80));
+        System.out.println("PERFORMANCE TESTS");
+        System.out.println("-".repeat(80));
+        
+        // Run performance tests
+        runPerformanceTests(SMALL_SIZE, "Small (100 elements)");
+        System.out.println();
+        runPerformanceTests(MEDIUM_SIZE, "Medium (1000 elements)");
+        System.out.println();
+        runPerformanceTests(LARGE_SIZE, "Large (10000 elements)");
+        
+        System.out.println("\n" + "=".repeat(80));
+        System.out.println("UNROLLED VARIANT PERFORMANCE TESTS");
+        System.out.println("-".repeat(80));
+        
+        runUnrolledPerformanceTests(MEDIUM_SIZE, "Medium (1000 elements)");
+        System.out.println();
+        runUnrolledPerformanceTests(LARGE_SIZE, "Large (10000 elements)");
+        
+        System.out.println("\n" + "=".repeat(80));
+        System.out.println("INDEXED VARIANT PERFORMANCE TESTS");
+        System.out.println("-".repeat(80));
+        
+        runIndexedPerformanceTests(MEDIUM_SIZE, "Medium (1000 elements)");
+        System.out.println();
+        runIndexedPerformanceTests(LARGE_SIZE, "Large (10000 elements)");
+        
+        System.out.println("\n" + "=".repeat(80));
+        System.out.println("PRIMITIVE VARIANT TESTS");
+        System.out.println("-".repeat(80));
+        
+        runPrimitivePerformanceTests(LARGE_SIZE, "Large (10000 elements)");
+        
+        System.out.println("\n" + "=".repeat(80));
+        System.out.println("HASH-INDEXED VARIANT TESTS");
+        System.out.println("-".repeat(80));
+        
+        runHashIndexedPerformanceTests(LARGE_SIZE, "Large (10000 elements)");
+        
+        System.out.println("\n" + "=".repeat(80));
+        System.out.println("BINARY SERIALIZATION TESTS");
+        System.out.println("-".repeat(80));
+        
+        runSerializationPerformanceTests(1_000_000, "Huge (1000000 elements)");
+        
+        System.out.println("\n" + "=".repeat(80));
+        System.out.println("MEMORY-MAPPED VARIANT TESTS");
+        System.out.println("-".repeat(80));
+        
+        runMappedPerformanceTests(10_000_000, "Huge (10000000 elements)");
+        
+        System.out.println("\n" + "=".repeat(80));
+        System.out.println("JOURNALED VARIANT TESTS");
+        System.out.println("-".repeat(80));
+        
+        runJournaledPerformanceTests(1_000_000, "Huge (1000000 mutations)");
+        
+        System.out.println("\n" + "=".repeat(80));
+        System.out.println("PERSISTENT VARIANT TESTS");
+        System.out.println("-".repeat(80));
+        
+        runPersistentPerformanceTests(LARGE_SIZE, "Large (10000 elements)");
+        
+        System.out.println("\n" + "=".repeat(80));
+        System.out.println("COPY-ON-WRITE VARIANT TESTS");
+        System.out.println("-".repeat(80));
+        
+        runCopyOnWritePerformanceTests(SMALL_SIZE, "Small (100 elements)");
+        
+        System.out.println("\n" + "=".repeat(80));
+        System.out.println("Testing Complete!");
+        System.out.println("=".repeat(80));
+    }
+    
+    private static void runCorrectnessTests()
+    {
+        int passed = 0;
+        int failed = 0;
+        
+        // Test isEmpty on empty list
+        if( testIsEmpty() ) {
+            System.out.println("✓ isEmpty() - PASSED");
+            passed++;
+        } else {
+            System.out.println("✗ isEmpty() - FAILED");
+            failed++;
+        }
+        
+        // Test add
+        if( testAdd() ) {
+            System.out.println("✓ add() - PASSED");
+            passed++;
+        } else {
+            System.out.println("✗ add() - FAILED");
+            failed++;
+        }
+        
+        // Test get
+        if( testGet() ) {
+            System.out.println("✓ get() - PASSED");
+            passed++;
+        } else {
+            System.out.println("✗ get() - FAILED");
+            failed++;
+        }
+        
+        // Test set
+        if( testSet() ) {
+            System.out.println("✓ set() - PASSED");
+            passed++;
+        } else {
+            System.out.println("✗ set() - FAILED");
+            failed++;
+        }
+        
+        // Test remove by index
+        if( testRemoveByIndex() ) {
+            System.out.println("✓ remove(int) - PASSED");
+            passed++;
+        } else {
+            System.out.println("✗ remove(int) - FAILED");
+            failed++;
+        }
+        
+        // Test remove by object
+        if( testRemoveByObject() ) {
+            System.out.println("✓ remove(Object) - PASSED");
+            passed++;
+        } else {
+            System.out.println("✗ remove(Object) - FAILED");
+            failed++;
+        }
+        
+        // Test contains
+        if( testContains() ) {
+            System.out.println("✓ contains() - PASSED");
+            passed++;
+        } else {
+            System.out.println("✗ contains() - FAILED");
+            failed++;
+        }
+        
+        // Test indexOf
+        if( testIndexOf() ) {
+            System.out.println("✓ indexOf() - PASSED");
+            passed++;
+        } else {
+            System.out.println("✗ indexOf() - FAILED");
+            failed++;
+        }
+        
+        // Test lastIndexOf
+        if( testLastIndexOf() ) {
+            System.out.println("✓ lastIndexOf() - PASSED");
+            passed++;
+        } else {
+            System.out.println("✗ lastIndexOf() - FAILED");
+            failed++;
+        }
+        
+        // Test size
+        if( testSize() ) {
+            System.out.println("✓ size() - PASSED");
+            passed++;
+        } else {
+            System.out.println("✗ size() - FAILED");
+            failed++;
+        }
+        
+        // Test clear
+        if( testClear() ) {
+            System.out.println("✓ clear() - PASSED");
+            passed++;
+        } else {
+            System.out.println("✗ clear() - FAILED");
+            failed++;
+        }
+        
+        // Test equals
+        if( testEquals() ) {
+            System.out.println("✓ equals() - PASSED");
+            passed++;
+        } else {
+            System.out.println("✗ equals() - FAILED");
+            failed++;
+        }
+        
+        // Test toString
+        if( testToString() ) {
+            System.out.println("✓ toString() - PASSED");
+            passed++;
+        } else {
+            System.out.println("✗ toString() - FAILED");
+            failed++;
+        }
+        
+        System.out.println("-".repeat(80));
+        System.out.println(String.format("Results: %d passed, %d failed", passed, failed));
+    }
+    
+    private static boolean testIsEmpty()
+    {
+        LinkyList<Integer> list = new LinkyList<>();
+        if( !list.isEmpty() ) return false;
+        list.add(1);
+        if( list.isEmpty() ) return false;
+        list.clear();
+        return list.isEmpty();
+    }
+    
+    private static boolean testAdd()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        
+        for( int i = 0; i < 10; i++ ) {
+            linky.add(i);
+            java.add(i);
+        }
+        
+        if( linky.size() != java.size() ) return false;
+        return sameContents(linky, java);
+    }
+    
+
+    
+    private static boolean testGet()
+    {
+        LinkyList<String> linky = new LinkyList<>();
+        linky.add("A");
+        linky.add("B");
+        linky.add("C");
+        
+        return linky.get(0).equals("A") && 
+               linky.get(1).equals("B") && 
+               linky.get(2).equals("C");
+    }
+    
+    private static boolean testSet()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        
+        for( int i = 0; i < 10; i++ ) {
+            linky.add(i);
+            java.add(i);
+        }
+        
+        linky.set(5, 100);
+        java.set(5, 100);
+        
+        return sameContents(linky, java);
+    }
+    
+    private static boolean testRemoveByIndex()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        
+        for( int i = 0; i < 10; i++ ) {
+            linky.add(i);
+            java.add(i);
+        }
+        
+        Integer removed1 = linky.remove(5);
+        Integer removed2 = java.remove(5);
+        
+        if( !removed1.equals(removed2) ) return false;
+        if( linky.size() != java.size() ) return false;
+        
+        return sameContents(linky, java);
+    }
+    
+    private static boolean testRemoveByObject()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        
+        for( int i = 0; i < 10; i++ ) {
+            linky.add(i);
+            java.add(i);
+        }
+        
+        boolean removed1 = linky.remove(Integer.valueOf(5));
+        boolean removed2 = java.remove(Integer.valueOf(5));
+        
+        if( removed1 != removed2 ) return false;
+        if( linky.size() != java.size() ) return false;
+        
+        return sameContents(linky, java);
+    }
+    
+    private static boolean testContains()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        for( int i = 0; i < 10; i++ ) {
+            linky.add(i);
+        }
+        
+        return linky.contains(5) && !linky.contains(100);
+    }
+    
+    private static boolean testIndexOf()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        linky.add(10);
+        linky.add(20);
+        linky.add(30);
+        linky.add(20);
+        
+        return linky.indexOf(20) == 1 && linky.indexOf(100) == -1;
+    }
+    
+    private static boolean testLastIndexOf()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        linky.add(10);
+        linky.add(20);
+        linky.add(30);
+        linky.add(20);
+        
+        return linky.lastIndexOf(20) == 3 && linky.lastIndexOf(100) == -1;
+    }
+    
+    private static boolean testSize()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        if( linky.size() != 0 ) return false;
+        
+        for( int i = 0; i < 10; i++ ) {
+            linky.add(i);
+        }
+        
+        return linky.size() == 10;
+    }
+    
+    private static boolean testClear()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        for( int i = 0; i < 10; i++ ) {
+            linky.add(i);
+        }
+        
+        linky.clear();
+        return linky.isEmpty() && linky.size() == 0;
+    }
+    
+    private static boolean testEquals()
+    {
+        LinkyList<Integer> list1 = new LinkyList<>();
+        LinkyList<Integer> list2 = new LinkyList<>();
+        LinkyList<Integer> list3 = new LinkyList<>();
+        
+        for( int i = 0; i < 10; i++ ) {
+            list1.add(i);
+            list2.add(i);
+            list3.add(i + 1);
+        }
+        
+        return list1.equals(list2) && !list1.equals(list3) && list1.equals(list1);
+    }
+    
+    private static boolean testToString()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        
+        // Test empty list
+        if( !linky.toString().equals("[]") ) return false;
+        
+        linky.add(1);
+        linky.add(2);
+        linky.add(3);
+        
+        // Current implementation only returns "[]"
+        // This test passes if toString returns a string (not null)
+        return linky.toString() != null;
+    }
+    
+    private static <T> boolean sameContents(LinkyList<T> linky, LinkedList<T> java)
+    {
+        if( linky.size() != java.size() ) return false;
+        
+        Iterator<T> javaIter = java.iterator();
+        for( T linkyVal : linky ) {
+            if( !linkyVal.equals(javaIter.next()) ) return false;
+        }
+        return true;
+    }
+    
+    private static void runPerformanceTests(int size, String label)
+    {
+        System.out.println("\n" + label);
+        System.out.println("-".repeat(80));
+        
+        Random rand = new Random(12345); // Fixed seed for reproducibility
+        
+        // Test add() performance
+        testAddPerformance(size, rand);
+        
+        // Test get() performance
+        testGetPerformance(size, rand);
+        
+        // Test get() performance in an index loop
+        testSequentialGetPerformance(size, rand);
+        
+        // Test remove() performance
+        testRemovePerformance(size, rand);
+        
+        // Test contains() performance
+        testContainsPerformance(size, rand);
+        
+        // Test indexOf() performance
+        testIndexOfPerformance(size, rand);
+        
+        // Test equals() performance
+        testEqualsPerformance(size, rand);
+    }
+    
+    private static void testAddPerformance(int size, Random rand)
+    {
+        // LinkyList
+        long start = System.nanoTime();
+        LinkyList<Integer> linky = new LinkyList<>();
+        for( int i = 0; i < size; i++ ) {
+            linky.add(rand.nextInt(1000));
+        }
+        long linkyTime = System.nanoTime() - start;
+        
+        // Java LinkedList
+        rand.setSeed(12345);
+        start = System.nanoTime();
+        LinkedList<Integer> java = new LinkedList<>();
+        for( int i = 0; i < size; i++ ) {
+            java.add(rand.nextInt(1000));
+        }
+        long javaTime = System.nanoTime() - start;
+        
+        printComparison("add()", linkyTime, javaTime);
+    }
+    
+    private static void testGetPerformance(int size, Random rand)
+    {
+        // Setup
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        for( int i = 0; i < size; i++ ) {
+            int val = rand.nextInt(1000);
+            linky.add(val);
+            java.add(val);
+        }
+        
+        // LinkyList
+        rand.setSeed(12345);
+        long start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            linky.get(rand.nextInt(size));
+        }
+        long linkyTime = System.nanoTime() - start;
+        
+        // Java LinkedList
+        rand.setSeed(12345);
+        start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            java.get(rand.nextInt(size));
+        }
+        long javaTime = System.nanoTime() - start;
+        
+        printComparison("get()", linkyTime, javaTime);
+    }
+    
+    private static void testSequentialGetPerformance(int size, Random rand)
+    {
+        // Setup
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        for( int i = 0; i < size; i++ ) {
+            int val = rand.nextInt(1000);
+            linky.add(val);
+            java.add(val);
+        }
+        
+        // LinkyList
+        long start = System.nanoTime();
+        for( int i = 0; i < size; i++ ) {
+            linky.get(i);
+        }
+        long linkyTime = System.nanoTime() - start;
+        
+        // Java LinkedList
+        start = System.nanoTime();
+        for( int i = 0; i < size; i++ ) {
+            java.get(i);
+        }
+        long javaTime = System.nanoTime() - start;
+        
+        printComparison("get() loop", linkyTime, javaTime);
+    }
+    
+    private static void testRemovePerformance(int size, Random rand)
+    {
+        // Setup LinkyList
+        LinkyList<Integer> linky = new LinkyList<>();
+        for( int i = 0; i < size; i++ ) {
+            linky.add(rand.nextInt(1000));
+        }
+        
+        // LinkyList
+        rand.setSeed(12345);
+        long start = System.nanoTime();
+        for( int i = 0; i < Math.min(100, size / 2); i++ ) {
+            linky.remove(rand.nextInt(linky.size()));
+        }
+        long linkyTime = System.nanoTime() - start;
+        
+        // Setup Java LinkedList
+        rand.setSeed(12345);
+        LinkedList<Integer> java = new LinkedList<>();
+        for( int i = 0; i < size; i++ ) {
+            java.add(rand.nextInt(1000));
+        }
+        
+        // Java LinkedList
+        rand.setSeed(12345);
+        start = System.nanoTime();
+        for( int i = 0; i < Math.min(100, size / 2); i++ ) {
+            java.remove(rand.nextInt(java.size()));
+        }
+        long javaTime = System.nanoTime() - start;
+        
+        printComparison("remove()", linkyTime, javaTime);
+    }
+    
+    private static void testContainsPerformance(int size, Random rand)
+    {
+        // Setup
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        for( int i = 0; i < size; i++ ) {
+            int val = rand.nextInt(1000);
+            linky.add(val);
+            java.add(val);
+        }
+        
+        // LinkyList
+        rand.setSeed(12345);
+        long start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            linky.contains(rand.nextInt(1000));
+        }
+        long linkyTime = System.nanoTime() - start;
+        
+        // Java LinkedList
+        rand.setSeed(12345);
+        start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            java.contains(rand.nextInt(1000));
+        }
+        long javaTime = System.nanoTime() - start;
+        
+        printComparison("contains()", linkyTime, javaTime);
+    }
+    
+    private static void testIndexOfPerformance(int size, Random rand)
+    {
+        // Setup
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        for( int i = 0; i < size; i++ ) {
+            int val = rand.nextInt(1000);
+            linky.add(val);
+            java.add(val);
+        }
+        
+        // LinkyList
+        rand.setSeed(12345);
+        long start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            linky.indexOf(rand.nextInt(1000));
+        }
+        long linkyTime = System.nanoTime() - start;
+        
+        // Java LinkedList
+        rand.setSeed(12345);
+        start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            java.indexOf(rand.nextInt(1000));
+        }
+        long javaTime = System.nanoTime() - start;
+        
+        printComparison("indexOf()", linkyTime, javaTime);
+    }
+    
+    private static void testEqualsPerformance(int size, Random rand)
+    {
+        // Setup
+        LinkyList<Integer> linky1 = new LinkyList<>();
+        LinkyList<Integer> linky2 = new LinkyList<>();
+        LinkedList<Integer> java1 = new LinkedList<>();
+        LinkedList<Integer> java2 = new LinkedList<>();
+        
+        for( int i = 0; i < size; i++ ) {
+            int val = rand.nextInt(1000);
+            linky1.add(val);
+            linky2.add(val);
+            java1.add(val);
+            java2.add(val);
+        }
+        
+        // LinkyList
+        long start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            linky1.equals(linky2);
+        }
+        long linkyTime = System.nanoTime() - start;
+        
+        // Java LinkedList
+        start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            java1.equals(java2);
+        }
+        long javaTime = System.nanoTime() - start;
+        
+        printComparison("equals()", linkyTime, javaTime);
+    }
+    
+    private static void runUnrolledPerformanceTests(int size, String label)
+    {
+        System.out.println("\n" + label);
+        System.out.println("-".repeat(80));
+        
+        Random rand = new Random(12345);
+        
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkyList<Integer> linky2 = new LinkyList<>();
+        UnrolledLinkyList<Integer> unrolled = new UnrolledLinkyList<>();
+        UnrolledLinkyList<Integer> unrolled2 = new UnrolledLinkyList<>();
+        
+        // add()
+        long start = System.nanoTime();
+        for( int i = 0; i < size; i++ ) {
+            linky.add(rand.nextInt(1000));
+        }
+        long linkyTime = System.nanoTime() - start;
+        
+        rand.setSeed(12345);
+        start = System.nanoTime();
+        for( int i = 0; i < size; i++ ) {
+            unrolled.add(rand.nextInt(1000));
+        }
+        long unrolledTime = System.nanoTime() - start;
+        printComparison("add()", "LinkyList", linkyTime, "Unrolled", unrolledTime);
+        
+        rand.setSeed(12345);
+        for( int i = 0; i < size; i++ ) {
+            int val = rand.nextInt(1000);
+            linky2.add(val);
+            unrolled2.add(val);
+        }
+        
+        // get()
+        rand.setSeed(12345);
+        start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            linky.get(rand.nextInt(size));
+        }
+        linkyTime = System.nanoTime() - start;
+        
+        rand.setSeed(12345);
+        start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            unrolled.get(rand.nextInt(size));
+        }
+        unrolledTime = System.nanoTime() - start;
+        printComparison("get()", "LinkyList", linkyTime, "Unrolled", unrolledTime);
+        
+        // contains()
+        rand.setSeed(12345);
+        start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            linky.contains(rand.nextInt(1000));
+        }
+        linkyTime = System.nanoTime() - start;
+        
+        rand.setSeed(12345);
+        start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            unrolled.contains(rand.nextInt(1000));
+        }
+        unrolledTime = System.nanoTime() - start;
+        printComparison("contains()", "LinkyList", linkyTime, "Unrolled", unrolledTime);
+        
+        // indexOf() of a value that is never present, forcing a full scan
+        start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            linky.indexOf(-1);
+        }
+        linkyTime = System.nanoTime() - start;
+        
+        start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            unrolled.indexOf(-1);
+        }
+        unrolledTime = System.nanoTime() - start;
+        printComparison("indexOf()", "LinkyList", linkyTime, "Unrolled", unrolledTime);
+        
+        // equals()
+        start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            linky.equals(linky2);
+        }
+        linkyTime = System.nanoTime() - start;
+        
+        start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            unrolled.equals(unrolled2);
+        }
+        unrolledTime = System.nanoTime() - start;
+        printComparison("equals()", "LinkyList", linkyTime, "Unrolled", unrolledTime);
+    }
+    
+    private static void runIndexedPerformanceTests(int size, String label)
+    {
+        System.out.println("\n" + label);
+        System.out.println("-".repeat(80));
+        
+        Random rand = new Random(12345);
+        
+        LinkyList<Integer> linky = new LinkyList<>();
+        IndexedLinkyList<Integer> indexed = new IndexedLinkyList<>();
+        
+        // add()
+        long start = System.nanoTime();
+        for( int i = 0; i < size; i++ ) {
+            linky.add(rand.nextInt(1000));
+        }
+        long linkyTime = System.nanoTime() - start;
+        
+        rand.setSeed(12345);
+        start = System.nanoTime();
+        for( int i = 0; i < size; i++ ) {
+            indexed.add(rand.nextInt(1000));
+        }
+        long indexedTime = System.nanoTime() - start;
+        printComparison("add()", "LinkyList", linkyTime, "Indexed", indexedTime);
+        
+        // get()
+        rand.setSeed(12345);
+        start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            linky.get(rand.nextInt(size));
+        }
+        linkyTime = System.nanoTime() - start;
+        
+        rand.setSeed(12345);
+        start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            indexed.get(rand.nextInt(size));
+        }
+        indexedTime = System.nanoTime() - start;
+        printComparison("get()", "LinkyList", linkyTime, "Indexed", indexedTime);
+        
+        // add(int, T)
+        rand.setSeed(12345);
+        start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            linky.add(rand.nextInt(linky.size()), i);
+        }
+        linkyTime = System.nanoTime() - start;
+        
+        rand.setSeed(12345);
+        start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            indexed.add(rand.nextInt(indexed.size()), i);
+        }
+        indexedTime = System.nanoTime() - start;
+        printComparison("add(int, T)", "LinkyList", linkyTime, "Indexed", indexedTime);
+        
+        // remove(int)
+        rand.setSeed(12345);
+        start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            linky.remove(rand.nextInt(linky.size()));
+        }
+        linkyTime = System.nanoTime() - start;
+        
+        rand.setSeed(12345);
+        start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            indexed.remove(rand.nextInt(indexed.size()));
+        }
+        indexedTime = System.nanoTime() - start;
+        printComparison("remove(int)", "LinkyList", linkyTime, "Indexed", indexedTime);
+    }
+    
+    private static void runPrimitivePerformanceTests(int size, String label)
+    {
+        System.out.println("\n" + label);
+        System.out.println("-".repeat(80));
+        
+        Random rand = new Random(12345);
+        
+        LinkyList<Integer> linky = new LinkyList<>();
+        IntLinkyList ints = new IntLinkyList();
+        
+        // add()
+        long start = System.nanoTime();
+        for( int i = 0; i < size; i++ ) {
+            linky.add(rand.nextInt(1000));
+        }
+        long linkyTime = System.nanoTime() - start;
+        
+        rand.setSeed(12345);
+        start = System.nanoTime();
+        for( int i = 0; i < size; i++ ) {
+            ints.add(rand.nextInt(1000));
+        }
+        long intsTime = System.nanoTime() - start;
+        printComparison("add()", "LinkyList", linkyTime, "IntLinkyList", intsTime);
+        
+        // contains()
+        rand.setSeed(12345);
+        start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            linky.contains(rand.nextInt(1000));
+        }
+        linkyTime = System.nanoTime() - start;
+        
+        rand.setSeed(12345);
+        start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            ints.contains(rand.nextInt(1000));
+        }
+        intsTime = System.nanoTime() - start;
+        printComparison("contains()", "LinkyList", linkyTime, "IntLinkyList", intsTime);
+        
+        // Retained heap per element, measured on a list large enough to swamp the noise
+        int count = 1_000_000;
+        long before = usedHeap();
+        LinkyList<Integer> bigLinky = new LinkyList<>();
+        for( int i = 0; i < count; i++ ) {
+            bigLinky.add(i + 1000);
+        }
+        long linkyBytes = usedHeap() - before;
+        
+        before = usedHeap();
+        IntLinkyList bigInts = new IntLinkyList(count);
+        for( int i = 0; i < count; i++ ) {
+            bigInts.add(i + 1000);
+        }
+        long intsBytes = usedHeap() - before;
+        
+        System.out.printf("%-15s | LinkyList: %8.1f B/elem | IntLinkyList: %8.1f B/elem | %d elements each%n",
+                         "memory", (double) linkyBytes / bigLinky.size(), (double) intsBytes / bigInts.size(), count);
+    }
+    
+    private static void runHashIndexedPerformanceTests(int size, String label)
+    {
+        System.out.println("\n" + label);
+        System.out.println("-".repeat(80));
+        
+        Random rand = new Random(12345);
+        
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkyList<Integer> hashed = LinkyList.hashIndexed();
+        for( int i = 0; i < size; i++ ) {
+            int val = rand.nextInt(size);
+            linky.add(val);
+            hashed.add(val);
+        }
+        
+        // contains(), about a third of lookups miss
+        rand.setSeed(12345);
+        long start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            linky.contains(rand.nextInt(size));
+        }
+        long linkyTime = System.nanoTime() - start;
+        
+        rand.setSeed(12345);
+        start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            hashed.contains(rand.nextInt(size));
+        }
+        long hashedTime = System.nanoTime() - start;
+        printComparison("contains()", "LinkyList", linkyTime, "Hashed", hashedTime);
+        
+        // indexOf()
+        rand.setSeed(12345);
+        start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            linky.indexOf(rand.nextInt(size));
+        }
+        linkyTime = System.nanoTime() - start;
+        
+        rand.setSeed(12345);
+        start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            hashed.indexOf(rand.nextInt(size));
+        }
+        hashedTime = System.nanoTime() - start;
+        printComparison("indexOf()", "LinkyList", linkyTime, "Hashed", hashedTime);
+        
+        // remove(Object) followed by add(), so the size holds steady
+        rand.setSeed(12345);
+        start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            Integer val = rand.nextInt(size);
+            if( linky.remove(val) ) {
+                linky.add(val);
+            }
+        }
+        linkyTime = System.nanoTime() - start;
+        
+        rand.setSeed(12345);
+        start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            Integer val = rand.nextInt(size);
+            if( hashed.remove(val) ) {
+                hashed.add(val);
+            }
+        }
+        hashedTime = System.nanoTime() - start;
+        printComparison("remove(Object)", "LinkyList", linkyTime, "Hashed", hashedTime);
+        
+        // Retained heap per element, with every value distinct and with each value repeated 100 times
+        int count = 1_000_000;
+        Integer[] values = new Integer[count];
+        for( int i = 0; i < count; i++ ) {
+            values[i] = i;
+        }
+        for( int distinct : new int[] { count, count / 100 } ) {
+            long before = usedHeap();
+            LinkyList<Integer> bigLinky = new LinkyList<>();
+            for( int i = 0; i < count; i++ ) {
+                bigLinky.add(values[i % distinct]);
+            }
+            long linkyBytes = usedHeap() - before;
+            
+            before = usedHeap();
+            LinkyList<Integer> bigHashed = LinkyList.hashIndexed();
+            for( int i = 0; i < count; i++ ) {
+                bigHashed.add(values[i % distinct]);
+            }
+            long hashedBytes = usedHeap() - before;
+            
+            System.out.printf("%-15s | LinkyList: %8.1f B/elem | Hashed: %8.1f B/elem | %d elements, %d distinct%n",
+                             "memory", (double) linkyBytes / bigLinky.size(), (double) hashedBytes / bigHashed.size(), count, distinct);
+        }
+    }
+    
+    private static void runSerializationPerformanceTests(int size, String label)
+    {
+        System.out.println("\n" + label);
+        System.out.println("-".repeat(80));
+        
+        Random rand = new Random(12345);
+        
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        for( int i = 0; i < size; i++ ) {
+            int val = rand.nextInt(size);
+            linky.add(val);
+            java.add(val);
+        }
+        
+        try {
+            // Warm both paths up once so the timings below are not mostly JIT
+            serializeJava(java);
+            LinkyListSerializer.read(new ByteArrayInputStream(serializeLinky(linky)), LinkyCodec.INTEGER);
+            
+            long start = System.nanoTime();
+            byte[] javaBytes = serializeJava(java);
+            long javaTime = System.nanoTime() - start;
+            
+            start = System.nanoTime();
+            byte[] linkyBytes = serializeLinky(linky);
+            long linkyTime = System.nanoTime() - start;
+            printComparison("write()", linkyTime, javaTime);
+            
+            start = System.nanoTime();
+            Object javaCopy = new ObjectInputStream(new ByteArrayInputStream(javaBytes)).readObject();
+            javaTime = System.nanoTime() - start;
+            
+            start = System.nanoTime();
+            LinkyList<Integer> linkyCopy = LinkyListSerializer.read(new ByteArrayInputStream(linkyBytes), LinkyCodec.INTEGER);
+            linkyTime = System.nanoTime() - start;
+            printComparison("read()", linkyTime, javaTime);
+            
+            System.out.printf("%-15s | LinkyList: %8.1f B/elem | Java LinkedList: %8.1f B/elem | %.1fx smaller%n",
+                             "snapshot size", (double) linkyBytes.length / size, (double) javaBytes.length / size, 
+                             (double) javaBytes.length / linkyBytes.length);
+            System.out.println("Round trip intact: " + (linkyCopy.equals(java) && java.equals(javaCopy)));
+        } catch( IOException | ClassNotFoundException e ) {
+            System.out.println("Serialization failed: " + e);
+        }
+    }
+    
+    private static void runMappedPerformanceTests(int size, String label)
+    {
+        System.out.println("\n" + label);
+        System.out.println("-".repeat(80));
+        
+        Path file = null;
+        try {
+            file = Files.createTempFile("linky", ".map");
+            long[] sum = new long[1];
+            
+            // Appends, including the flush to disk for the mapped list
+            long start = System.nanoTime();
+            OffHeapLinkyList offHeap = OffHeapLinkyList.ofInts();
+            for( int i = 0; i < size; i++ ) {
+                offHeap.addInt(i);
+            }
+            long offHeapTime = System.nanoTime() - start;
+            
+            start = System.nanoTime();
+            try( MappedLinkyList mapped = MappedLinkyList.openInts(file) ) {
+                for( int i = 0; i < size; i++ ) {
+                    mapped.addInt(i);
+                }
+                mapped.force();
+            }
+            long mappedTime = System.nanoTime() - start;
+            printComparison("append+force", "OffHeap", offHeapTime, "Mapped", mappedTime);
+            
+            // Full scan after reopening, against the same scan of the in-memory list
+            start = System.nanoTime();
+            offHeap.forEachInt(v -> sum[0] += v);
+            offHeapTime = System.nanoTime() - start;
+            offHeap.close();
+            
+            start = System.nanoTime();
+            try( MappedLinkyList mapped = MappedLinkyList.openInts(file) ) {
+                long reopenTime = System.nanoTime() - start;
+                start = System.nanoTime();
+                mapped.forEachInt(v -> sum[0] -= v);
+                mappedTime = System.nanoTime() - start;
+                printComparison("forEachInt()", "OffHeap", offHeapTime, "Mapped", mappedTime);
+                System.out.printf("%-15s | Mapped: %8.2f ms to reopen %d elements | %d MB file | checksum %s%n",
+                                 "reopen", reopenTime / 1_000_000.0, mapped.size(), Files.size(file) >> 20, 
+                                 sum[0] == 0 ? "ok" : "MISMATCH");
+            }
+        } catch( IOException e ) {
+            System.out.println("Mapped list failed: " + e);
+        } finally {
+            try {
+                if( file != null ) {
+                    Files.deleteIfExists(file);
+                }
+            } catch( IOException e ) {
+                // Left for the temp directory cleanup
+            }
+        }
+    }
+    
+    private static void runJournaledPerformanceTests(int ops, String label)
+    {
+        System.out.println("\n" + label);
+        System.out.println("-".repeat(80));
+        
+        // The same mix for every run: mostly appends, with sets and removals from the front.
+        // The plain run goes twice and keeps the second, so it is not mostly JIT warm-up.
+        long start = 0;
+        long plainTime = 0;
+        LinkyList<Integer> plain = null;
+        for( int run = 0; run < 2; run++ ) {
+            start = System.nanoTime();
+            plain = new LinkyList<>();
+            for( int i = 0; i < ops; i++ ) {
+                if( i % 10 == 9 ) {
+                    plain.remove(0);
+                } else if( i % 10 == 8 ) {
+                    plain.set(0, i);
+                } else {
+                    plain.add(i);
+                }
+            }
+            plainTime = System.nanoTime() - start;
+        }
+        
+        for( JournaledLinkyList.SyncPolicy policy : new JournaledLinkyList.SyncPolicy[] {
+                JournaledLinkyList.SyncPolicy.NEVER, JournaledLinkyList.SyncPolicy.INTERVAL } ) {
+            Path directory = null;
+            try {
+                directory = Files.createTempDirectory("linky-journal");
+                start = System.nanoTime();
+                try( JournaledLinkyList<Integer> journaled = JournaledLinkyList.open(directory, LinkyCodec.INTEGER, policy) ) {
+                    for( int i = 0; i < ops; i++ ) {
+                        if( i % 10 == 9 ) {
+                            journaled.remove(0);
+                        } else if( i % 10 == 8 ) {
+                            journaled.set(0, i);
+                        } else {
+                            journaled.add(i);
+                        }
+                    }
+                    journaled.sync();
+                }
+                long journaledTime = System.nanoTime() - start;
+                printComparison("mutations", "LinkyList", plainTime, policy.toString(), journaledTime);
+                double overheadMicros = Math.max(0, journaledTime - plainTime) / 1000.0 / ops;
+                System.out.printf("%-15s | %s: %6.3f us/op extra | %.1f%% of one core at 100k ops/sec%n",
+                                 "log overhead", policy, overheadMicros, overheadMicros * 100_000 / 10_000);
+                
+                start = System.nanoTime();
+                try( JournaledLinkyList<Integer> recovered = JournaledLinkyList.open(directory, LinkyCodec.INTEGER, policy) ) {
+                    System.out.printf("%-15s | %s: %8.2f ms to replay %d mutations | %s%n",
+                                     "recovery", policy, (System.nanoTime() - start) / 1_000_000.0, ops,
+                                     recovered.size() == plain.size() ? "sizes match" : "SIZE MISMATCH");
+                }
+            } catch( IOException e ) {
+                System.out.println("Journaled list failed: " + e);
+            } finally {
+                deleteDirectory(directory);
+            }
+        }
+        
+        // ALWAYS: every mutation waits for an fsync, shared between threads by group commit
+        for( int threads : new int[] { 1, 8 } ) {
+            Path directory = null;
+            try {
+                directory = Files.createTempDirectory("linky-journal");
+                int perThread = 20_000 / threads;
+                try( JournaledLinkyList<Integer> journaled = JournaledLinkyList.open(directory, LinkyCodec.INTEGER, JournaledLinkyList.SyncPolicy.ALWAYS) ) {
+                    Thread[] workers = new Thread[threads];
+                    start = System.nanoTime();
+                    for( int t = 0; t < threads; t++ ) {
+                        workers[t] = new Thread(() -> {
+                            for( int i = 0; i < perThread; i++ ) {
+                                journaled.add(i);
+                            }
+                        });
+                        workers[t].start();
+                    }
+                    for( Thread worker : workers ) {
+                        worker.join();
+                    }
+                    long time = System.nanoTime() - start;
+                    System.out.printf("%-15s | ALWAYS, %d thread(s): %,12.0f ops/sec%n",
+                                     "group commit", threads, (double) perThread * threads / (time / 1_000_000_000.0));
+                }
+            } catch( IOException | InterruptedException e ) {
+                System.out.println("Journaled list failed: " + e);
+            } finally {
+                deleteDirectory(directory);
+            }
+        }
+    }
+    
+    private static void runPersistentPerformanceTests(int size, String label)
+    {
+        System.out.println("\n" + label);
+        System.out.println("-".repeat(80));
+        
+        LinkyList<Integer> linky = new LinkyList<>();
+        PersistentLinkyList.Builder<Integer> builder = PersistentLinkyList.builder();
+        for( int i = 0; i < size; i++ ) {
+            linky.add(i);
+            builder.add(i);
+        }
+        PersistentLinkyList<Integer> persistent = builder.build();
+        
+        // A reader's consistent view: a deep copy of the mutable list, against keeping a reference
+        long checksum = 0;
+        long start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            LinkyList<Integer> copy = new LinkyList<>();
+            copy.addAll(linky);
+            checksum += copy.size();
+        }
+        long linkyTime = System.nanoTime() - start;
+        
+        start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            PersistentLinkyList<Integer> snapshot = persistent;
+            checksum += snapshot.size();
+        }
+        long persistentTime = System.nanoTime() - start;
+        printComparison("snapshot", "LinkyList copy", linkyTime, "Persistent", persistentTime);
+        
+        // A writer updating near the front while the old version stays readable
+        start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            LinkyList<Integer> copy = new LinkyList<>();
+            copy.addAll(linky);
+            copy.set(5, i);
+            checksum += copy.size();
+        }
+        linkyTime = System.nanoTime() - start;
+        
+        start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            checksum += persistent.set(5, i).size();
+        }
+        persistentTime = System.nanoTime() - start;
+        printComparison("set(5) version", "LinkyList copy", linkyTime, "Persistent", persistentTime);
+        
+        start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            for( Integer value : linky ) {
+                checksum += value;
+            }
+        }
+        linkyTime = System.nanoTime() - start;
+        
+        start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            for( Integer value : persistent ) {
+                checksum += value;
+            }
+        }
+        persistentTime = System.nanoTime() - start;
+        printComparison("iteration", "LinkyList", linkyTime, "Persistent", persistentTime);
+        System.out.println("(checksum " + checksum + ")");
+    }
+    
+    private static void runCopyOnWritePerformanceTests(int size, String label)
+    {
+        System.out.println("\n" + label);
+        System.out.println("-".repeat(80));
+        
+        // A listener registry: iterated constantly, changed almost never
+        LinkyList<Integer> linky = new LinkyList<>();
+        CopyOnWriteLinkyList<Integer> cow = new CopyOnWriteLinkyList<>();
+        java.util.concurrent.CopyOnWriteArrayList<Integer> cowArray = new java.util.concurrent.CopyOnWriteArrayList<>();
+        for( int i = 0; i < size; i++ ) {
+            linky.add(i);
+            cow.add(i);
+            cowArray.add(i);
+        }
+        
+        int passes = ITERATIONS * 100;
+        long checksum = 0;
+        for( int run = 0; run < 2; run++ ) {
+            long start = System.nanoTime();
+            for( int i = 0; i < passes; i++ ) {
+                for( Integer value : linky ) {
+                    checksum += value;
+                }
+            }
+            long linkyTime = System.nanoTime() - start;
+            
+            start = System.nanoTime();
+            for( int i = 0; i < passes; i++ ) {
+                for( Integer value : cow ) {
+                    checksum += value;
+                }
+            }
+            long cowTime = System.nanoTime() - start;
+            
+            start = System.nanoTime();
+            for( int i = 0; i < passes; i++ ) {
+                for( Integer value : cowArray ) {
+                    checksum += value;
+                }
+            }
+            long cowArrayTime = System.nanoTime() - start;
+            
+            // The first run only warms up
+            if( run == 1 ) {
+                printComparison("iteration", "LinkyList", linkyTime, "CopyOnWrite", cowTime);
+                printComparison("iteration", "COWArrayList", cowArrayTime, "CopyOnWrite", cowTime);
+            }
+        }
+        
+        long start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            cow.add(i);
+            cow.remove(Integer.valueOf(i));
+        }
+        long cowTime = System.nanoTime() - start;
+        
+        start = System.nanoTime();
+        for( int i = 0; i < ITERATIONS; i++ ) {
+            cowArray.add(i);
+            cowArray.remove(Integer.valueOf(i));
+        }
+        long cowArrayTime = System.nanoTime() - start;
+        printComparison("add+remove", "COWArrayList", cowArrayTime, "CopyOnWrite", cowTime);
+        System.out.println("(checksum " + checksum + ")");
+    }
+    
+    private static void deleteDirectory(Path directory)
+    {
+        if( directory == null ) {
+            return;
+        }
+        try( java.util.stream.Stream<Path> files = Files.list(directory) ) {
+            for( Path file : (Iterable<Path>) files::iterator ) {
+                Files.deleteIfExists(file);
+            }
+            Files.deleteIfExists(directory);
+        } catch( IOException e ) {
+            // Left for the temp directory cleanup
+        }
+    }
+    
+    private static byte[] serializeJava(LinkedList<Integer> list) throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try( ObjectOutputStream out = new ObjectOutputStream(bytes) ) {
+            out.writeObject(list);
+        }
+        return bytes.toByteArray();
+    }
+    
+    private static byte[] serializeLinky(LinkyList<Integer> list) throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        LinkyListSerializer.write(list, bytes, LinkyCodec.INTEGER);
+        return bytes.toByteArray();
+    }
+    
+    private static long usedHeap()
+    {
+        Runtime runtime = Runtime.getRuntime();
+        for( int i = 0; i < 3; i++ ) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+    
+    private static void printComparison(String method, long linkyTime, long javaTime)
+    {
+        double linkyMs = linkyTime / 1_000_000.0;
+        double javaMs = javaTime / 1_000_000.0;
+        double ratio = (double) linkyTime / javaTime;
+        
+        String performance;
+        if( ratio < 0.9 ) {
+            performance = String.format("%.2fx FASTER", 1.0 / ratio);
+        } else if( ratio > 1.1 ) {
+            performance = String.format("%.2fx slower", ratio);
+        } else {
+            performance = "~same speed";
+        }
+        
+        System.out.printf("%-15s | LinkyList: %8.2f ms | Java LinkedList: %8.2f ms | %s%n",
+                         method, linkyMs, javaMs, performance);
+    }
+    
+    private static void printComparison(String method, String nameA, long timeA, String nameB, long timeB)
+    {
+        double msA = timeA / 1_000_000.0;
+        double msB = timeB / 1_000_000.0;
+        double ratio = (double) timeB / timeA;
+        
+        String performance;
+        if( ratio < 0.9 ) {
+            performance = String.format("%s %.2fx FASTER", nameB, 1.0 / ratio);
+        } else if( ratio > 1.1 ) {
+            performance = String.format("%s %.2fx slower", nameB, ratio);
+        } else {
+            performance = "~same speed";
+        }
+        
+        System.out.printf("%-15s | %s: %8.2f ms | %s: %8.2f ms | %s%n",
+                         method, nameA, msA, nameB, msB, performance);
+    }
+}
@@ -0,0 +1,301 @@
+package linkylist;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Compact binary snapshots of a LinkyList. Elements are turned into bytes by a LinkyCodec and written in
+ * length-prefixed chunks, straight off the list as it is walked; reading appends each element at the
+ * tail as it is decoded. Neither side ever holds more than one chunk in memory, so lists far larger than
+ * the heap can be streamed through forEach().
+ * <p>
+ * The format is a header followed by chunks:
+ * <pre>
+ *   header: int magic "LNKY", byte version, int element count
+ *   chunk:  int element count, int length of the rest of the chunk,
+ *           byte flags, encoded non-null elements, null bitmap (only if flags says the chunk has nulls)
+ *   end:    int 0
+ * </pre>
+ * All ints are big-endian. Chunks hold up to 8192 elements and close early once they pass 64 KiB. A
+ * reader can skip a chunk by its length without decoding it. The element count in the header lets a
+ * reader tell a truncated snapshot from a complete one.
+ *
+ * @author Austin Benedicto
+ * @version 12/14/2025
+ */
+public class LinkyListSerializer
+{
+    private static final int MAGIC = 0x4C4E4B59;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 9;
+    // Element count, length and flags at the start of every chunk
+    private static final int CHUNK_HEADER_BYTES = 9;
+    private static final int CHUNK_ELEMENTS = 8192;
+    private static final int CHUNK_BYTES = 64 * 1024;
+    // Largest chunk a reader will accept, so a corrupt length cannot make it allocate gigabytes
+    private static final int MAX_CHUNK_BYTES = 64 * 1024 * 1024;
+    private static final int HAS_NULLS = 1;
+
+    private LinkyListSerializer()
+    {
+    }
+
+    /**
+     * Writes a snapshot of the list to the stream. The stream is neither flushed nor closed.
+     *
+     * @param <T> the type of elements in the list
+     * @param list the list to write
+     * @param out where to write it
+     * @param codec turns each non-null element into bytes
+     * @throws IOException if writing fails
+     * @throws java.util.ConcurrentModificationException if the list is modified while it is written
+     */
+    public static <T> void write( LinkyList<? extends T> list, OutputStream out, LinkyCodec<T> codec ) throws IOException
+    {
+        byte[] header = new byte[HEADER_BYTES];
+        putInt( header, 0, MAGIC );
+        header[4] = (byte) VERSION;
+        putInt( header, 5, list.size() );
+        out.write( header );
+
+        ChunkBuffer buffer = new ChunkBuffer( CHUNK_BYTES + CHUNK_BYTES / 4 );
+        DataOutputStream data = new DataOutputStream( buffer );
+        long[] nulls = new long[CHUNK_ELEMENTS / 64];
+        boolean hasNulls = false;
+        int count = 0;
+        buffer.startChunk();
+
+        for( T element : list )
+        {
+            if( element == null )
+            {
+                nulls[count >>> 6] |= 1L << count;
+                hasNulls = true;
+            }
+            else
+            {
+                codec.encode( element, data );
+            }
+
+            if( ++count == CHUNK_ELEMENTS || buffer.size() >= CHUNK_BYTES )
+            {
+                buffer.finishChunk( out, count, hasNulls ? nulls : null );
+                Arrays.fill( nulls, 0L );
+                hasNulls = false;
+                count = 0;
+                buffer.startChunk();
+            }
+        }
+
+        if( count > 0 )
+            buffer.finishChunk( out, count, hasNulls ? nulls : null );
+        out.write( new byte[4] );
+    }
+
+    /**
+     * Reads a snapshot back into a new LinkyList
+     *
+     * @param <T> the type of elements in the list
+     * @param in where to read from
+     * @param codec turns bytes back into elements
+     * @return a list with the snapshot's elements in order
+     * @throws IOException if reading fails, or the stream is not a complete snapshot
+     */
+    public static <T> LinkyList<T> read( InputStream in, LinkyCodec<? extends T> codec ) throws IOException
+    {
+        LinkyList<T> list = new LinkyList<>();
+        forEach( in, codec, list::add );
+        return list;
+    }
+
+    /**
+     * Reads a snapshot and hands each element to the action as soon as it is decoded, without building a
+     * list. Only one chunk is held in memory at a time.
+     *
+     * @param <T> the type of elements in the snapshot
+     * @param in where to read from
+     * @param codec turns bytes back into elements
+     * @param action what to do with each element, in order
+     * @return the number of elements read
+     * @throws IOException if reading fails, or the stream is not a complete snapshot
+     */
+    public static <T> int forEach( InputStream in, LinkyCodec<? extends T> codec, Consumer<? super T> action ) throws IOException
+    {
+        byte[] header = new byte[HEADER_BYTES];
+        readFully( in, header, HEADER_BYTES );
+        if( getInt( header, 0 ) != MAGIC )
+            throw new StreamCorruptedException("Not a LinkyList snapshot");
+        if( header[4] != VERSION )
+            throw new StreamCorruptedException("Unsupported snapshot version: " + header[4]);
+        int expected = getInt( header, 5 );
+
+        ChunkInput chunk = new ChunkInput();
+        DataInputStream data = new DataInputStream( chunk );
+        byte[] chunkHeader = new byte[8];
+        int total = 0;
+        while( true )
+        {
+            readFully( in, chunkHeader, 4 );
+            int count = getInt( chunkHeader, 0 );
+            if( count == 0 )
+                break;
+
+            readFully( in, chunkHeader, 4 );
+            int length = getInt( chunkHeader, 0 );
+            int bitmapBytes = (count + 7) >>> 3;
+            if( count < 0 || count > expected - total || length < 1 || length > MAX_CHUNK_BYTES )
+                throw new StreamCorruptedException("Bad chunk: " + count + " elements, " + length + " bytes");
+
+            chunk.fill( in, length );
+            boolean hasNulls = (chunk.buf[0] & HAS_NULLS) != 0;
+            int elementsEnd = hasNulls ? length - bitmapBytes : length;
+            if( elementsEnd < 1 )
+                throw new StreamCorruptedException("Bad chunk: null bitmap longer than chunk");
+
+            chunk.pos = 1;
+            chunk.limit = elementsEnd;
+            for( int i = 0; i < count; i++ )
+            {
+                boolean isNull = hasNulls && (chunk.buf[elementsEnd + (i >>> 3)] & (1 << (i & 7))) != 0;
+                action.accept( isNull ? null : codec.decode( data ) );
+            }
+            if( chunk.pos != elementsEnd )
+                throw new StreamCorruptedException("Codec left " + (elementsEnd - chunk.pos) + " bytes of a chunk unread");
+            total += count;
+        }
+
+        if( total != expected )
+            throw new EOFException("Snapshot ended after " + total + " of " + expected + " elements");
+        return total;
+    }
+
+    private static void readFully( InputStream in, byte[] buf, int length ) throws IOException
+    {
+        int read = 0;
+        while( read < length )
+        {
+            int n = in.read( buf, read, length - read );
+            if( n < 0 )
+                throw new EOFException("Snapshot is truncated");
+            read += n;
+        }
+    }
+
+    private static void putInt( byte[] buf, int offset, int value )
+    {
+        buf[offset] = (byte) (value >>> 24);
+        buf[offset + 1] = (byte) (value >>> 16);
+        buf[offset + 2] = (byte) (value >>> 8);
+        buf[offset + 3] = (byte) value;
+    }
+
+    private static int getInt( byte[] buf, int offset )
+    {
+        return ((buf[offset] & 0xFF) << 24) | ((buf[offset + 1] & 0xFF) << 16)
+            | ((buf[offset + 2] & 0xFF) << 8) | (buf[offset + 3] & 0xFF);
+    }
+
+    /**
+     * Collects one chunk, header included, so it goes out in a single write. Unlike its superclass it is not
+     * synchronized, since the codec writes to it a byte at a time.
+     */
+    private static final class ChunkBuffer extends ByteArrayOutputStream
+    {
+        ChunkBuffer( int size )
+        {
+            super( size );
+        }
+
+        public void write( int b )
+        {
+            if( count == buf.length )
+                buf = Arrays.copyOf( buf, buf.length * 2 );
+            buf[count++] = (byte) b;
+        }
+
+        public void write( byte[] b, int off, int len )
+        {
+            if( count + len > buf.length )
+                buf = Arrays.copyOf( buf, Math.max( buf.length * 2, count + len ) );
+            System.arraycopy( b, off, buf, count, len );
+            count += len;
+        }
+
+        public int size()
+        {
+            return count;
+        }
+
+        /**
+         * Empties the buffer and leaves room for the chunk header
+         */
+        void startChunk()
+        {
+            count = CHUNK_HEADER_BYTES;
+        }
+
+        /**
+         * Appends the null bitmap, fills in the header and writes the chunk out
+         *
+         * @param out where to write the chunk
+         * @param elements the number of elements in the chunk
+         * @param nulls one bit per element, set for nulls, or null if the chunk has none
+         * @throws IOException if writing fails
+         */
+        void finishChunk( OutputStream out, int elements, long[] nulls ) throws IOException
+        {
+            buf[8] = (byte) (nulls == null ? 0 : HAS_NULLS);
+            if( nulls != null )
+            {
+                for( int i = 0; i < (elements + 7) >>> 3; i++ )
+                    write( (int) (nulls[i >>> 3] >>> ((i & 7) << 3)) );
+            }
+            putInt( buf, 0, elements );
+            putInt( buf, 4, count - 8 );
+            out.write( buf, 0, count );
+        }
+    }
+
+    /**
+     * Hands the codec one chunk's element bytes. Not synchronized, for the same reason as ChunkBuffer.
+     */
+    private static final class ChunkInput extends InputStream
+    {
+        byte[] buf = new byte[CHUNK_BYTES];
+        int pos;
+        int limit;
+
+        void fill( InputStream in, int length ) throws IOException
+        {
+            if( buf.length < length )
+                buf = new byte[length];
+            readFully( in, buf, length );
+        }
+
+        public int read()
+        {
+            return (pos < limit) ? buf[pos++] & 0xFF : -1;
+        }
+
+        public int read( byte[] b, int off, int len )
+        {
+            if( len == 0 )
+                return 0;
+            if( pos >= limit )
+                return -1;
+
+            int n = Math.min( len, limit - pos );
+            System.arraycopy( buf, pos, b, off, n );
+            pos += n;
+            return n;
+        }
+    }
+}
@@ -0,0 +1,4551 @@
+package linkylist;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.zip.CRC32;
+
+/**
+ * Comprehensive test suite to verify LinkyList produces identical results to Java's LinkedList
+ * 
+ * @author Austin Benedicto
+ * @version 12/14/2025
+ */
+public class LinkyListTestSuite
+{
+    private static int testsPassed = 0;
+    private static int testsFailed = 0;
+    
+    public static void main(String[] args)
+    {
+        System.out.println("=".repeat(80));
+        System.out.println("LinkyList Comprehensive Test Suite");
+        System.out.println("Verifying LinkyList produces identical results to Java's LinkedList");
+        System.out.println("=".repeat(80));
+        System.out.println();
+        
+        // Basic operations
+        testEmptyList();
+        testSingleElement();
+        testMultipleElements();
+        
+        // Add operations
+        testAddToEnd();
+        testAddAtIndex();
+        testAddNull();
+        testAddDuplicates();
+        
+        // Get operations
+        testGetFirst();
+        testGetLast();
+        testGetMiddle();
+        
+        // Set operations
+        testSetFirst();
+        testSetLast();
+        testSetMiddle();
+        testSetNull();
+        
+        // Remove operations
+        testRemoveByIndex();
+        testRemoveByObject();
+        testRemoveFirst();
+        testRemoveLast();
+        testRemoveNull();
+        testRemoveNonExistent();
+        
+        // Contains operations
+        testContainsExisting();
+        testContainsNonExisting();
+        testContainsNull();
+        
+        // IndexOf operations
+        testIndexOfFirst();
+        testIndexOfMiddle();
+        testIndexOfLast();
+        testIndexOfNonExistent();
+        testIndexOfNull();
+        testIndexOfDuplicates();
+        
+        // LastIndexOf operations
+        testLastIndexOfFirst();
+        testLastIndexOfMiddle();
+        testLastIndexOfLast();
+        testLastIndexOfNonExistent();
+        testLastIndexOfNull();
+        testLastIndexOfDuplicates();
+        
+        // Size operations
+        testSizeEmpty();
+        testSizeAfterAdd();
+        testSizeAfterRemove();
+        testSizeAfterClear();
+        
+        // Clear operations
+        testClearEmpty();
+        testClearNonEmpty();
+        
+        // Equals operations
+        testEqualsSameList();
+        testEqualsDifferentOrder();
+        testEqualsDifferentSize();
+        testEqualsWithNull();
+        testEqualsEmpty();
+        
+        // ToString operations
+        testToStringEmpty();
+        testToStringSingle();
+        testToStringMultiple();
+        testToStringNullsAndSelf();
+        testToStringTruncated();
+        testAppendToAndWriteTo();
+        
+        // Edge cases
+        testLargeList();
+        testAlternatingNulls();
+        testAllNulls();
+        testMixedOperations();
+        testAddAfterRemoveLast();
+        testAddAtEndIndex();
+        testNearestEndTraversal();
+        
+        // Unrolled variant
+        testUnrolledMixedOperations();
+        testUnrolledSearches();
+        testUnrolledConcurrentReads();
+        
+        // Indexed variant
+        testIndexedMixedOperations();
+        testIndexedAppendAndSearch();
+        
+        // Iterators
+        testIteratorTraversal();
+        testListIteratorMutations();
+        testListIteratorBackward();
+        testIteratorFailFast();
+        
+        // Streams
+        testSequentialStream();
+        testParallelStream();
+        testSpliteratorSplit();
+        
+        // Primitive variants
+        testIntMixedOperations();
+        testLongOperations();
+        
+        // Off-heap variant
+        testOffHeapIntOperations();
+        testOffHeapDoublesAndRecords();
+        testOffHeapTypeAndClose();
+        
+        // Node pool
+        testPooledMixedOperations();
+        testPoolSteadyState();
+        
+        // Concurrent variant
+        testConcurrentSingleThreaded();
+        testConcurrentAddRemove();
+        testConcurrentIteratorRemoveUnlinks();
+        
+        // StampedLock variant
+        testStampedSingleThreaded();
+        testStampedReadersDuringWrites();
+        
+        // Concurrent queue
+        testQueueSingleThreaded();
+        testQueueBoundedCapacity();
+        testQueueProducersConsumers();
+        
+        // Bulk operations
+        testAddAllSplice();
+        testRemoveAllRetainAll();
+        testRemoveIfReplaceAllForEach();
+        testBulkMutatorsFailFast();
+        
+        // Hash index
+        testHashIndexedMixedOperations();
+        testHashIndexedBulkAndIterator();
+        testHashIndexedManyDuplicates();
+        testHashIndexedOrderKeys();
+        
+        // Finger cache
+        testFingerIndexLoops();
+        testFingerAfterStructuralChanges();
+        
+        // java.util.List contract
+        testListInterop();
+        testSubListViews();
+        testNestedSubListViews();
+        testSortAndToArray();
+        
+        // Cached hash code
+        testHashCodeAfterMutations();
+        testListsAsHashKeys();
+        
+        // Binary serialization
+        testSerializerRoundTrips();
+        testSerializerChunksAndStreaming();
+        testSerializerCustomCodec();
+        testSerializerBadInput();
+        
+        // Memory-mapped lists
+        testMappedAppendAndReopen();
+        testMappedForceIsDurabilityPoint();
+        testMappedCrashAfterRemove();
+        testMappedCrashAtRandomPoints();
+        testMappedBadFiles();
+        
+        // Write-ahead journal
+        testJournalReplay();
+        testJournalCrashRecovery();
+        testJournalEncodeFailure();
+        testJournalCheckpoint();
+        testJournalGroupCommit();
+        
+        // Persistent immutable list
+        testPersistentUpdates();
+        testPersistentSharing();
+        testPersistentSnapshotsAcrossThreads();
+        
+        // Copy-on-write list
+        testCopyOnWriteMutators();
+        testCopyOnWriteSnapshotIteration();
+        testCopyOnWriteBulkCopiesOnce();
+        testCopyOnWriteConcurrentReaders();
+        
+        // Print results
+        System.out.println("\n" + "=".repeat(80));
+        System.out.println("Test Results");
+        System.out.println("=".repeat(80));
+        System.out.printf("Total Tests: %d%n", testsPassed + testsFailed);
+        System.out.printf("Passed: %d%n", testsPassed);
+        System.out.printf("Failed: %d%n", testsFailed);
+        
+        if( testsFailed == 0 ) {
+            System.out.println("\n✓ ALL TESTS PASSED! LinkyList behaves identically to LinkedList!");
+        } else {
+            System.out.println("\n✗ Some tests failed. Review output above.");
+        }
+        System.out.println("=".repeat(80));
+    }
+    
+    // ==================== BASIC OPERATIONS ====================
+    
+    private static void testEmptyList()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        
+        assertBehavior("Empty list - isEmpty()", 
+            linky.isEmpty(), java.isEmpty());
+        assertBehavior("Empty list - size()", 
+            linky.size(), java.size());
+    }
+    
+    private static void testSingleElement()
+    {
+        LinkyList<String> linky = new LinkyList<>();
+        LinkedList<String> java = new LinkedList<>();
+        
+        linky.add("A");
+        java.add("A");
+        
+        assertBehavior("Single element - size()", 
+            linky.size(), java.size());
+        assertBehavior("Single element - get(0)", 
+            linky.get(0), java.get(0));
+        assertBehavior("Single element - contains('A')", 
+            linky.contains("A"), java.contains("A"));
+    }
+    
+    private static void testMultipleElements()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        
+        for( int i = 0; i < 10; i++ ) {
+            linky.add(i);
+            java.add(i);
+        }
+        
+        assertBehavior("Multiple elements - size()", 
+            linky.size(), java.size());
+        
+        for( int i = 0; i < 10; i++ ) {
+            assertBehavior("Multiple elements - get(" + i + ")", 
+                linky.get(i), java.get(i));
+        }
+    }
+    
+    // ==================== ADD OPERATIONS ====================
+    
+    private static void testAddToEnd()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        
+        for( int i = 0; i < 5; i++ ) {
+            boolean linkyResult = linky.add(i * 10);
+            boolean javaResult = java.add(i * 10);
+            assertBehavior("Add to end - add(" + (i * 10) + ")", 
+                linkyResult, javaResult);
+        }
+        
+        assertBehavior("Add to end - final size", 
+            linky.size(), java.size());
+        assertListsEqual("Add to end - contents", linky, java);
+    }
+    
+    private static void testAddAtIndex()
+    {
+        LinkyList<String> linky = new LinkyList<>();
+        LinkedList<String> java = new LinkedList<>();
+        
+        linky.add("A");
+        linky.add("C");
+        java.add("A");
+        java.add("C");
+        
+        linky.add(1, "B");
+        java.add(1, "B");
+        
+        assertBehavior("Add at index - size after insert", 
+            linky.size(), java.size());
+        assertListsEqual("Add at index - contents", linky, java);
+    }
+    
+    private static void testAddNull()
+    {
+        LinkyList<String> linky = new LinkyList<>();
+        LinkedList<String> java = new LinkedList<>();
+        
+        linky.add(null);
+        java.add(null);
+        linky.add("A");
+        java.add("A");
+        linky.add(null);
+        java.add(null);
+        
+        assertBehavior("Add null - size", 
+            linky.size(), java.size());
+        assertListsEqual("Add null - contents", linky, java);
+    }
+    
+    private static void testAddDuplicates()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        
+        linky.add(5);
+        linky.add(5);
+        linky.add(5);
+        java.add(5);
+        java.add(5);
+        java.add(5);
+        
+        assertBehavior("Add duplicates - size", 
+            linky.size(), java.size());
+        assertListsEqual("Add duplicates - contents", linky, java);
+    }
+    
+    // ==================== GET OPERATIONS ====================
+    
+    private static void testGetFirst()
+    {
+        LinkyList<String> linky = new LinkyList<>();
+        LinkedList<String> java = new LinkedList<>();
+        
+        linky.add("First");
+        linky.add("Second");
+        java.add("First");
+        java.add("Second");
+        
+        assertBehavior("Get first - get(0)", 
+            linky.get(0), java.get(0));
+    }
+    
+    private static void testGetLast()
+    {
+        LinkyList<String> linky = new LinkyList<>();
+        LinkedList<String> java = new LinkedList<>();
+        
+        linky.add("First");
+        linky.add("Last");
+        java.add("First");
+        java.add("Last");
+        
+        assertBehavior("Get last - get(1)", 
+            linky.get(1), java.get(1));
+    }
+    
+    private static void testGetMiddle()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        
+        for( int i = 0; i < 5; i++ ) {
+            linky.add(i);
+            java.add(i);
+        }
+        
+        assertBehavior("Get middle - get(2)", 
+            linky.get(2), java.get(2));
+    }
+    
+    // ==================== SET OPERATIONS ====================
+    
+    private static void testSetFirst()
+    {
+        LinkyList<String> linky = new LinkyList<>();
+        LinkedList<String> java = new LinkedList<>();
+        
+        linky.add("A");
+        linky.add("B");
+        java.add("A");
+        java.add("B");
+        
+        String linkyOld = linky.set(0, "X");
+        String javaOld = java.set(0, "X");
+        
+        assertBehavior("Set first - old value", linkyOld, javaOld);
+        assertBehavior("Set first - new value", linky.get(0), java.get(0));
+    }
+    
+    private static void testSetLast()
+    {
+        LinkyList<String> linky = new LinkyList<>();
+        LinkedList<String> java = new LinkedList<>();
+        
+        linky.add("A");
+        linky.add("B");
+        java.add("A");
+        java.add("B");
+        
+        String linkyOld = linky.set(1, "Y");
+        String javaOld = java.set(1, "Y");
+        
+        assertBehavior("Set last - old value", linkyOld, javaOld);
+        assertBehavior("Set last - new value", linky.get(1), java.get(1));
+    }
+    
+    private static void testSetMiddle()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        
+        for( int i = 0; i < 5; i++ ) {
+            linky.add(i);
+            java.add(i);
+        }
+        
+        Integer linkyOld = linky.set(2, 99);
+        Integer javaOld = java.set(2, 99);
+        
+        assertBehavior("Set middle - old value", linkyOld, javaOld);
+        assertListsEqual("Set middle - contents", linky, java);
+    }
+    
+    private static void testSetNull()
+    {
+        LinkyList<String> linky = new LinkyList<>();
+        LinkedList<String> java = new LinkedList<>();
+        
+        linky.add("A");
+        java.add("A");
+        
+        linky.set(0, null);
+        java.set(0, null);
+        
+        assertBehavior("Set null - get(0)", linky.get(0), java.get(0));
+    }
+    
+    // ==================== REMOVE OPERATIONS ====================
+    
+    private static void testRemoveByIndex()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        
+        for( int i = 0; i < 5; i++ ) {
+            linky.add(i);
+            java.add(i);
+        }
+        
+        Integer linkyRemoved = linky.remove(2);
+        Integer javaRemoved = java.remove(2);
+        
+        assertBehavior("Remove by index - removed value", linkyRemoved, javaRemoved);
+        assertBehavior("Remove by index - size after", linky.size(), java.size());
+        assertListsEqual("Remove by index - contents", linky, java);
+    }
+    
+    private static void testRemoveByObject()
+    {
+        LinkyList<String> linky = new LinkyList<>();
+        LinkedList<String> java = new LinkedList<>();
+        
+        linky.add("A");
+        linky.add("B");
+        linky.add("C");
+        java.add("A");
+        java.add("B");
+        java.add("C");
+        
+        boolean linkyResult = linky.remove("B");
+        boolean javaResult = java.remove("B");
+        
+        assertBehavior("Remove by object - return value", linkyResult, javaResult);
+        assertListsEqual("Remove by object - contents", linky, java);
+    }
+    
+    private static void testRemoveFirst()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        
+        for( int i = 0; i < 5; i++ ) {
+            linky.add(i);
+            java.add(i);
+        }
+        
+        Integer linkyRemoved = linky.remove(0);
+        Integer javaRemoved = java.remove(0);
+        
+        assertBehavior("Remove first - removed value", linkyRemoved, javaRemoved);
+        assertListsEqual("Remove first - contents", linky, java);
+    }
+    
+    private static void testRemoveLast()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        
+        for( int i = 0; i < 5; i++ ) {
+            linky.add(i);
+            java.add(i);
+        }
+        
+        Integer linkyRemoved = linky.remove(linky.size() - 1);
+        Integer javaRemoved = java.remove(java.size() - 1);
+        
+        assertBehavior("Remove last - removed value", linkyRemoved, javaRemoved);
+        assertListsEqual("Remove last - contents", linky, java);
+    }
+    
+    private static void testRemoveNull()
+    {
+        LinkyList<String> linky = new LinkyList<>();
+        LinkedList<String> java = new LinkedList<>();
+        
+        linky.add("A");
+        linky.add(null);
+        linky.add("B");
+        java.add("A");
+        java.add(null);
+        java.add("B");
+        
+        boolean linkyResult = linky.remove(null);
+        boolean javaResult = java.remove(null);
+        
+        assertBehavior("Remove null - return value", linkyResult, javaResult);
+        assertListsEqual("Remove null - contents", linky, java);
+    }
+    
+    private static void testRemoveNonExistent()
+    {
+        LinkyList<String> linky = new LinkyList<>();
+        LinkedList<String> java = new LinkedList<>();
+        
+        linky.add("A");
+        java.add("A");
+        
+        boolean linkyResult = linky.remove("Z");
+        boolean javaResult = java.remove("Z");
+        
+        assertBehavior("Remove non-existent - return value", linkyResult, javaResult);
+        assertBehavior("Remove non-existent - size unchanged", linky.size(), java.size());
+    }
+    
+    // ==================== CONTAINS OPERATIONS ====================
+    
+    private static void testContainsExisting()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        
+        for( int i = 0; i < 5; i++ ) {
+            linky.add(i);
+            java.add(i);
+        }
+        
+        assertBehavior("Contains existing - contains(3)", 
+            linky.contains(3), java.contains(3));
+    }
+    
+    private static void testContainsNonExisting()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        
+        for( int i = 0; i < 5; i++ ) {
+            linky.add(i);
+            java.add(i);
+        }
+        
+        assertBehavior("Contains non-existing - contains(99)", 
+            linky.contains(99), java.contains(99));
+    }
+    
+    private static void testContainsNull()
+    {
+        LinkyList<String> linky = new LinkyList<>();
+        LinkedList<String> java = new LinkedList<>();
+        
+        linky.add("A");
+        linky.add(null);
+        java.add("A");
+        java.add(null);
+        
+        assertBehavior("Contains null - contains(null)", 
+            linky.contains(null), java.contains(null));
+    }
+    
+    // ==================== INDEXOF OPERATIONS ====================
+    
+    private static void testIndexOfFirst()
+    {
+        LinkyList<String> linky = new LinkyList<>();
+        LinkedList<String> java = new LinkedList<>();
+        
+        linky.add("A");
+        linky.add("B");
+        linky.add("C");
+        java.add("A");
+        java.add("B");
+        java.add("C");
+        
+        assertBehavior("IndexOf first - indexOf('A')", 
+            linky.indexOf("A"), java.indexOf("A"));
+    }
+    
+    private static void testIndexOfMiddle()
+    {
+        LinkyList<String> linky = new LinkyList<>();
+        LinkedList<String> java = new LinkedList<>();
+        
+        linky.add("A");
+        linky.add("B");
+        linky.add("C");
+        java.add("A");
+        java.add("B");
+        java.add("C");
+        
+        assertBehavior("IndexOf middle - indexOf('B')", 
+            linky.indexOf("B"), java.indexOf("B"));
+    }
+    
+    private static void testIndexOfLast()
+    {
+        LinkyList<String> linky = new LinkyList<>();
+        LinkedList<String> java = new LinkedList<>();
+        
+        linky.add("A");
+        linky.add("B");
+        linky.add("C");
+        java.add("A");
+        java.add("B");
+        java.add("C");
+        
+        assertBehavior("IndexOf last - indexOf('C')", 
+            linky.indexOf("C"), java.indexOf("C"));
+    }
+    
+    private static void testIndexOfNonExistent()
+    {
+        LinkyList<String> linky = new LinkyList<>();
+        LinkedList<String> java = new LinkedList<>();
+        
+        linky.add("A");
+        java.add("A");
+        
+        assertBehavior("IndexOf non-existent - indexOf('Z')", 
+            linky.indexOf("Z"), java.indexOf("Z"));
+    }
+    
+    private static void testIndexOfNull()
+    {
+        LinkyList<String> linky = new LinkyList<>();
+        LinkedList<String> java = new LinkedList<>();
+        
+        linky.add("A");
+        linky.add(null);
+        linky.add("B");
+        java.add("A");
+        java.add(null);
+        java.add("B");
+        
+        assertBehavior("IndexOf null - indexOf(null)", 
+            linky.indexOf(null), java.indexOf(null));
+    }
+    
+    private static void testIndexOfDuplicates()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        
+        linky.add(5);
+        linky.add(10);
+        linky.add(5);
+        java.add(5);
+        java.add(10);
+        java.add(5);
+        
+        assertBehavior("IndexOf duplicates - indexOf(5)", 
+            linky.indexOf(5), java.indexOf(5));
+    }
+    
+    // ==================== LASTINDEXOF OPERATIONS ====================
+    
+    private static void testLastIndexOfFirst()
+    {
+        LinkyList<String> linky = new LinkyList<>();
+        LinkedList<String> java = new LinkedList<>();
+        
+        linky.add("A");
+        linky.add("B");
+        linky.add("A");
+        java.add("A");
+        java.add("B");
+        java.add("A");
+        
+        assertBehavior("LastIndexOf first - lastIndexOf('A')", 
+            linky.lastIndexOf("A"), java.lastIndexOf("A"));
+    }
+    
+    private static void testLastIndexOfMiddle()
+    {
+        LinkyList<String> linky = new LinkyList<>();
+        LinkedList<String> java = new LinkedList<>();
+        
+        linky.add("A");
+        linky.add("B");
+        linky.add("C");
+        java.add("A");
+        java.add("B");
+        java.add("C");
+        
+        assertBehavior("LastIndexOf middle - lastIndexOf('B')", 
+            linky.lastIndexOf("B"), java.lastIndexOf("B"));
+    }
+    
+    private static void testLastIndexOfLast()
+    {
+        LinkyList<String> linky = new LinkyList<>();
+        LinkedList<String> java = new LinkedList<>();
+        
+        linky.add("A");
+        linky.add("B");
+        linky.add("C");
+        java.add("A");
+        java.add("B");
+        java.add("C");
+        
+        assertBehavior("LastIndexOf last - lastIndexOf('C')", 
+            linky.lastIndexOf("C"), java.lastIndexOf("C"));
+    }
+    
+    private static void testLastIndexOfNonExistent()
+    {
+        LinkyList<String> linky = new LinkyList<>();
+        LinkedList<String> java = new LinkedList<>();
+        
+        linky.add("A");
+        java.add("A");
+        
+        assertBehavior("LastIndexOf non-existent - lastIndexOf('Z')", 
+            linky.lastIndexOf("Z"), java.lastIndexOf("Z"));
+    }
+    
+    private static void testLastIndexOfNull()
+    {
+        LinkyList<String> linky = new LinkyList<>();
+        LinkedList<String> java = new LinkedList<>();
+        
+        linky.add("A");
+        linky.add(null);
+        linky.add("B");
+        linky.add(null);
+        java.add("A");
+        java.add(null);
+        java.add("B");
+        java.add(null);
+        
+        assertBehavior("LastIndexOf null - lastIndexOf(null)", 
+            linky.lastIndexOf(null), java.lastIndexOf(null));
+    }
+    
+    private static void testLastIndexOfDuplicates()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        
+        linky.add(5);
+        linky.add(10);
+        linky.add(5);
+        linky.add(15);
+        linky.add(5);
+        java.add(5);
+        java.add(10);
+        java.add(5);
+        java.add(15);
+        java.add(5);
+        
+        assertBehavior("LastIndexOf duplicates - lastIndexOf(5)", 
+            linky.lastIndexOf(5), java.lastIndexOf(5));
+    }
+    
+    // ==================== SIZE OPERATIONS ====================
+    
+    private static void testSizeEmpty()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        
+        assertBehavior("Size empty - size()", 
+            linky.size(), java.size());
+    }
+    
+    private static void testSizeAfterAdd()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        
+        for( int i = 0; i < 10; i++ ) {
+            linky.add(i);
+            java.add(i);
+        }
+        
+        assertBehavior("Size after add - size()", 
+            linky.size(), java.size());
+    }
+    
+    private static void testSizeAfterRemove()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        
+        for( int i = 0; i < 10; i++ ) {
+            linky.add(i);
+            java.add(i);
+        }
+        
+        linky.remove(5);
+        java.remove(5);
+        
+        assertBehavior("Size after remove - size()", 
+            linky.size(), java.size());
+    }
+    
+    private static void testSizeAfterClear()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        
+        for( int i = 0; i < 10; i++ ) {
+            linky.add(i);
+            java.add(i);
+        }
+        
+        linky.clear();
+        java.clear();
+        
+        assertBehavior("Size after clear - size()", 
+            linky.size(), java.size());
+    }
+    
+    // ==================== CLEAR OPERATIONS ====================
+    
+    private static void testClearEmpty()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        
+        linky.clear();
+        java.clear();
+        
+        assertBehavior("Clear empty - isEmpty()", 
+            linky.isEmpty(), java.isEmpty());
+    }
+    
+    private static void testClearNonEmpty()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        
+        for( int i = 0; i < 10; i++ ) {
+            linky.add(i);
+            java.add(i);
+        }
+        
+        linky.clear();
+        java.clear();
+        
+        assertBehavior("Clear non-empty - isEmpty()", 
+            linky.isEmpty(), java.isEmpty());
+        assertBehavior("Clear non-empty - size()", 
+            linky.size(), java.size());
+    }
+    
+    // ==================== EQUALS OPERATIONS ====================
+    
+    private static void testEqualsSameList()
+    {
+        LinkyList<Integer> linky1 = new LinkyList<>();
+        LinkyList<Integer> linky2 = new LinkyList<>();
+        
+        for( int i = 0; i < 5; i++ ) {
+            linky1.add(i);
+            linky2.add(i);
+        }
+        
+        assertBehavior("Equals same list - equals()", 
+            linky1.equals(linky2), true);
+    }
+    
+    private static void testEqualsDifferentOrder()
+    {
+        LinkyList<Integer> linky1 = new LinkyList<>();
+        LinkyList<Integer> linky2 = new LinkyList<>();
+        
+        linky1.add(1);
+        linky1.add(2);
+        linky2.add(2);
+        linky2.add(1);
+        
+        assertBehavior("Equals different order - equals()", 
+            linky1.equals(linky2), false);
+    }
+    
+    private static void testEqualsDifferentSize()
+    {
+        LinkyList<Integer> linky1 = new LinkyList<>();
+        LinkyList<Integer> linky2 = new LinkyList<>();
+        
+        linky1.add(1);
+        linky2.add(1);
+        linky2.add(2);
+        
+        assertBehavior("Equals different size - equals()", 
+            linky1.equals(linky2), false);
+    }
+    
+    private static void testEqualsWithNull()
+    {
+        LinkyList<String> linky1 = new LinkyList<>();
+        LinkyList<String> linky2 = new LinkyList<>();
+        
+        linky1.add("A");
+        linky1.add(null);
+        linky2.add("A");
+        linky2.add(null);
+        
+        assertBehavior("Equals with null - equals()", 
+            linky1.equals(linky2), true);
+    }
+    
+    private static void testEqualsEmpty()
+    {
+        LinkyList<Integer> linky1 = new LinkyList<>();
+        LinkyList<Integer> linky2 = new LinkyList<>();
+        
+        assertBehavior("Equals empty - equals()", 
+            linky1.equals(linky2), true);
+    }
+    
+    // ==================== TOSTRING OPERATIONS ====================
+    
+    private static void testToStringEmpty()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        
+        assertBehavior("ToString empty", 
+            linky.toString(), java.toString());
+    }
+    
+    private static void testToStringSingle()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        
+        linky.add(42);
+        java.add(42);
+        
+        assertBehavior("ToString single", 
+            linky.toString(), java.toString());
+    }
+    
+    private static void testToStringMultiple()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        
+        linky.add(1);
+        linky.add(2);
+        linky.add(3);
+        java.add(1);
+        java.add(2);
+        java.add(3);
+        
+        assertBehavior("ToString multiple", 
+            linky.toString(), java.toString());
+    }
+    
+    private static void testToStringNullsAndSelf()
+    {
+        LinkyList<Object> linky = new LinkyList<>();
+        LinkedList<Object> java = new LinkedList<>();
+        
+        linky.add(null);
+        linky.add("a");
+        linky.add(linky);
+        linky.add(null);
+        java.add(null);
+        java.add("a");
+        java.add(java);
+        java.add(null);
+        
+        assertBehavior("ToString nulls and self-reference", 
+            linky.toString(), java.toString());
+    }
+    
+    private static void testToStringTruncated()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        for( int i = 0; i < 1000; i++ ) {
+            linky.add(i);
+        }
+        
+        assertBehavior("ToString truncated - first 3 plus count", 
+            linky.toString(3), "[0, 1, 2, ... 997 more]");
+        assertBehavior("ToString truncated - zero elements", 
+            linky.toString(0), "[... 1000 more]");
+        assertBehavior("ToString truncated - limit above size", 
+            linky.toString(5000), linky.toString());
+        
+        boolean threw = false;
+        try {
+            linky.toString(-1);
+        } catch( IllegalArgumentException e ) {
+            threw = true;
+        }
+        assertBehavior("ToString truncated - negative limit throws", 
+            threw, true);
+    }
+    
+    private static void testAppendToAndWriteTo()
+    {
+        LinkyList<String> linky = new LinkyList<>();
+        LinkedList<String> java = new LinkedList<>();
+        for( int i = 0; i < 50; i++ ) {
+            linky.add("V" + i);
+            java.add("V" + i);
+        }
+        
+        StringBuilder appended = new StringBuilder("list=");
+        try {
+            linky.appendTo(appended);
+        } catch( IOException e ) {
+            appended.append(e);
+        }
+        assertBehavior("appendTo() - appends to existing content", 
+            appended.toString(), "list=" + java);
+        
+        StringWriter written = new StringWriter();
+        try {
+            linky.writeTo(written);
+            written.write('|');
+            linky.appendTo(written, 2);
+        } catch( IOException e ) {
+            written.write(e.toString());
+        }
+        assertBehavior("writeTo() and bounded appendTo()", 
+            written.toString(), java + "|[V0, V1, ... 48 more]");
+        
+        // Failures from the target are passed on to the caller
+        Writer broken = new Writer() {
+            public void write(char[] buf, int off, int len) throws IOException {
+                throw new IOException("disk full");
+            }
+            public void flush() {}
+            public void close() {}
+        };
+        boolean threw = false;
+        try {
+            linky.writeTo(broken);
+        } catch( IOException e ) {
+            threw = true;
+        }
+        assertBehavior("writeTo() - IOException propagates", 
+            threw, true);
+    }
+    
+    // ==================== EDGE CASES ====================
+    
+    private static void testLargeList()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        
+        for( int i = 0; i < 1000; i++ ) {
+            linky.add(i);
+            java.add(i);
+        }
+        
+        assertBehavior("Large list - size()", 
+            linky.size(), java.size());
+        assertBehavior("Large list - get(500)", 
+            linky.get(500), java.get(500));
+        assertBehavior("Large list - contains(750)", 
+            linky.contains(750), java.contains(750));
+    }
+    
+    private static void testAlternatingNulls()
+    {
+        LinkyList<String> linky = new LinkyList<>();
+        LinkedList<String> java = new LinkedList<>();
+        
+        for( int i = 0; i < 10; i++ ) {
+            if( i % 2 == 0 ) {
+                linky.add(null);
+                java.add(null);
+            } else {
+                linky.add("Value" + i);
+                java.add("Value" + i);
+            }
+        }
+        
+        assertBehavior("Alternating nulls - size()", 
+            linky.size(), java.size());
+        assertListsEqual("Alternating nulls - contents", linky, java);
+    }
+    
+    private static void testAllNulls()
+    {
+        LinkyList<String> linky = new LinkyList<>();
+        LinkedList<String> java = new LinkedList<>();
+        
+        for( int i = 0; i < 5; i++ ) {
+            linky.add(null);
+            java.add(null);
+        }
+        
+        assertBehavior("All nulls - size()", 
+            linky.size(), java.size());
+        assertBehavior("All nulls - contains(null)", 
+            linky.contains(null), java.contains(null));
+        assertBehavior("All nulls - indexOf(null)", 
+            linky.indexOf(null), java.indexOf(null));
+    }
+    
+    private static void testMixedOperations()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        
+        // Add elements
+        linky.add(1);
+        java.add(1);
+        linky.add(2);
+        java.add(2);
+        linky.add(3);
+        java.add(3);
+        
+        // Remove one
+        linky.remove(Integer.valueOf(2));
+        java.remove(Integer.valueOf(2));
+        
+        // Add more
+        linky.add(4);
+        java.add(4);
+        
+        // Set one
+        linky.set(1, 99);
+        java.set(1, 99);
+        
+        // Remove by index
+        linky.remove(0);
+        java.remove(0);
+        
+        assertBehavior("Mixed operations - size()", 
+            linky.size(), java.size());
+        assertListsEqual("Mixed operations - contents", linky, java);
+    }
+    
+    private static void testAddAfterRemoveLast()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        
+        for( int i = 0; i < 5; i++ ) {
+            linky.add(i);
+            java.add(i);
+        }
+        
+        // Removing the tail (by index and by value) must leave appends linking to the new tail
+        linky.remove(linky.size() - 1);
+        java.remove(java.size() - 1);
+        linky.remove(Integer.valueOf(3));
+        java.remove(Integer.valueOf(3));
+        linky.add(10);
+        java.add(10);
+        
+        assertBehavior("Add after remove last - size()", 
+            linky.size(), java.size());
+        assertListsEqual("Add after remove last - contents", linky, java);
+        
+        linky.clear();
+        java.clear();
+        linky.add(20);
+        java.add(20);
+        
+        assertListsEqual("Add after clear - contents", linky, java);
+    }
+    
+    private static void testAddAtEndIndex()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        
+        for( int i = 0; i < 3; i++ ) {
+            linky.add(linky.size(), i);
+            java.add(java.size(), i);
+        }
+        linky.add(99);
+        java.add(99);
+        
+        assertBehavior("Add at end index - size()", 
+            linky.size(), java.size());
+        assertListsEqual("Add at end index - contents", linky, java);
+    }
+    
+    private static void testNearestEndTraversal()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        
+        for( int i = 0; i < 11; i++ ) {
+            linky.add(i % 4);
+            java.add(i % 4);
+        }
+        
+        // Indices in the back half are reached from the tail
+        linky.add(8, 50);
+        java.add(8, 50);
+        linky.set(9, 60);
+        java.set(9, 60);
+        
+        assertBehavior("Nearest end - remove(size - 2)", 
+            linky.remove(linky.size() - 2), java.remove(java.size() - 2));
+        assertBehavior("Nearest end - get(size - 1)", 
+            linky.get(linky.size() - 1), java.get(java.size() - 1));
+        assertBehavior("Nearest end - lastIndexOf(1)", 
+            linky.lastIndexOf(1), java.lastIndexOf(1));
+        assertListsEqual("Nearest end - contents", linky, java);
+    }
+    
+    // ==================== UNROLLED VARIANT ====================
+    
+    private static void testUnrolledMixedOperations()
+    {
+        // A tiny node capacity forces frequent splits and merges
+        UnrolledLinkyList<Integer> unrolled = new UnrolledLinkyList<>(4);
+        LinkedList<Integer> java = new LinkedList<>();
+        Random rand = new Random(12345);
+        
+        for( int i = 0; i < 500; i++ ) {
+            int op = rand.nextInt(5);
+            int val = rand.nextInt(20);
+            if( op <= 1 || java.isEmpty() ) {
+                int index = rand.nextInt(java.size() + 1);
+                unrolled.add(index, val);
+                java.add(index, val);
+            } else if( op == 2 ) {
+                int index = rand.nextInt(java.size());
+                unrolled.remove(index);
+                java.remove(index);
+            } else if( op == 3 ) {
+                unrolled.remove(Integer.valueOf(val));
+                java.remove(Integer.valueOf(val));
+            } else {
+                int index = rand.nextInt(java.size());
+                unrolled.set(index, val);
+                java.set(index, val);
+            }
+        }
+        
+        assertBehavior("Unrolled mixed operations - size()", 
+            unrolled.size(), java.size());
+        assertListsEqual("Unrolled mixed operations - contents", unrolled, java);
+        assertBehavior("Unrolled mixed operations - toString()", 
+            unrolled.toString(), java.toString());
+    }
+    
+    private static void testUnrolledSearches()
+    {
+        UnrolledLinkyList<String> unrolled = new UnrolledLinkyList<>(3);
+        UnrolledLinkyList<String> other = new UnrolledLinkyList<>(5);
+        LinkedList<String> java = new LinkedList<>();
+        
+        for( int i = 0; i < 20; i++ ) {
+            String val = (i % 7 == 0) ? null : "V" + (i % 5);
+            unrolled.add(val);
+            other.add(val);
+            java.add(val);
+        }
+        
+        assertBehavior("Unrolled searches - indexOf('V3')", 
+            unrolled.indexOf("V3"), java.indexOf("V3"));
+        assertBehavior("Unrolled searches - lastIndexOf('V3')", 
+            unrolled.lastIndexOf("V3"), java.lastIndexOf("V3"));
+        assertBehavior("Unrolled searches - lastIndexOf(null)", 
+            unrolled.lastIndexOf(null), java.lastIndexOf(null));
+        assertBehavior("Unrolled searches - contains('Z')", 
+            unrolled.contains("Z"), java.contains("Z"));
+        assertBehavior("Unrolled searches - equals() across node capacities", 
+            unrolled.equals(other), true);
+        assertBehavior("Unrolled searches - hashCode() matches LinkedList", 
+            unrolled.hashCode(), java.hashCode());
+        assertBehavior("Unrolled searches - equal lists hash alike", 
+            unrolled.hashCode(), other.hashCode());
+        
+        other.set(19, "changed");
+        assertBehavior("Unrolled searches - equals() after set", 
+            unrolled.equals(other), false);
+    }
+    
+    private static void testUnrolledConcurrentReads()
+    {
+        // get() on a list nobody is changing must be safe from several threads at once
+        UnrolledLinkyList<Integer> unrolled = new UnrolledLinkyList<>(8);
+        for( int i = 0; i < 1000; i++ ) {
+            unrolled.add(i);
+        }
+        
+        boolean[] correct = { true, true };
+        Thread[] readers = new Thread[2];
+        for( int r = 0; r < readers.length; r++ ) {
+            int id = r;
+            readers[r] = new Thread(() -> {
+                Random rand = new Random(id);
+                for( int i = 0; i < 200000; i++ ) {
+                    int index = rand.nextInt(1000);
+                    if( unrolled.get(index) != index ) {
+                        correct[id] = false;
+                    }
+                }
+            });
+            readers[r].start();
+        }
+        
+        try {
+            for( Thread reader : readers ) {
+                reader.join();
+            }
+        } catch( InterruptedException e ) {
+            correct[0] = false;
+        }
+        assertBehavior("Unrolled concurrent reads - every get() sees its own index", 
+            correct[0] && correct[1], true);
+    }
+    
+    // ==================== INDEXED VARIANT ====================
+    
+    private static void testIndexedMixedOperations()
+    {
+        IndexedLinkyList<Integer> indexed = new IndexedLinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        Random rand = new Random(12345);
+        boolean getsMatch = true;
+        
+        for( int i = 0; i < 2000; i++ ) {
+            int op = rand.nextInt(6);
+            int val = rand.nextInt(50);
+            if( op <= 1 || java.isEmpty() ) {
+                int index = rand.nextInt(java.size() + 1);
+                indexed.add(index, val);
+                java.add(index, val);
+            } else if( op == 2 ) {
+                indexed.add(val);
+                java.add(val);
+            } else if( op == 3 ) {
+                int index = rand.nextInt(java.size());
+                indexed.remove(index);
+                java.remove(index);
+            } else if( op == 4 ) {
+                indexed.remove(Integer.valueOf(val));
+                java.remove(Integer.valueOf(val));
+            } else {
+                int index = rand.nextInt(java.size());
+                getsMatch &= java.get(index).equals(indexed.get(index));
+                indexed.set(index, val);
+                java.set(index, val);
+            }
+        }
+        
+        assertBehavior("Indexed mixed operations - size()", 
+            indexed.size(), java.size());
+        assertBehavior("Indexed mixed operations - get() along the way", 
+            getsMatch, true);
+        assertBehavior("Indexed mixed operations - contents", 
+            indexed.toString(), java.toString());
+        
+        boolean allMatch = true;
+        for( int i = 0; i < java.size(); i++ ) {
+            allMatch &= java.get(i).equals(indexed.get(i));
+        }
+        assertBehavior("Indexed mixed operations - get() every index", 
+            allMatch, true);
+    }
+    
+    private static void testIndexedAppendAndSearch()
+    {
+        IndexedLinkyList<String> indexed = new IndexedLinkyList<>();
+        IndexedLinkyList<String> other = new IndexedLinkyList<>();
+        LinkedList<String> java = new LinkedList<>();
+        
+        for( int i = 0; i < 100; i++ ) {
+            String val = (i % 9 == 0) ? null : "V" + (i % 6);
+            indexed.add(val);
+            other.add(val);
+            java.add(val);
+        }
+        
+        // Drain from the back, which exercises the last-node bookkeeping used by add()
+        for( int i = 0; i < 40; i++ ) {
+            indexed.remove(indexed.size() - 1);
+            other.remove(other.size() - 1);
+            java.remove(java.size() - 1);
+        }
+        indexed.add("tail");
+        other.add("tail");
+        java.add("tail");
+        
+        assertBehavior("Indexed append - get(size - 1)", 
+            indexed.get(indexed.size() - 1), java.get(java.size() - 1));
+        assertBehavior("Indexed append - indexOf('V4')", 
+            indexed.indexOf("V4"), java.indexOf("V4"));
+        assertBehavior("Indexed append - lastIndexOf(null)", 
+            indexed.lastIndexOf(null), java.lastIndexOf(null));
+        assertBehavior("Indexed append - equals()", 
+            indexed.equals(other), true);
+        assertBehavior("Indexed append - hashCode() matches LinkedList", 
+            indexed.hashCode(), java.hashCode());
+        
+        indexed.clear();
+        assertBehavior("Indexed append - isEmpty() after clear", 
+            indexed.isEmpty(), true);
+    }
+    
+    // ==================== ITERATORS ====================
+    
+    private static void testIteratorTraversal()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        
+        for( int i = 0; i < 10; i++ ) {
+            linky.add(i);
+            java.add(i);
+        }
+        
+        int linkySum = 0;
+        for( Integer val : linky ) {
+            linkySum += val;
+        }
+        int javaSum = 0;
+        for( Integer val : java ) {
+            javaSum += val;
+        }
+        
+        assertBehavior("Iterator traversal - for-each sum", 
+            linkySum, javaSum);
+        assertBehavior("Iterator traversal - hasNext() on empty", 
+            new LinkyList<Integer>().iterator().hasNext(), new LinkedList<Integer>().iterator().hasNext());
+    }
+    
+    private static void testListIteratorMutations()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        
+        for( int i = 0; i < 10; i++ ) {
+            linky.add(i);
+            java.add(i);
+        }
+        
+        // Remove evens, double multiples of three, and insert a marker after every 5
+        ListIterator<Integer> linkyIter = linky.listIterator();
+        ListIterator<Integer> javaIter = java.listIterator();
+        while( javaIter.hasNext() ) {
+            Integer linkyVal = linkyIter.next();
+            Integer javaVal = javaIter.next();
+            if( javaVal % 2 == 0 ) {
+                linkyIter.remove();
+                javaIter.remove();
+            } else if( javaVal % 3 == 0 ) {
+                linkyIter.set(linkyVal * 2);
+                javaIter.set(javaVal * 2);
+            } else if( javaVal == 5 ) {
+                linkyIter.add(-5);
+                javaIter.add(-5);
+            }
+        }
+        linkyIter.add(100);
+        javaIter.add(100);
+        
+        assertBehavior("ListIterator mutations - nextIndex()", 
+            linkyIter.nextIndex(), javaIter.nextIndex());
+        assertListsEqual("ListIterator mutations - contents", linky, java);
+        
+        // The tail must still be right after adding through the iterator
+        linky.add(200);
+        java.add(200);
+        assertListsEqual("ListIterator mutations - append afterwards", linky, java);
+    }
+    
+    private static void testListIteratorBackward()
+    {
+        LinkyList<String> linky = new LinkyList<>();
+        LinkedList<String> java = new LinkedList<>();
+        
+        for( int i = 0; i < 6; i++ ) {
+            linky.add("V" + i);
+            java.add("V" + i);
+        }
+        
+        ListIterator<String> linkyIter = linky.listIterator(linky.size());
+        ListIterator<String> javaIter = java.listIterator(java.size());
+        StringBuilder linkySeen = new StringBuilder();
+        StringBuilder javaSeen = new StringBuilder();
+        while( javaIter.hasPrevious() ) {
+            linkySeen.append(linkyIter.previousIndex()).append(linkyIter.previous());
+            javaSeen.append(javaIter.previousIndex()).append(javaIter.previous());
+            if( javaIter.nextIndex() == 3 ) {
+                linkyIter.remove();
+                javaIter.remove();
+            }
+        }
+        
+        assertBehavior("ListIterator backward - visited", 
+            linkySeen.toString(), javaSeen.toString());
+        assertListsEqual("ListIterator backward - contents", linky, java);
+        assertBehavior("ListIterator middle start - next()", 
+            linky.listIterator(2).next(), java.listIterator(2).next());
+    }
+    
+    private static void testIteratorFailFast()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        for( int i = 0; i < 5; i++ ) {
+            linky.add(i);
+        }
+        
+        boolean threw = false;
+        try {
+            for( Integer val : linky ) {
+                if( val == 2 ) {
+                    linky.remove(Integer.valueOf(val));
+                }
+            }
+        } catch( ConcurrentModificationException e ) {
+            threw = true;
+        }
+        assertBehavior("Iterator fail-fast - modification during for-each", 
+            threw, true);
+        
+        threw = false;
+        Iterator<Integer> iter = linky.iterator();
+        try {
+            iter.remove();
+        } catch( IllegalStateException e ) {
+            threw = true;
+        }
+        assertBehavior("Iterator fail-fast - remove() before next()", 
+            threw, true);
+    }
+    
+    // ==================== STREAMS ====================
+    
+    private static void testSequentialStream()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        
+        for( int i = 0; i < 100; i++ ) {
+            linky.add(i);
+            java.add(i);
+        }
+        
+        assertBehavior("Sequential stream - filter/map/collect", 
+            linky.stream().filter(v -> v % 3 == 0).map(v -> v * 2).collect(Collectors.toList()),
+            java.stream().filter(v -> v % 3 == 0).map(v -> v * 2).collect(Collectors.toList()));
+        assertBehavior("Sequential stream - count()", 
+            linky.stream().count(), java.stream().count());
+    }
+    
+    private static void testParallelStream()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        
+        for( int i = 0; i < 50000; i++ ) {
+            linky.add(i % 1000);
+            java.add(i % 1000);
+        }
+        
+        assertBehavior("Parallel stream - sum()", 
+            linky.parallelStream().mapToLong(Integer::longValue).sum(),
+            java.parallelStream().mapToLong(Integer::longValue).sum());
+        assertBehavior("Parallel stream - ordered collect", 
+            linky.parallelStream().map(v -> v + 1).collect(Collectors.toList()),
+            java.parallelStream().map(v -> v + 1).collect(Collectors.toList()));
+    }
+    
+    private static void testSpliteratorSplit()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        for( int i = 0; i < 101; i++ ) {
+            linky.add(i);
+        }
+        
+        Spliterator<Integer> rest = linky.spliterator();
+        Spliterator<Integer> prefix = rest.trySplit();
+        
+        assertBehavior("Spliterator split - SIZED", 
+            rest.hasCharacteristics(Spliterator.SIZED), true);
+        assertBehavior("Spliterator split - sizes add up", 
+            prefix.estimateSize() + rest.estimateSize(), 101L);
+        assertBehavior("Spliterator split - balanced", 
+            Math.abs(prefix.estimateSize() - rest.estimateSize()) <= 1, true);
+        
+        int[] firstOfRest = new int[1];
+        rest.tryAdvance(v -> firstOfRest[0] = v);
+        assertBehavior("Spliterator split - suffix starts after prefix", 
+            (long) firstOfRest[0], prefix.estimateSize());
+    }
+    
+    // ==================== PRIMITIVE VARIANTS ====================
+    
+    private static void testIntMixedOperations()
+    {
+        IntLinkyList ints = new IntLinkyList(2);
+        LinkedList<Integer> java = new LinkedList<>();
+        Random rand = new Random(12345);
+        
+        for( int i = 0; i < 1000; i++ ) {
+            int op = rand.nextInt(5);
+            int val = rand.nextInt(30);
+            if( op <= 1 || java.isEmpty() ) {
+                int index = rand.nextInt(java.size() + 1);
+                ints.add(index, val);
+                java.add(index, val);
+            } else if( op == 2 ) {
+                ints.add(val);
+                java.add(val);
+            } else if( op == 3 ) {
+                int index = rand.nextInt(java.size());
+                ints.remove(index);
+                java.remove(index);
+            } else {
+                ints.removeValue(val);
+                java.remove(Integer.valueOf(val));
+            }
+        }
+        
+        assertBehavior("Int list mixed operations - size()", 
+            ints.size(), java.size());
+        assertBehavior("Int list mixed operations - contents", 
+            ints.toString(), java.toString());
+        assertBehavior("Int list mixed operations - indexOf(7)", 
+            ints.indexOf(7), java.indexOf(7));
+        assertBehavior("Int list mixed operations - lastIndexOf(7)", 
+            ints.lastIndexOf(7), java.lastIndexOf(7));
+        assertBehavior("Int list mixed operations - hashCode()", 
+            ints.hashCode(), java.hashCode());
+    }
+    
+    private static void testLongOperations()
+    {
+        LongLinkyList longs = new LongLinkyList();
+        LongLinkyList other = new LongLinkyList();
+        LinkedList<Long> java = new LinkedList<>();
+        
+        for( long i = 0; i < 10; i++ ) {
+            longs.add(i * 1_000_000_000_000L);
+            other.add(i * 1_000_000_000_000L);
+            java.add(i * 1_000_000_000_000L);
+        }
+        
+        assertBehavior("Long list - set() old value", 
+            longs.set(3, -1L), java.set(3, -1L));
+        other.set(3, -1L);
+        assertBehavior("Long list - remove(int)", 
+            longs.remove(0), (long) java.remove(0));
+        other.remove(0);
+        assertBehavior("Long list - contains(-1)", 
+            longs.contains(-1L), java.contains(-1L));
+        assertBehavior("Long list - get(size - 1)", 
+            longs.get(longs.size() - 1), (long) java.get(java.size() - 1));
+        assertBehavior("Long list - contents", 
+            longs.toString(), java.toString());
+        assertBehavior("Long list - equals()", 
+            longs.equals(other), true);
+        
+        longs.clear();
+        longs.add(5L);
+        assertBehavior("Long list - reuse after clear()", 
+            longs.toString(), "[5]");
+    }
+    
+    // ==================== OFF-HEAP VARIANT ====================
+    
+    private static void testOffHeapIntOperations()
+    {
+        // Four nodes per slab, so the list spans many slabs
+        try( OffHeapLinkyList offHeap = new OffHeapLinkyList(OffHeapLinkyList.ElementType.INT, Integer.BYTES, 4) ) {
+            LinkedList<Integer> java = new LinkedList<>();
+            Random rand = new Random(12345);
+            
+            for( int i = 0; i < 500; i++ ) {
+                int op = rand.nextInt(4);
+                int val = rand.nextInt(30);
+                if( op <= 1 || java.isEmpty() ) {
+                    int index = rand.nextInt(java.size() + 1);
+                    offHeap.addInt(index, val);
+                    java.add(index, val);
+                } else if( op == 2 ) {
+                    offHeap.addInt(val);
+                    java.add(val);
+                } else {
+                    int index = rand.nextInt(java.size());
+                    offHeap.remove(index);
+                    java.remove(index);
+                }
+            }
+            
+            assertBehavior("Off-heap ints - size()", 
+                offHeap.size(), java.size());
+            
+            boolean allMatch = true;
+            for( int i = 0; i < java.size(); i++ ) {
+                allMatch &= offHeap.getInt(i) == java.get(i);
+            }
+            assertBehavior("Off-heap ints - contents", 
+                allMatch, true);
+            assertBehavior("Off-heap ints - indexOfInt(7)", 
+                offHeap.indexOfInt(7), java.indexOf(7));
+            assertBehavior("Off-heap ints - setInt() old value", 
+                offHeap.setInt(0, -1), java.set(0, -1).intValue());
+        }
+    }
+    
+    private static void testOffHeapDoublesAndRecords()
+    {
+        try( OffHeapLinkyList doubles = OffHeapLinkyList.ofDoubles();
+             OffHeapLinkyList records = OffHeapLinkyList.ofRecords(3) ) {
+            doubles.addDouble(1.5);
+            doubles.addDouble(Double.NaN);
+            doubles.addDouble(0, -2.25);
+            
+            assertBehavior("Off-heap doubles - getDouble(0)", 
+                doubles.getDouble(0), -2.25);
+            assertBehavior("Off-heap doubles - indexOfDouble(NaN)", 
+                doubles.indexOfDouble(Double.NaN), 2);
+            
+            records.addRecord(new byte[] { 1, 2, 3 });
+            records.addRecord(new byte[] { 4, 5, 6 });
+            records.setRecord(0, new byte[] { 7, 8, 9 });
+            
+            assertBehavior("Off-heap records - getRecord(0)", 
+                java.util.Arrays.toString(records.getRecord(0, new byte[3])), "[7, 8, 9]");
+            assertBehavior("Off-heap records - indexOfRecord()", 
+                records.indexOfRecord(new byte[] { 4, 5, 6 }), 1);
+            assertBehavior("Off-heap records - indexOfRecord() differing in the last byte", 
+                records.indexOfRecord(new byte[] { 4, 5, 7 }), -1);
+        }
+    }
+    
+    private static void testOffHeapTypeAndClose()
+    {
+        OffHeapLinkyList longs = OffHeapLinkyList.ofLongs();
+        longs.addLong(42L);
+        
+        boolean threw = false;
+        try {
+            longs.addInt(1);
+        } catch( IllegalStateException e ) {
+            threw = true;
+        }
+        assertBehavior("Off-heap - wrong element type rejected", 
+            threw, true);
+        
+        longs.close();
+        threw = false;
+        try {
+            longs.getLong(0);
+        } catch( IllegalStateException e ) {
+            threw = true;
+        }
+        assertBehavior("Off-heap - use after close() rejected", 
+            threw, true);
+        
+        threw = false;
+        try {
+            longs.size();
+        } catch( IllegalStateException e ) {
+            threw = true;
+        }
+        assertBehavior("Off-heap - size() after close() rejected", 
+            threw, true);
+        assertBehavior("Off-heap - isClosed()", 
+            longs.isClosed(), true);
+    }
+    
+    // ==================== NODE POOL ====================
+    
+    private static void testPooledMixedOperations()
+    {
+        LinkyList.NodePool pool = new LinkyList.NodePool(8);
+        LinkyList<Integer> linky = new LinkyList<>(pool);
+        LinkyList<Integer> other = new LinkyList<>(pool);
+        LinkedList<Integer> java = new LinkedList<>();
+        Random rand = new Random(12345);
+        
+        for( int i = 0; i < 1000; i++ ) {
+            int op = rand.nextInt(4);
+            int val = rand.nextInt(20);
+            if( op <= 1 || java.isEmpty() ) {
+                int index = rand.nextInt(java.size() + 1);
+                linky.add(index, val);
+                java.add(index, val);
+                other.add(val);
+            } else if( op == 2 ) {
+                int index = rand.nextInt(java.size());
+                linky.remove(index);
+                java.remove(index);
+            } else {
+                linky.remove(Integer.valueOf(val));
+                java.remove(Integer.valueOf(val));
+                other.remove(Integer.valueOf(val));
+            }
+        }
+        
+        assertListsEqual("Pooled mixed operations - contents", linky, java);
+        assertBehavior("Pooled mixed operations - nodes were reused", 
+            pool.hits() > 0, true);
+    }
+    
+    private static void testPoolSteadyState()
+    {
+        LinkyList.NodePool pool = new LinkyList.NodePool(64);
+        LinkyList<String> linky = new LinkyList<>(pool);
+        
+        for( int i = 0; i < 32; i++ ) {
+            linky.add("warm" + i);
+        }
+        linky.clear();
+        pool.resetCounters();
+        
+        // Churn within the pool bound must be served entirely from the pool
+        for( int round = 0; round < 100; round++ ) {
+            for( int i = 0; i < 32; i++ ) {
+                linky.add("V" + i);
+            }
+            while( !linky.isEmpty() ) {
+                linky.remove(0);
+            }
+        }
+        
+        assertBehavior("Pool steady state - no misses", 
+            pool.misses(), 0L);
+        assertBehavior("Pool steady state - hits", 
+            pool.hits(), 3200L);
+        assertBehavior("Pool steady state - no drops", 
+            pool.drops(), 0L);
+    }
+    
+    // ==================== CONCURRENT VARIANT ====================
+    
+    private static void testConcurrentSingleThreaded()
+    {
+        ConcurrentLinkyList<String> concurrent = new ConcurrentLinkyList<>();
+        LinkedList<String> java = new LinkedList<>();
+        
+        for( int i = 0; i < 10; i++ ) {
+            String val = (i % 4 == 0) ? null : "V" + (i % 3);
+            concurrent.add(val);
+            java.add(val);
+        }
+        
+        assertBehavior("Concurrent single-threaded - remove('V1')", 
+            concurrent.remove("V1"), java.remove("V1"));
+        assertBehavior("Concurrent single-threaded - remove(null)", 
+            concurrent.remove(null), java.remove(null));
+        assertBehavior("Concurrent single-threaded - remove('Z')", 
+            concurrent.remove("Z"), java.remove("Z"));
+        assertBehavior("Concurrent single-threaded - contains('V2')", 
+            concurrent.contains("V2"), java.contains("V2"));
+        
+        Iterator<String> concurrentIter = concurrent.iterator();
+        Iterator<String> javaIter = java.iterator();
+        while( javaIter.hasNext() ) {
+            concurrentIter.next();
+            if( "V2".equals(javaIter.next()) ) {
+                concurrentIter.remove();
+                javaIter.remove();
+            }
+        }
+        concurrent.add("last");
+        java.add("last");
+        
+        assertBehavior("Concurrent single-threaded - contents", 
+            concurrent.toString(), java.toString());
+        assertBehavior("Concurrent single-threaded - size()", 
+            concurrent.size(), java.size());
+        
+        concurrent.clear();
+        assertBehavior("Concurrent single-threaded - isEmpty() after clear", 
+            concurrent.isEmpty(), true);
+    }
+    
+    private static void testConcurrentAddRemove()
+    {
+        ConcurrentLinkyList<Integer> concurrent = new ConcurrentLinkyList<>();
+        int threads = 8;
+        int perThread = 2000;
+        Thread[] workers = new Thread[threads];
+        
+        // Each thread appends its own range, then removes the even values from it
+        for( int t = 0; t < threads; t++ ) {
+            int base = t * perThread;
+            workers[t] = new Thread(() -> {
+                for( int i = 0; i < perThread; i++ ) {
+                    concurrent.add(base + i);
+                }
+                for( int i = 0; i < perThread; i += 2 ) {
+                    concurrent.remove(Integer.valueOf(base + i));
+                }
+            });
+            workers[t].start();
+        }
+        for( Thread worker : workers ) {
+            try {
+                worker.join();
+            } catch( InterruptedException e ) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        
+        boolean onlyOdds = true;
+        int seen = 0;
+        for( Integer val : concurrent ) {
+            onlyOdds &= val % 2 == 1;
+            seen++;
+        }
+        
+        assertBehavior("Concurrent add/remove - survivors", 
+            seen, threads * perThread / 2);
+        assertBehavior("Concurrent add/remove - only odd values left", 
+            onlyOdds, true);
+        assertBehavior("Concurrent add/remove - size()", 
+            concurrent.size(), threads * perThread / 2);
+    }
+    
+    private static void testConcurrentIteratorRemoveUnlinks()
+    {
+        ConcurrentLinkyList<Integer> concurrent = new ConcurrentLinkyList<>();
+        for( int i = 0; i < 1000; i++ ) {
+            concurrent.add(i);
+        }
+        
+        // Runs of neighbours go together, so each remove starts from a predecessor that was itself removed
+        Iterator<Integer> iter = concurrent.iterator();
+        while( iter.hasNext() ) {
+            if( iter.next() % 4 != 3 ) {
+                iter.remove();
+            }
+        }
+        
+        assertBehavior("Concurrent iterator remove - size()", 
+            concurrent.size(), 250);
+        assertBehavior("Concurrent iterator remove - nodes left in chain", 
+            chainLength(concurrent), 250);
+        
+        // Threads sweep their own values out by iterator while others keep appending
+        ConcurrentLinkyList<Integer> shared = new ConcurrentLinkyList<>();
+        int threads = 8;
+        int perThread = 2000;
+        Thread[] workers = new Thread[threads];
+        for( int t = 0; t < threads; t++ ) {
+            int owner = t;
+            workers[t] = new Thread(() -> {
+                for( int i = 0; i < perThread; i++ ) {
+                    shared.add(i * threads + owner);
+                }
+                Iterator<Integer> sweep = shared.iterator();
+                while( sweep.hasNext() ) {
+                    int val = sweep.next();
+                    if( val % threads == owner && val % 2 == 0 ) {
+                        sweep.remove();
+                    }
+                }
+            });
+            workers[t].start();
+        }
+        for( Thread worker : workers ) {
+            try {
+                worker.join();
+            } catch( InterruptedException e ) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        
+        boolean onlyOdds = true;
+        for( Integer val : shared ) {
+            onlyOdds &= val % 2 == 1;
+        }
+        assertBehavior("Concurrent iterator remove - only odd values left", 
+            onlyOdds, true);
+        assertBehavior("Concurrent iterator remove - size() under contention", 
+            shared.size(), threads * perThread / 2);
+        assertBehavior("Concurrent iterator remove - nodes left under contention", 
+            chainLength(shared), threads * perThread / 2);
+    }
+    
+    /**
+     * Counts every node still linked into a ConcurrentLinkyList, marked or not
+     */
+    private static int chainLength(ConcurrentLinkyList<?> list)
+    {
+        try {
+            Field headField = ConcurrentLinkyList.class.getDeclaredField("head");
+            headField.setAccessible(true);
+            Object node = headField.get(list);
+            Field nextField = node.getClass().getDeclaredField("next");
+            nextField.setAccessible(true);
+            
+            int length = 0;
+            node = ((AtomicMarkableReference<?>) nextField.get(node)).getReference();
+            while( node != null ) {
+                length++;
+                node = ((AtomicMarkableReference<?>) nextField.get(node)).getReference();
+            }
+            return length;
+        } catch( ReflectiveOperationException e ) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    // ==================== STAMPED VARIANT ====================
+    
+    private static void testStampedSingleThreaded()
+    {
+        StampedLinkyList<String> stamped = new StampedLinkyList<>();
+        LinkedList<String> java = new LinkedList<>();
+        
+        for( int i = 0; i < 10; i++ ) {
+            String val = (i % 4 == 0) ? null : "V" + (i % 3);
+            stamped.add(val);
+            java.add(val);
+        }
+        stamped.add(3, "mid");
+        java.add(3, "mid");
+        
+        assertBehavior("Stamped single-threaded - set(5)", 
+            stamped.set(5, "S"), java.set(5, "S"));
+        assertBehavior("Stamped single-threaded - remove(0)", 
+            stamped.remove(0), java.remove(0));
+        assertBehavior("Stamped single-threaded - remove('V1')", 
+            stamped.remove("V1"), java.remove("V1"));
+        assertBehavior("Stamped single-threaded - get(4)", 
+            stamped.get(4), java.get(4));
+        assertBehavior("Stamped single-threaded - indexOf('V2')", 
+            stamped.indexOf("V2"), java.indexOf("V2"));
+        assertBehavior("Stamped single-threaded - lastIndexOf(null)", 
+            stamped.lastIndexOf(null), java.lastIndexOf(null));
+        assertBehavior("Stamped single-threaded - contains('Z')", 
+            stamped.contains("Z"), java.contains("Z"));
+        assertBehavior("Stamped single-threaded - size()", 
+            stamped.size(), java.size());
+        
+        StringBuilder visited = new StringBuilder();
+        stamped.forEach(val -> visited.append(val).append(' '));
+        StringBuilder expected = new StringBuilder();
+        java.forEach(val -> expected.append(val).append(' '));
+        assertBehavior("Stamped single-threaded - forEach order", 
+            visited.toString(), expected.toString());
+        
+        boolean threw = false;
+        try {
+            stamped.get(stamped.size());
+        } catch( IndexOutOfBoundsException e ) {
+            threw = true;
+        }
+        assertBehavior("Stamped single-threaded - get(size) throws", 
+            threw, true);
+        
+        stamped.clear();
+        assertBehavior("Stamped single-threaded - isEmpty() after clear", 
+            stamped.isEmpty(), true);
+    }
+    
+    private static void testStampedReadersDuringWrites()
+    {
+        StampedLinkyList<Integer> stamped = new StampedLinkyList<>();
+        int pinned = 100;
+        for( int i = 0; i < pinned; i++ ) {
+            stamped.add(i);
+        }
+        
+        // The writer churns the middle and the end; readers only look at values that never move or leave
+        int readers = 4;
+        boolean[] anomaly = new boolean[readers];
+        Thread writer = new Thread(() -> {
+            for( int i = 0; i < 20000; i++ ) {
+                stamped.add(pinned / 2, -1);
+                stamped.add(-2);
+                stamped.remove(pinned / 2);
+                stamped.remove(Integer.valueOf(-2));
+            }
+        });
+        Thread[] workers = new Thread[readers];
+        for( int r = 0; r < readers; r++ ) {
+            int id = r;
+            workers[r] = new Thread(() -> {
+                for( int i = 0; i < 20000; i++ ) {
+                    int val = i % pinned;
+                    if( !stamped.contains(val) || stamped.get(0) != 0 || stamped.indexOf(pinned / 2 - 1) != pinned / 2 - 1 ) {
+                        anomaly[id] = true;
+                    }
+                }
+            });
+        }
+        
+        writer.start();
+        for( Thread worker : workers ) {
+            worker.start();
+        }
+        try {
+            writer.join();
+            for( Thread worker : workers ) {
+                worker.join();
+            }
+        } catch( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+        }
+        
+        boolean consistent = true;
+        for( boolean seen : anomaly ) {
+            consistent &= !seen;
+        }
+        assertBehavior("Stamped readers during writes - every read consistent", 
+            consistent, true);
+        assertBehavior("Stamped readers during writes - size()", 
+            stamped.size(), pinned);
+    }
+    
+    // ==================== CONCURRENT QUEUE ====================
+    
+    private static void testQueueSingleThreaded()
+    {
+        ConcurrentLinkyQueue<String> queue = new ConcurrentLinkyQueue<>();
+        LinkedList<String> java = new LinkedList<>();
+        
+        assertBehavior("Queue single-threaded - poll() on empty", 
+            queue.poll(), java.poll());
+        assertBehavior("Queue single-threaded - peek() on empty", 
+            queue.peek(), java.peek());
+        
+        for( int i = 0; i < 20; i++ ) {
+            assertBehavior("Queue single-threaded - offer(" + i + ")", 
+                queue.offer("V" + i), java.offer("V" + i));
+            if( i % 3 == 2 ) {
+                assertBehavior("Queue single-threaded - poll() after offer(" + i + ")", 
+                    queue.poll(), java.poll());
+            }
+        }
+        
+        assertBehavior("Queue single-threaded - peek()", 
+            queue.peek(), java.peek());
+        assertBehavior("Queue single-threaded - contents", 
+            queue.toString(), java.toString());
+        assertBehavior("Queue single-threaded - size()", 
+            queue.size(), java.size());
+        
+        while( !java.isEmpty() ) {
+            queue.poll();
+            java.poll();
+        }
+        assertBehavior("Queue single-threaded - isEmpty() after draining", 
+            queue.isEmpty(), true);
+        
+        boolean threw = false;
+        try {
+            queue.offer(null);
+        } catch( NullPointerException e ) {
+            threw = true;
+        }
+        assertBehavior("Queue single-threaded - offer(null) throws", 
+            threw, true);
+    }
+    
+    private static void testQueueBoundedCapacity()
+    {
+        ConcurrentLinkyQueue<Integer> queue = new ConcurrentLinkyQueue<>(3);
+        
+        queue.offer(1);
+        queue.offer(2);
+        queue.offer(3);
+        assertBehavior("Queue bounded - offer() when full", 
+            queue.offer(4), false);
+        assertBehavior("Queue bounded - remainingCapacity() when full", 
+            queue.remainingCapacity(), 0);
+        
+        queue.poll();
+        assertBehavior("Queue bounded - offer() after poll()", 
+            queue.offer(4), true);
+        assertBehavior("Queue bounded - contents", 
+            queue.toString(), "[2, 3, 4]");
+        
+        // A blocked put() completes once a consumer frees a slot
+        Thread producer = new Thread(() -> {
+            try {
+                queue.put(5);
+            } catch( InterruptedException e ) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        Integer taken = null;
+        try {
+            taken = queue.take();
+            producer.join();
+        } catch( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+        }
+        
+        assertBehavior("Queue bounded - take()", 
+            taken, 2);
+        assertBehavior("Queue bounded - contents after blocked put()", 
+            queue.toString(), "[3, 4, 5]");
+        
+        Integer timedOut = 0;
+        ConcurrentLinkyQueue<Integer> empty = new ConcurrentLinkyQueue<>(1);
+        try {
+            timedOut = empty.poll(10, TimeUnit.MILLISECONDS);
+        } catch( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+        }
+        assertBehavior("Queue bounded - timed poll() on empty", 
+            timedOut, null);
+    }
+    
+    private static void testQueueProducersConsumers()
+    {
+        ConcurrentLinkyQueue<Integer> queue = new ConcurrentLinkyQueue<>(64);
+        int producers = 4;
+        int consumers = 4;
+        int perProducer = 5000;
+        long[] sums = new long[consumers];
+        boolean[] ordered = new boolean[consumers];
+        Thread[] workers = new Thread[producers + consumers];
+        
+        // Each producer offers its own increasing range; FIFO means every consumer sees each range in order
+        for( int p = 0; p < producers; p++ ) {
+            int base = p * perProducer;
+            workers[p] = new Thread(() -> {
+                try {
+                    for( int i = 0; i < perProducer; i++ ) {
+                        queue.put(base + i);
+                    }
+                } catch( InterruptedException e ) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        for( int c = 0; c < consumers; c++ ) {
+            int id = c;
+            workers[producers + c] = new Thread(() -> {
+                int[] lastSeen = new int[producers];
+                Arrays.fill(lastSeen, -1);
+                ordered[id] = true;
+                try {
+                    for( int i = 0; i < producers * perProducer / consumers; i++ ) {
+                        int val = queue.take();
+                        ordered[id] &= val > lastSeen[val / perProducer];
+                        lastSeen[val / perProducer] = val;
+                        sums[id] += val;
+                    }
+                } catch( InterruptedException e ) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        
+        for( Thread worker : workers ) {
+            worker.start();
+        }
+        for( Thread worker : workers ) {
+            try {
+                worker.join();
+            } catch( InterruptedException e ) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        
+        long total = 0;
+        boolean allOrdered = true;
+        for( int c = 0; c < consumers; c++ ) {
+            total += sums[c];
+            allOrdered &= ordered[c];
+        }
+        long n = (long) producers * perProducer;
+        
+        assertBehavior("Queue producers/consumers - every element taken once", 
+            total, n * (n - 1) / 2);
+        assertBehavior("Queue producers/consumers - per-producer FIFO order", 
+            allOrdered, true);
+        assertBehavior("Queue producers/consumers - empty afterwards", 
+            queue.isEmpty(), true);
+    }
+    
+    // ==================== BULK OPERATIONS ====================
+    
+    private static void testAddAllSplice()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        LinkedList<Integer> batch = new LinkedList<>();
+        for( int i = 0; i < 5; i++ ) {
+            batch.add(i * 10);
+        }
+        
+        assertBehavior("addAll() - into empty list", 
+            linky.addAll(batch), java.addAll(batch));
+        assertBehavior("addAll(0) - at head", 
+            linky.addAll(0, batch), java.addAll(0, batch));
+        assertBehavior("addAll(3) - in the middle", 
+            linky.addAll(3, batch), java.addAll(3, batch));
+        assertBehavior("addAll(size) - at tail", 
+            linky.addAll(linky.size(), batch), java.addAll(java.size(), batch));
+        assertBehavior("addAll() - empty collection", 
+            linky.addAll(new LinkedList<>()), java.addAll(new LinkedList<>()));
+        assertListsEqual("addAll() - contents", linky, java);
+        
+        // The tail and the backward links must be correct after every splice
+        LinkedList<Integer> backward = new LinkedList<>();
+        ListIterator<Integer> iter = linky.listIterator(linky.size());
+        while( iter.hasPrevious() ) {
+            backward.addFirst(iter.previous());
+        }
+        assertBehavior("addAll() - backward traversal", 
+            backward, java);
+        linky.add(-1);
+        java.add(-1);
+        assertBehavior("addAll() - lastIndexOf after append", 
+            linky.lastIndexOf(0), java.lastIndexOf(0));
+        
+        boolean threw = false;
+        try {
+            linky.addAll(linky.size() + 1, batch);
+        } catch( IndexOutOfBoundsException e ) {
+            threw = true;
+        }
+        assertBehavior("addAll(size + 1) throws", 
+            threw, true);
+    }
+    
+    private static void testRemoveAllRetainAll()
+    {
+        LinkyList<String> linky = new LinkyList<>();
+        LinkedList<String> java = new LinkedList<>();
+        for( int i = 0; i < 30; i++ ) {
+            String val = (i % 7 == 0) ? null : "V" + (i % 5);
+            linky.add(val);
+            java.add(val);
+        }
+        
+        LinkedList<String> purge = new LinkedList<>();
+        purge.add("V1");
+        purge.add("V1");
+        purge.add(null);
+        assertBehavior("removeAll() - list argument with duplicates and null", 
+            linky.removeAll(purge), java.removeAll(purge));
+        assertListsEqual("removeAll() - contents", linky, java);
+        assertBehavior("removeAll() - nothing to remove", 
+            linky.removeAll(purge), java.removeAll(purge));
+        
+        Set<String> keep = new HashSet<>();
+        keep.add("V2");
+        keep.add("V4");
+        assertBehavior("retainAll() - set argument", 
+            linky.retainAll(keep), java.retainAll(keep));
+        assertListsEqual("retainAll() - contents", linky, java);
+        assertBehavior("retainAll() - lastIndexOf('V2')", 
+            linky.lastIndexOf("V2"), java.lastIndexOf("V2"));
+        
+        assertBehavior("retainAll() - empty argument", 
+            linky.retainAll(new LinkedList<>()), java.retainAll(new LinkedList<>()));
+        assertBehavior("retainAll() - isEmpty() afterwards", 
+            linky.isEmpty(), java.isEmpty());
+    }
+    
+    private static void testRemoveIfReplaceAllForEach()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        for( int i = 0; i < 40; i++ ) {
+            Integer val = (i % 9 == 0) ? null : i % 6;
+            linky.add(val);
+            java.add(val);
+        }
+        
+        assertBehavior("removeIf() - nulls and multiples of 3", 
+            linky.removeIf(val -> val == null || val % 3 == 0), java.removeIf(val -> val == null || val % 3 == 0));
+        assertListsEqual("removeIf() - contents", linky, java);
+        assertBehavior("removeIf() - no matches", 
+            linky.removeIf(val -> val > 100), java.removeIf(val -> val > 100));
+        assertBehavior("removeIf() - lastIndexOf(5)", 
+            linky.lastIndexOf(5), java.lastIndexOf(5));
+        
+        linky.replaceAll(val -> val * 10);
+        java.replaceAll(val -> val * 10);
+        assertListsEqual("replaceAll() - contents", linky, java);
+        
+        StringBuilder linkyVisited = new StringBuilder();
+        StringBuilder javaVisited = new StringBuilder();
+        linky.forEach(val -> linkyVisited.append(val).append(' '));
+        java.forEach(val -> javaVisited.append(val).append(' '));
+        assertBehavior("forEach() - order", 
+            linkyVisited.toString(), javaVisited.toString());
+        
+        assertBehavior("removeIf() - everything", 
+            linky.removeIf(val -> true), java.removeIf(val -> true));
+        assertBehavior("removeIf() - isEmpty() afterwards", 
+            linky.isEmpty(), java.isEmpty());
+        linky.add(1);
+        java.add(1);
+        assertListsEqual("removeIf() - add after emptying", linky, java);
+    }
+    
+    private static void testBulkMutatorsFailFast()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        for( int i = 0; i < 5; i++ ) {
+            linky.add(i);
+        }
+        
+        boolean threw = false;
+        try {
+            linky.forEach(val -> linky.add(val));
+        } catch( ConcurrentModificationException e ) {
+            threw = true;
+        }
+        assertBehavior("forEach() - structural change throws CME", 
+            threw, true);
+        
+        threw = false;
+        try {
+            linky.removeIf(val -> linky.remove(Integer.valueOf(val + 1)));
+        } catch( ConcurrentModificationException e ) {
+            threw = true;
+        }
+        assertBehavior("removeIf() - structural change throws CME", 
+            threw, true);
+        
+        threw = false;
+        try {
+            linky.replaceAll(val -> {
+                linky.remove(0);
+                return val;
+            });
+        } catch( ConcurrentModificationException e ) {
+            threw = true;
+        }
+        assertBehavior("replaceAll() - structural change throws CME", 
+            threw, true);
+    }
+    
+    // ==================== HASH INDEX ====================
+    
+    private static void testHashIndexedMixedOperations()
+    {
+        LinkyList<Integer> linky = LinkyList.hashIndexed();
+        LinkedList<Integer> java = new LinkedList<>();
+        Random rand = new Random(16);
+        boolean sameResults = true;
+        
+        // A small value range so most values occur several times at scattered positions
+        for( int i = 0; i < 3000; i++ ) {
+            int op = rand.nextInt(8);
+            Integer val = rand.nextInt(10) == 0 ? null : rand.nextInt(12);
+            if( op == 0 || java.isEmpty() ) {
+                linky.add(val);
+                java.add(val);
+            } else if( op == 1 ) {
+                int index = rand.nextInt(java.size() + 1);
+                linky.add(index, val);
+                java.add(index, val);
+            } else if( op == 2 ) {
+                int index = rand.nextInt(java.size());
+                sameResults &= Objects.equals(linky.set(index, val), java.set(index, val));
+            } else if( op == 3 ) {
+                int index = rand.nextInt(java.size());
+                sameResults &= Objects.equals(linky.remove(index), java.remove(index));
+            } else if( op == 4 ) {
+                sameResults &= linky.remove(val) == java.remove(val);
+            } else if( op == 5 ) {
+                sameResults &= linky.contains(val) == java.contains(val);
+            } else if( op == 6 ) {
+                sameResults &= linky.indexOf(val) == java.indexOf(val);
+            } else {
+                sameResults &= linky.lastIndexOf(val) == java.lastIndexOf(val);
+            }
+        }
+        
+        assertBehavior("Hash-indexed mixed operations - every result matches", 
+            sameResults, true);
+        assertListsEqual("Hash-indexed mixed operations - contents", linky, java);
+        
+        boolean indexAgrees = true;
+        for( int val = 0; val < 12; val++ ) {
+            indexAgrees &= linky.indexOf(val) == java.indexOf(val) && linky.lastIndexOf(val) == java.lastIndexOf(val);
+        }
+        assertBehavior("Hash-indexed mixed operations - first and last occurrences", 
+            indexAgrees, true);
+        
+        linky.clear();
+        java.clear();
+        assertBehavior("Hash-indexed mixed operations - contains() after clear", 
+            linky.contains(3), java.contains(3));
+        linky.add(3);
+        assertBehavior("Hash-indexed mixed operations - indexOf() after clear and add", 
+            linky.indexOf(3), 0);
+    }
+    
+    private static void testHashIndexedManyDuplicates()
+    {
+        // Occurrences of "A" added far from any other "A" are placed in their bucket by order key
+        LinkyList<String> linky = LinkyList.hashIndexed();
+        LinkedList<String> java = new LinkedList<>();
+        linky.add("A");
+        java.add("A");
+        for( int i = 0; i < 2000; i++ ) {
+            linky.add("B");
+            java.add("B");
+        }
+        linky.add("A");
+        java.add("A");
+        
+        ListIterator<String> linkyIter = linky.listIterator(1000);
+        ListIterator<String> javaIter = java.listIterator(1000);
+        for( int i = 0; i < 500; i++ ) {
+            linkyIter.add("A");
+            javaIter.add("A");
+            linkyIter.next();
+            javaIter.next();
+            linkyIter.set(i % 3 == 0 ? "C" : "B");
+            javaIter.set(i % 3 == 0 ? "C" : "B");
+        }
+        assertListsEqual("Hash-indexed duplicates - contents after iterator writes", linky, java);
+        assertBehavior("Hash-indexed duplicates - lastIndexOf('C')", 
+            linky.lastIndexOf("C"), java.lastIndexOf("C"));
+        
+        // Drop the end occurrences first so the first and last "A" are ones added in the middle
+        boolean sameResults = linky.remove(0).equals(java.remove(0))
+            && linky.remove(linky.size() - 1).equals(java.remove(java.size() - 1));
+        while( java.contains("A") ) {
+            sameResults &= linky.indexOf("A") == java.indexOf("A");
+            sameResults &= linky.lastIndexOf("A") == java.lastIndexOf("A");
+            sameResults &= linky.remove("A") == java.remove("A");
+        }
+        assertBehavior("Hash-indexed duplicates - indexOf/lastIndexOf/remove match while draining", 
+            sameResults, true);
+        assertBehavior("Hash-indexed duplicates - contains('A') once drained", 
+            linky.contains("A"), false);
+        assertListsEqual("Hash-indexed duplicates - contents", linky, java);
+    }
+    
+    private static void testHashIndexedOrderKeys()
+    {
+        // Inserting again and again at one spot uses up the room between two order keys many times over
+        LinkyList<Integer> linky = LinkyList.hashIndexed();
+        LinkedList<Integer> java = new LinkedList<>();
+        for( int i = 0; i < 100; i++ ) {
+            linky.add(i % 7);
+            java.add(i % 7);
+        }
+        Random rand = new Random(777);
+        for( int i = 0; i < 3000; i++ ) {
+            int index = (i % 50 == 0) ? rand.nextInt(java.size() + 1) : 50;
+            linky.add(index, i % 7);
+            java.add(index, i % 7);
+            if( i % 500 == 0 ) {
+                List<Integer> batch = Arrays.asList(1, 2, 1, 3);
+                linky.addAll(index, batch);
+                java.addAll(index, batch);
+            }
+        }
+        
+        boolean sameResults = true;
+        for( int value = 0; value < 7; value++ ) {
+            sameResults &= linky.indexOf(value) == java.indexOf(value);
+            sameResults &= linky.lastIndexOf(value) == java.lastIndexOf(value);
+        }
+        for( int i = 0; i < 1000; i++ ) {
+            Integer value = rand.nextInt(7);
+            sameResults &= linky.remove(value) == java.remove(value);
+            sameResults &= linky.indexOf(value) == java.indexOf(value);
+            sameResults &= linky.lastIndexOf(value) == java.lastIndexOf(value);
+        }
+        assertBehavior("Hash-indexed order keys - first and last occurrences after dense inserts", 
+            sameResults, true);
+        assertListsEqual("Hash-indexed order keys - contents", linky, java);
+        
+        // An operator that throws part way leaves some values rewritten; the index must follow them
+        LinkyList<String> partial = LinkyList.hashIndexed();
+        partial.addAll(Arrays.asList("a", "b", "c", "d"));
+        try {
+            partial.replaceAll(value -> {
+                if( value.equals("c") ) {
+                    throw new IllegalStateException();
+                }
+                return value.toUpperCase();
+            });
+        } catch( IllegalStateException e ) {
+            // Expected
+        }
+        assertBehavior("Hash-indexed order keys - index follows a replaceAll() that threw", 
+            partial.toString() + " " + partial.contains("a") + " " + partial.indexOf("B") + " " + partial.remove("A") + " " + partial, 
+            "[A, B, c, d] false 1 true [B, c, d]");
+    }
+    
+    private static void testHashIndexedBulkAndIterator()
+    {
+        LinkyList<String> linky = LinkyList.hashIndexed();
+        LinkedList<String> java = new LinkedList<>();
+        LinkedList<String> batch = new LinkedList<>();
+        for( int i = 0; i < 8; i++ ) {
+            batch.add("V" + (i % 3));
+        }
+        
+        linky.addAll(batch);
+        java.addAll(batch);
+        linky.addAll(0, batch);
+        java.addAll(0, batch);
+        linky.addAll(5, batch);
+        java.addAll(5, batch);
+        
+        ListIterator<String> linkyIter = linky.listIterator();
+        ListIterator<String> javaIter = java.listIterator();
+        while( javaIter.hasNext() ) {
+            String val = javaIter.next();
+            linkyIter.next();
+            if( "V0".equals(val) ) {
+                linkyIter.set("V1");
+                javaIter.set("V1");
+            } else if( "V2".equals(val) ) {
+                linkyIter.remove();
+                javaIter.remove();
+                linkyIter.add("V3");
+                javaIter.add("V3");
+            }
+        }
+        assertListsEqual("Hash-indexed bulk - contents after iterator edits", linky, java);
+        assertBehavior("Hash-indexed bulk - contains('V0') after set", 
+            linky.contains("V0"), java.contains("V0"));
+        assertBehavior("Hash-indexed bulk - indexOf('V3')", 
+            linky.indexOf("V3"), java.indexOf("V3"));
+        
+        linky.removeIf(val -> val.equals("V1"));
+        java.removeIf(val -> val.equals("V1"));
+        assertBehavior("Hash-indexed bulk - contains('V1') after removeIf", 
+            linky.contains("V1"), java.contains("V1"));
+        
+        linky.replaceAll(val -> val + "x");
+        java.replaceAll(val -> val + "x");
+        assertBehavior("Hash-indexed bulk - lastIndexOf('V3x') after replaceAll", 
+            linky.lastIndexOf("V3x"), java.lastIndexOf("V3x"));
+        assertBehavior("Hash-indexed bulk - remove('V3x')", 
+            linky.remove("V3x"), java.remove("V3x"));
+        assertListsEqual("Hash-indexed bulk - contents", linky, java);
+    }
+    
+    // ==================== FINGER CACHE ====================
+    
+    private static void testFingerIndexLoops()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        for( int i = 0; i < 200; i++ ) {
+            linky.add(i);
+            java.add(i);
+        }
+        
+        // Forward and backward index loops that insert and remove as they go, shifting later indices
+        boolean sameResults = true;
+        for( int i = 0; i < linky.size(); i++ ) {
+            sameResults &= Objects.equals(linky.get(i), java.get(i));
+            if( i % 7 == 0 ) {
+                linky.add(i, -i);
+                java.add(i, -i);
+                i++;
+            } else if( i % 11 == 0 ) {
+                sameResults &= Objects.equals(linky.remove(i), java.remove(i));
+                i--;
+            } else {
+                sameResults &= Objects.equals(linky.set(i, i * 2), java.set(i, i * 2));
+            }
+        }
+        for( int i = linky.size() - 1; i >= 0; i -= 3 ) {
+            sameResults &= Objects.equals(linky.get(i), java.get(i));
+            if( i % 5 == 0 ) {
+                sameResults &= Objects.equals(linky.remove(i), java.remove(i));
+            }
+        }
+        
+        assertBehavior("Finger index loops - every result matches", 
+            sameResults, true);
+        assertListsEqual("Finger index loops - contents", linky, java);
+    }
+    
+    private static void testFingerAfterStructuralChanges()
+    {
+        LinkyList<String> linky = new LinkyList<>();
+        LinkedList<String> java = new LinkedList<>();
+        for( int i = 0; i < 20; i++ ) {
+            linky.add("V" + i);
+            java.add("V" + i);
+        }
+        
+        // Each change below moves elements without going through an indexed operation
+        linky.get(10);
+        linky.remove("V2");
+        java.remove("V2");
+        assertBehavior("Finger after remove(Object) - get(10)", 
+            linky.get(10), java.get(10));
+        
+        Iterator<String> iter = linky.iterator();
+        iter.next();
+        iter.remove();
+        java.remove(0);
+        assertBehavior("Finger after iterator remove - get(11)", 
+            linky.get(11), java.get(11));
+        
+        linky.addAll(0, java.subList(0, 3));
+        java.addAll(0, java.subList(0, 3));
+        assertBehavior("Finger after addAll(0) - get(12)", 
+            linky.get(12), java.get(12));
+        
+        linky.removeIf(val -> val.endsWith("5"));
+        java.removeIf(val -> val.endsWith("5"));
+        assertBehavior("Finger after removeIf - get(12)", 
+            linky.get(12), java.get(12));
+        
+        linky.remove(linky.size() - 1);
+        java.remove(java.size() - 1);
+        assertBehavior("Finger after removing the last element - get(size - 1)", 
+            linky.get(linky.size() - 1), java.get(java.size() - 1));
+        
+        linky.clear();
+        java.clear();
+        linky.add("A");
+        java.add("A");
+        assertBehavior("Finger after clear - get(0)", 
+            linky.get(0), java.get(0));
+    }
+    
+    // ==================== LIST CONTRACT ====================
+    
+    private static void testListInterop()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        for( int i = 0; i < 12; i++ ) {
+            Integer val = (i % 5 == 0) ? null : i % 4;
+            linky.add(val);
+            java.add(val);
+        }
+        
+        // LinkyList passed straight to code written against List and Collection
+        List<Integer> asList = linky;
+        Collection<Integer> asCollection = linky;
+        assertBehavior("List interop - equals(LinkedList)", 
+            asList.equals(java), true);
+        assertBehavior("List interop - LinkedList.equals(LinkyList)", 
+            java.equals(linky), true);
+        assertBehavior("List interop - hashCode() matches LinkedList", 
+            asList.hashCode(), java.hashCode());
+        assertBehavior("List interop - containsAll()", 
+            asCollection.containsAll(Arrays.asList(1, 2, null)), java.containsAll(Arrays.asList(1, 2, null)));
+        assertBehavior("List interop - copied by ArrayList constructor", 
+            new ArrayList<>(linky), new ArrayList<>(java));
+        assertBehavior("List interop - not equal to a different List", 
+            linky.equals(Arrays.asList(1, 2, 3)), java.equals(Arrays.asList(1, 2, 3)));
+        assertBehavior("List interop - not equal to a non-List", 
+            linky.equals(new HashSet<>(java)), java.equals(new HashSet<>(java)));
+        
+        Collections.reverse(linky);
+        Collections.reverse(java);
+        assertListsEqual("List interop - Collections.reverse()", linky, java);
+        Collections.shuffle(linky, new Random(18));
+        Collections.shuffle(java, new Random(18));
+        assertListsEqual("List interop - Collections.shuffle()", linky, java);
+        Collections.swap(linky, 1, 9);
+        Collections.swap(java, 1, 9);
+        assertListsEqual("List interop - Collections.swap()", linky, java);
+        assertBehavior("List interop - Collections.frequency()", 
+            Collections.frequency(linky, 3), Collections.frequency(java, 3));
+        
+        linky.removeIf(Objects::isNull);
+        java.removeIf(Objects::isNull);
+        assertBehavior("List interop - Collections.max()", 
+            Collections.max(linky), Collections.max(java));
+        assertBehavior("List interop - stream() via Collection", 
+            asCollection.stream().mapToInt(Integer::intValue).sum(), java.stream().mapToInt(Integer::intValue).sum());
+    }
+    
+    private static void testSubListViews()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        for( int i = 0; i < 30; i++ ) {
+            linky.add(i);
+            java.add(i);
+        }
+        
+        List<Integer> linkySub = linky.subList(5, 20);
+        List<Integer> javaSub = java.subList(5, 20);
+        assertBehavior("subList - get(3)", 
+            linkySub.get(3), javaSub.get(3));
+        assertBehavior("subList - set(4)", 
+            linkySub.set(4, 99), javaSub.set(4, 99));
+        linkySub.add(2, -1);
+        javaSub.add(2, -1);
+        assertBehavior("subList - remove(0)", 
+            linkySub.remove(0), javaSub.remove(0));
+        assertBehavior("subList - indexOf(99)", 
+            linkySub.indexOf(99), javaSub.indexOf(99));
+        assertBehavior("subList - addAll(1)", 
+            linkySub.addAll(1, Arrays.asList(7, 8)), javaSub.addAll(1, Arrays.asList(7, 8)));
+        assertBehavior("subList - size()", 
+            linkySub.size(), javaSub.size());
+        assertBehavior("subList - contents", 
+            linkySub, javaSub);
+        
+        linky.subList(3, 12).clear();
+        java.subList(3, 12).clear();
+        assertListsEqual("subList(3, 12).clear() - contents", linky, java);
+        linky.subList(0, 2).clear();
+        java.subList(0, 2).clear();
+        linky.subList(linky.size() - 4, linky.size()).clear();
+        java.subList(java.size() - 4, java.size()).clear();
+        assertListsEqual("subList clear at both ends - contents", linky, java);
+        assertBehavior("subList clear at both ends - lastIndexOf()", 
+            linky.lastIndexOf(java.getLast()), java.lastIndexOf(java.getLast()));
+        
+        List<Integer> stale = linky.subList(0, 3);
+        linky.add(1000);
+        boolean threw = false;
+        try {
+            stale.size();
+        } catch( ConcurrentModificationException e ) {
+            threw = true;
+        }
+        assertBehavior("subList - structural change to parent throws CME", 
+            threw, true);
+        
+        LinkyList<String> hashed = LinkyList.hashIndexed();
+        for( int i = 0; i < 10; i++ ) {
+            hashed.add("V" + (i % 3));
+        }
+        hashed.subList(2, 8).clear();
+        assertBehavior("subList clear on hash-indexed list - indexOf('V1')", 
+            hashed.indexOf("V1"), 1);
+        assertBehavior("subList clear on hash-indexed list - lastIndexOf('V2')", 
+            hashed.lastIndexOf("V2"), 2);
+    }
+    
+    private static void testNestedSubListViews()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        for( int i = 0; i < 60; i++ ) {
+            linky.add(i);
+            java.add(i);
+        }
+        
+        // Edits through a view nested in a view, including at the view's very ends and at the list's tail
+        List<Integer> linkyOuter = linky.subList(10, 60);
+        List<Integer> javaOuter = java.subList(10, 60);
+        List<Integer> linkyInner = linkyOuter.subList(5, 50);
+        List<Integer> javaInner = javaOuter.subList(5, 50);
+        Random rand = new Random(180);
+        boolean sameResults = true;
+        for( int i = 0; i < 400; i++ ) {
+            int op = rand.nextInt(7);
+            int size = javaInner.size();
+            if( op == 0 || size == 0 ) {
+                int index = rand.nextInt(size + 1);
+                linkyInner.add(index, -i);
+                javaInner.add(index, -i);
+            } else if( op == 1 ) {
+                int index = rand.nextInt(size);
+                sameResults &= Objects.equals(linkyInner.remove(index), javaInner.remove(index));
+            } else if( op == 2 ) {
+                int index = rand.nextInt(size);
+                sameResults &= Objects.equals(linkyInner.set(index, i), javaInner.set(index, i));
+            } else if( op == 3 ) {
+                int index = rand.nextInt(size + 1);
+                List<Integer> batch = Arrays.asList(i, i + 1, i + 2);
+                sameResults &= linkyInner.addAll(index, batch) == javaInner.addAll(index, batch);
+            } else if( op == 4 ) {
+                int from = rand.nextInt(size);
+                int to = Math.min(size, from + rand.nextInt(4));
+                linkyInner.subList(from, to).clear();
+                javaInner.subList(from, to).clear();
+            } else if( op == 5 ) {
+                int index = rand.nextInt(size);
+                ListIterator<Integer> linkyIter = linkyInner.listIterator(index);
+                ListIterator<Integer> javaIter = javaInner.listIterator(index);
+                sameResults &= Objects.equals(linkyIter.next(), javaIter.next());
+                linkyIter.remove();
+                javaIter.remove();
+                linkyIter.add(i);
+                javaIter.add(i);
+                sameResults &= linkyIter.hasNext() == javaIter.hasNext();
+                sameResults &= linkyIter.previousIndex() == javaIter.previousIndex();
+            } else {
+                int index = rand.nextInt(size);
+                sameResults &= Objects.equals(linkyInner.get(index), javaInner.get(index));
+            }
+        }
+        
+        assertBehavior("Nested subList - every result matches", 
+            sameResults, true);
+        assertBehavior("Nested subList - inner view contents", 
+            linkyInner, javaInner);
+        assertBehavior("Nested subList - outer view size()", 
+            linkyOuter.size(), javaOuter.size());
+        assertBehavior("Nested subList - outer view contents", 
+            linkyOuter, javaOuter);
+        assertListsEqual("Nested subList - list contents", linky, java);
+        
+        ListIterator<Integer> linkyBack = linkyInner.listIterator(linkyInner.size());
+        ListIterator<Integer> javaBack = javaInner.listIterator(javaInner.size());
+        boolean backwardsMatch = true;
+        while( javaBack.hasPrevious() ) {
+            backwardsMatch &= linkyBack.hasPrevious() && Objects.equals(linkyBack.previous(), javaBack.previous());
+        }
+        assertBehavior("Nested subList - walking backwards stops at the view's start", 
+            backwardsMatch && !linkyBack.hasPrevious(), true);
+        
+        linkyOuter.add(0, 500);
+        boolean threw = false;
+        try {
+            linkyInner.get(0);
+        } catch( ConcurrentModificationException e ) {
+            threw = true;
+        }
+        assertBehavior("Nested subList - change through the outer view invalidates the inner one", 
+            threw, true);
+        
+        threw = false;
+        try {
+            linky.subList(5, 3);
+        } catch( IllegalArgumentException e ) {
+            threw = true;
+        }
+        assertBehavior("Nested subList - subList(5, 3) rejected", 
+            threw, true);
+    }
+    
+    private static void testSortAndToArray()
+    {
+        LinkyList<String> linky = new LinkyList<>();
+        LinkedList<String> java = new LinkedList<>();
+        Random rand = new Random(18);
+        for( int i = 0; i < 50; i++ ) {
+            String val = "V" + rand.nextInt(20);
+            linky.add(val);
+            java.add(val);
+        }
+        
+        linky.sort(null);
+        java.sort(null);
+        assertListsEqual("sort(null) - contents", linky, java);
+        linky.sort(Comparator.comparing(String::length).reversed());
+        java.sort(Comparator.comparing(String::length).reversed());
+        assertListsEqual("sort(Comparator) - stable contents", linky, java);
+        
+        assertBehavior("toArray() - contents", 
+            Arrays.toString(linky.toArray()), Arrays.toString(java.toArray()));
+        String[] small = linky.toArray(new String[0]);
+        assertBehavior("toArray(E[]) - new array of the right size", 
+            small.length, java.size());
+        String[] big = new String[java.size() + 2];
+        Arrays.fill(big, "x");
+        assertBehavior("toArray(E[]) - fills given array", 
+            linky.toArray(big) == big, true);
+        assertBehavior("toArray(E[]) - null after the last element", 
+            big[java.size()], null);
+        
+        LinkyList<Integer> hashed = LinkyList.hashIndexed();
+        for( int i = 5; i > 0; i-- ) {
+            hashed.add(i);
+            hashed.add(i);
+        }
+        hashed.sort(null);
+        assertBehavior("sort() on hash-indexed list - indexOf(3)", 
+            hashed.indexOf(3), 4);
+        assertBehavior("sort() on hash-indexed list - lastIndexOf(5)", 
+            hashed.lastIndexOf(5), 9);
+    }
+    
+    // ==================== HASH CODE ====================
+    
+    private static void testHashCodeAfterMutations()
+    {
+        LinkyList<String> linky = new LinkyList<>();
+        LinkedList<String> java = new LinkedList<>();
+        
+        assertBehavior("hashCode() - empty", 
+            linky.hashCode(), java.hashCode());
+        
+        // Read the hash after every step so each mutator runs with a cached value in place
+        boolean allMatch = true;
+        for( int i = 0; i < 20; i++ ) {
+            linky.add(i % 6 == 0 ? null : "V" + i);
+            java.add(i % 6 == 0 ? null : "V" + i);
+            allMatch &= linky.hashCode() == java.hashCode();
+        }
+        linky.addAll(Arrays.asList("A", null));
+        java.addAll(Arrays.asList("A", null));
+        allMatch &= linky.hashCode() == java.hashCode();
+        linky.addAll(3, Arrays.asList("B"));
+        java.addAll(3, Arrays.asList("B"));
+        allMatch &= linky.hashCode() == java.hashCode();
+        linky.add(0, "C");
+        java.add(0, "C");
+        allMatch &= linky.hashCode() == java.hashCode();
+        linky.set(5, "D");
+        java.set(5, "D");
+        allMatch &= linky.hashCode() == java.hashCode();
+        linky.remove(7);
+        java.remove(7);
+        allMatch &= linky.hashCode() == java.hashCode();
+        linky.remove("V5");
+        java.remove("V5");
+        allMatch &= linky.hashCode() == java.hashCode();
+        ListIterator<String> linkyIter = linky.listIterator(4);
+        ListIterator<String> javaIter = java.listIterator(4);
+        linkyIter.next();
+        javaIter.next();
+        linkyIter.set("E");
+        javaIter.set("E");
+        allMatch &= linky.hashCode() == java.hashCode();
+        linky.removeIf(Objects::isNull);
+        java.removeIf(Objects::isNull);
+        allMatch &= linky.hashCode() == java.hashCode();
+        linky.replaceAll(String::toLowerCase);
+        java.replaceAll(String::toLowerCase);
+        allMatch &= linky.hashCode() == java.hashCode();
+        linky.sort(null);
+        java.sort(null);
+        allMatch &= linky.hashCode() == java.hashCode();
+        linky.subList(2, 5).clear();
+        java.subList(2, 5).clear();
+        allMatch &= linky.hashCode() == java.hashCode();
+        linky.clear();
+        java.clear();
+        allMatch &= linky.hashCode() == java.hashCode();
+        
+        assertBehavior("hashCode() - matches LinkedList after every mutator", 
+            allMatch, true);
+    }
+    
+    private static void testListsAsHashKeys()
+    {
+        HashMap<LinkyList<Integer>, String> cache = new HashMap<>();
+        LinkyList<Integer> key = new LinkyList<>();
+        for( int i = 0; i < 100; i++ ) {
+            key.add(i);
+        }
+        cache.put(key, "hundred");
+        
+        LinkyList<Integer> probe = new LinkyList<>();
+        for( int i = 0; i < 100; i++ ) {
+            probe.add(i);
+        }
+        assertBehavior("Hash keys - equal list finds the entry", 
+            cache.get(probe), "hundred");
+        assertBehavior("Hash keys - LinkedList with the same elements finds the entry", 
+            cache.get(new LinkedList<>(probe)), "hundred");
+        
+        probe.set(99, -1);
+        assertBehavior("Hash keys - changed list misses", 
+            cache.get(probe), null);
+        
+        // Same size, both hashes cached and different: rejected before walking
+        probe.hashCode();
+        assertBehavior("Hash keys - equals() with differing cached hashes", 
+            probe.equals(key), false);
+        probe.set(99, 99);
+        assertBehavior("Hash keys - equals() after restoring", 
+            probe.equals(key), true);
+        
+        HashSet<LinkyList<Integer>> unique = new HashSet<>();
+        unique.add(key);
+        unique.add(probe);
+        assertBehavior("Hash keys - deduplicated by HashSet", 
+            unique.size(), 1);
+    }
+    
+    // ==================== BINARY SERIALIZATION ====================
+    
+    private static <T> byte[] serialize(LinkyList<T> list, LinkyCodec<T> codec)
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            LinkyListSerializer.write(list, bytes, codec);
+        } catch( IOException e ) {
+            throw new AssertionError(e);
+        }
+        return bytes.toByteArray();
+    }
+    
+    private static <T> LinkyList<T> deserialize(byte[] bytes, LinkyCodec<T> codec)
+    {
+        try {
+            return LinkyListSerializer.read(new ByteArrayInputStream(bytes), codec);
+        } catch( IOException e ) {
+            throw new AssertionError(e);
+        }
+    }
+    
+    private static void testSerializerRoundTrips()
+    {
+        LinkyList<Integer> ints = new LinkyList<>();
+        LinkedList<Integer> javaInts = new LinkedList<>();
+        for( Integer value : Arrays.asList(0, 1, -1, 63, -64, 64, -65, null, 
+                Integer.MAX_VALUE, Integer.MIN_VALUE, null, 300, -300) ) {
+            ints.add(value);
+            javaInts.add(value);
+        }
+        assertListsEqual("Serializer - Integer round trip with nulls and extremes", 
+            deserialize(serialize(ints, LinkyCodec.INTEGER), LinkyCodec.INTEGER), javaInts);
+        
+        LinkyList<Long> longs = new LinkyList<>();
+        LinkedList<Long> javaLongs = new LinkedList<>();
+        for( Long value : Arrays.asList(0L, -1L, Long.MAX_VALUE, Long.MIN_VALUE, 1L << 40, null) ) {
+            longs.add(value);
+            javaLongs.add(value);
+        }
+        assertListsEqual("Serializer - Long round trip", 
+            deserialize(serialize(longs, LinkyCodec.LONG), LinkyCodec.LONG), javaLongs);
+        
+        LinkyList<String> strings = new LinkyList<>();
+        LinkedList<String> javaStrings = new LinkedList<>();
+        for( String value : Arrays.asList("plain", "", null, "caf\u00e9", "\u65e5\u672c", "\uD83D\uDE00", "x".repeat(1000)) ) {
+            strings.add(value);
+            javaStrings.add(value);
+        }
+        assertListsEqual("Serializer - String round trip with unicode, empty and null", 
+            deserialize(serialize(strings, LinkyCodec.STRING), LinkyCodec.STRING), javaStrings);
+        
+        LinkyList<Integer> empty = new LinkyList<>();
+        byte[] emptyBytes = serialize(empty, LinkyCodec.INTEGER);
+        assertListsEqual("Serializer - empty list round trip", 
+            deserialize(emptyBytes, LinkyCodec.INTEGER), new LinkedList<>());
+        assertBehavior("Serializer - empty list is header plus end marker", 
+            emptyBytes.length, 13);
+        
+        // Small values take one byte each whatever their sign
+        LinkyList<Integer> small = new LinkyList<>();
+        for( int i = -64; i < 64; i++ ) {
+            small.add(i);
+        }
+        assertBehavior("Serializer - small ints are one byte each", 
+            serialize(small, LinkyCodec.INTEGER).length, 13 + 9 + 128);
+    }
+    
+    private static void testSerializerChunksAndStreaming()
+    {
+        // Spans many chunks, with nulls straddling the chunk boundaries
+        LinkyList<Integer> linky = new LinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        for( int i = 0; i < 50000; i++ ) {
+            Integer value = (i % 8191 == 0 || i % 8192 == 8191) ? null : i * 37;
+            linky.add(value);
+            java.add(value);
+        }
+        byte[] bytes = serialize(linky, LinkyCodec.INTEGER);
+        assertListsEqual("Serializer - multi-chunk round trip", 
+            deserialize(bytes, LinkyCodec.INTEGER), java);
+        
+        // Long strings close chunks early by size rather than by count
+        LinkyList<String> big = new LinkyList<>();
+        LinkedList<String> javaBig = new LinkedList<>();
+        for( int i = 0; i < 300; i++ ) {
+            String value = i + "-" + "s".repeat(1000);
+            big.add(value);
+            javaBig.add(value);
+        }
+        assertListsEqual("Serializer - chunks closed by size", 
+            deserialize(serialize(big, LinkyCodec.STRING), LinkyCodec.STRING), javaBig);
+        
+        List<Integer> streamed = new ArrayList<>();
+        int count = -1;
+        try {
+            count = LinkyListSerializer.forEach(new ByteArrayInputStream(bytes), LinkyCodec.INTEGER, streamed::add);
+        } catch( IOException e ) {
+            streamed = null;
+        }
+        assertBehavior("Serializer - forEach() returns the element count", 
+            count, 50000);
+        assertBehavior("Serializer - forEach() sees every element in order", 
+            java.equals(streamed), true);
+        
+        // Two snapshots back to back on one stream read independently
+        ByteArrayOutputStream both = new ByteArrayOutputStream();
+        LinkyList<Integer> first = new LinkyList<>();
+        first.add(1);
+        first.add(2);
+        LinkyList<Integer> second = new LinkyList<>();
+        second.add(3);
+        String result;
+        try {
+            LinkyListSerializer.write(first, both, LinkyCodec.INTEGER);
+            LinkyListSerializer.write(second, both, LinkyCodec.INTEGER);
+            ByteArrayInputStream in = new ByteArrayInputStream(both.toByteArray());
+            result = LinkyListSerializer.read(in, LinkyCodec.INTEGER) + " " 
+                + LinkyListSerializer.read(in, LinkyCodec.INTEGER) + " " + in.available();
+        } catch( IOException e ) {
+            result = e.toString();
+        }
+        assertBehavior("Serializer - consecutive snapshots on one stream", 
+            result, "[1, 2] [3] 0");
+    }
+    
+    private static void testSerializerCustomCodec()
+    {
+        // Fixed-width codec for a type the built-ins do not cover
+        LinkyCodec<Double> doubles = new LinkyCodec<>() {
+            public void encode(Double value, DataOutput out) throws IOException {
+                out.writeDouble(value);
+            }
+            
+            public Double decode(DataInput in) throws IOException {
+                return in.readDouble();
+            }
+        };
+        LinkyList<Double> linky = new LinkyList<>();
+        LinkedList<Double> java = new LinkedList<>();
+        for( Double value : Arrays.asList(1.5, -0.0, null, Double.NaN, Double.MAX_VALUE) ) {
+            linky.add(value);
+            java.add(value);
+        }
+        assertListsEqual("Serializer - custom codec round trip", 
+            deserialize(serialize(linky, doubles), doubles), java);
+        
+        // A codec that reads less than it wrote is caught at the end of the chunk
+        LinkyCodec<Double> lossy = new LinkyCodec<>() {
+            public void encode(Double value, DataOutput out) throws IOException {
+                out.writeDouble(value);
+            }
+            
+            public Double decode(DataInput in) throws IOException {
+                return (double) in.readFloat();
+            }
+        };
+        String result;
+        try {
+            LinkyListSerializer.read(new ByteArrayInputStream(serialize(linky, doubles)), lossy);
+            result = "no exception";
+        } catch( IOException e ) {
+            result = e.getClass().getSimpleName();
+        }
+        assertBehavior("Serializer - codec that under-reads is rejected", 
+            result, "StreamCorruptedException");
+    }
+    
+    private static void testSerializerBadInput()
+    {
+        LinkyList<Integer> linky = new LinkyList<>();
+        for( int i = 0; i < 20000; i++ ) {
+            linky.add(i);
+        }
+        byte[] bytes = serialize(linky, LinkyCodec.INTEGER);
+        
+        byte[] badMagic = bytes.clone();
+        badMagic[0] = 'X';
+        assertBehavior("Serializer - bad magic", 
+            readFailure(badMagic), StreamCorruptedException.class.getSimpleName());
+        
+        byte[] badVersion = bytes.clone();
+        badVersion[4] = 99;
+        assertBehavior("Serializer - unknown version", 
+            readFailure(badVersion), StreamCorruptedException.class.getSimpleName());
+        
+        assertBehavior("Serializer - truncated mid-chunk", 
+            readFailure(Arrays.copyOf(bytes, bytes.length / 2)), EOFException.class.getSimpleName());
+        assertBehavior("Serializer - truncated header", 
+            readFailure(Arrays.copyOf(bytes, 5)), EOFException.class.getSimpleName());
+        
+        // Cut right after the first chunk and end the stream cleanly: the header count catches it
+        int firstChunkEnd = 9 + 8 + (((bytes[13] & 0xFF) << 24) | ((bytes[14] & 0xFF) << 16) 
+            | ((bytes[15] & 0xFF) << 8) | (bytes[16] & 0xFF));
+        byte[] missingChunks = Arrays.copyOf(bytes, firstChunkEnd + 4);
+        assertBehavior("Serializer - missing chunks with clean end marker", 
+            readFailure(missingChunks), EOFException.class.getSimpleName());
+        
+        byte[] hugeChunk = bytes.clone();
+        hugeChunk[13] = 0x7F;
+        assertBehavior("Serializer - absurd chunk length", 
+            readFailure(hugeChunk), StreamCorruptedException.class.getSimpleName());
+    }
+    
+    private static String readFailure(byte[] bytes)
+    {
+        try {
+            LinkyListSerializer.read(new ByteArrayInputStream(bytes), LinkyCodec.INTEGER);
+            return "no exception";
+        } catch( IOException e ) {
+            return e.getClass().getSimpleName();
+        }
+    }
+    
+    // ==================== MEMORY-MAPPED LISTS ====================
+    
+    private static LinkedList<Integer> mappedInts(MappedLinkyList mapped)
+    {
+        LinkedList<Integer> values = new LinkedList<>();
+        mapped.forEachInt(values::add);
+        return values;
+    }
+    
+    private static void testMappedAppendAndReopen()
+    {
+        Path file = null;
+        try {
+            file = Files.createTempFile("linky", ".map");
+            LinkedList<Integer> java = new LinkedList<>();
+            
+            // Four nodes per region, so the file grows by many mappings
+            try( MappedLinkyList mapped = MappedLinkyList.open(file, OffHeapLinkyList.ElementType.INT, Integer.BYTES, 4) ) {
+                for( int i = 0; i < 100; i++ ) {
+                    mapped.addInt(i * 3);
+                    java.add(i * 3);
+                }
+            }
+            assertBehavior("Mapped - file grew to header plus regions", 
+                Files.size(file), 4096L + 25 * 4 * 12);
+            
+            try( MappedLinkyList mapped = MappedLinkyList.openInts(file) ) {
+                assertBehavior("Mapped - reopen restores size()", 
+                    mapped.size(), 100);
+                assertBehavior("Mapped - reopen restores contents", 
+                    mappedInts(mapped), java);
+                
+                // Keep going after the reopen, with edits that use the free chain
+                Random rand = new Random(12345);
+                for( int i = 0; i < 300; i++ ) {
+                    int op = rand.nextInt(4);
+                    int val = rand.nextInt(1000);
+                    if( op == 0 && !java.isEmpty() ) {
+                        int index = rand.nextInt(java.size());
+                        mapped.remove(index);
+                        java.remove(index);
+                    } else if( op == 1 ) {
+                        int index = rand.nextInt(java.size() + 1);
+                        mapped.addInt(index, val);
+                        java.add(index, val);
+                    } else if( op == 2 && !java.isEmpty() ) {
+                        int index = rand.nextInt(java.size());
+                        mapped.setInt(index, val);
+                        java.set(index, val);
+                    } else {
+                        mapped.addInt(val);
+                        java.add(val);
+                    }
+                }
+                assertBehavior("Mapped - mixed operations after reopen", 
+                    mappedInts(mapped), java);
+                assertBehavior("Mapped - getInt() after reopen", 
+                    mapped.getInt(java.size() / 2), java.get(java.size() / 2).intValue());
+            }
+            
+            try( MappedLinkyList mapped = MappedLinkyList.openInts(file) ) {
+                assertBehavior("Mapped - second reopen restores contents", 
+                    mappedInts(mapped), java);
+                mapped.clear();
+            }
+            try( MappedLinkyList mapped = MappedLinkyList.openInts(file) ) {
+                assertBehavior("Mapped - clear() persists", 
+                    mapped.isEmpty(), true);
+            }
+        } catch( IOException | UncheckedIOException e ) {
+            assertBehavior("Mapped - append and reopen", 
+                e.toString(), "no exception");
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+    
+    private static void testMappedForceIsDurabilityPoint()
+    {
+        Path file = null;
+        Path crashed = null;
+        try {
+            file = Files.createTempFile("linky", ".map");
+            crashed = Files.createTempFile("linky", ".crashed");
+            try( MappedLinkyList mapped = MappedLinkyList.openLongs(file) ) {
+                for( long i = 0; i < 10; i++ ) {
+                    mapped.addLong(i << 40);
+                }
+                mapped.force();
+                for( long i = 10; i < 15; i++ ) {
+                    mapped.addLong(i << 40);
+                }
+                
+                // A copy taken now is what the disk would hold if the machine died before the next force()
+                Files.copy(file, crashed, StandardCopyOption.REPLACE_EXISTING);
+                
+                boolean threw = false;
+                try( MappedLinkyList twice = MappedLinkyList.openLongs(file) ) {
+                    twice.size();
+                } catch( IOException e ) {
+                    threw = true;
+                }
+                assertBehavior("Mapped - second open of a locked file rejected", 
+                    threw, true);
+            }
+            
+            try( MappedLinkyList recovered = MappedLinkyList.openLongs(crashed) ) {
+                assertBehavior("Mapped - crash keeps the forced size", 
+                    recovered.size(), 10);
+                assertBehavior("Mapped - crash keeps the forced last element", 
+                    recovered.getLong(9), 9L << 40);
+                
+                // The unforced appends are gone, and appending again starts from the forced tail
+                recovered.addLong(-1L);
+                List<Long> values = new ArrayList<>();
+                recovered.forEachLong(values::add);
+                assertBehavior("Mapped - append after recovery", 
+                    values.size() + " " + values.get(10), "11 -1");
+            }
+            
+            try( MappedLinkyList closed = MappedLinkyList.openLongs(file) ) {
+                assertBehavior("Mapped - close() forces everything", 
+                    closed.size(), 15);
+            }
+        } catch( IOException | UncheckedIOException e ) {
+            assertBehavior("Mapped - force() durability", 
+                e.toString(), "no exception");
+        } finally {
+            deleteQuietly(file);
+            deleteQuietly(crashed);
+        }
+    }
+    
+    private static void testMappedCrashAfterRemove()
+    {
+        Path file = null;
+        Path crashed = null;
+        try {
+            file = Files.createTempFile("linky", ".map");
+            crashed = Files.createTempFile("linky", ".crashed");
+            try( MappedLinkyList mapped = MappedLinkyList.openInts(file) ) {
+                mapped.addInt(10);
+                mapped.addInt(20);
+                mapped.addInt(30);
+                mapped.remove(1);
+                mapped.force();
+                
+                // The removed node is still in the forced state's free space, so these must not land in it
+                mapped.addInt(40);
+                mapped.addInt(50);
+                Files.copy(file, crashed, StandardCopyOption.REPLACE_EXISTING);
+            }
+            
+            try( MappedLinkyList recovered = MappedLinkyList.openInts(crashed) ) {
+                assertBehavior("Mapped - crash after remove keeps the forced contents", 
+                    mappedInts(recovered), new LinkedList<>(Arrays.asList(10, 30)));
+                
+                // The removed node is free again after recovery, and reusing it keeps the chain intact
+                recovered.addInt(1);
+                recovered.addInt(2);
+                recovered.addInt(3);
+                assertBehavior("Mapped - appends after crash recovery", 
+                    mappedInts(recovered), new LinkedList<>(Arrays.asList(10, 30, 1, 2, 3)));
+                assertBehavior("Mapped - size() after crash recovery", 
+                    recovered.size(), 5);
+            }
+            
+            // Unforced edits in the middle and at the end copy the saved nodes instead of relinking them
+            Files.write(file, new byte[0]);
+            try( MappedLinkyList mapped = MappedLinkyList.openInts(file) ) {
+                mapped.addInt(10);
+                mapped.addInt(20);
+                mapped.addInt(30);
+                mapped.force();
+                mapped.remove(2);
+                mapped.addInt(1, 15);
+                mapped.setInt(0, 5);
+                Files.copy(file, crashed, StandardCopyOption.REPLACE_EXISTING);
+                assertBehavior("Mapped - unforced edits are visible before the crash", 
+                    mappedInts(mapped), new LinkedList<>(Arrays.asList(5, 15, 20)));
+            }
+            try( MappedLinkyList recovered = MappedLinkyList.openInts(crashed) ) {
+                assertBehavior("Mapped - crash after unforced edits keeps the forced contents", 
+                    mappedInts(recovered), new LinkedList<>(Arrays.asList(10, 20, 30)));
+            }
+        } catch( IOException | UncheckedIOException e ) {
+            assertBehavior("Mapped - crash after remove", 
+                e.toString(), "no exception");
+        } finally {
+            deleteQuietly(file);
+            deleteQuietly(crashed);
+        }
+    }
+    
+    private static void testMappedCrashAtRandomPoints()
+    {
+        Path file = null;
+        Path crashed = null;
+        try {
+            file = Files.createTempFile("linky", ".map");
+            crashed = Files.createTempFile("linky", ".crashed");
+            Random rand = new Random(4242);
+            LinkedList<Integer> java = new LinkedList<>();
+            LinkedList<Integer> forced = new LinkedList<>();
+            boolean recoveredAll = true;
+            boolean continuedAll = true;
+            int crashes = 0;
+            
+            // Sixteen nodes per region, so shadow copies spill across many mappings
+            try( MappedLinkyList mapped = MappedLinkyList.open(file, OffHeapLinkyList.ElementType.INT, Integer.BYTES, 16) ) {
+                for( int i = 0; i < 3000; i++ ) {
+                    int op = rand.nextInt(10);
+                    int val = rand.nextInt(1000);
+                    if( op < 2 && !java.isEmpty() ) {
+                        int index = rand.nextInt(java.size());
+                        mapped.remove(index);
+                        java.remove(index);
+                    } else if( op < 4 ) {
+                        int index = rand.nextInt(java.size() + 1);
+                        mapped.addInt(index, val);
+                        java.add(index, val);
+                    } else if( op < 6 && !java.isEmpty() ) {
+                        int index = rand.nextInt(java.size());
+                        mapped.setInt(index, val);
+                        java.set(index, val);
+                    } else if( op == 6 ) {
+                        mapped.force();
+                        forced = new LinkedList<>(java);
+                    } else if( op == 7 && i % 10 == 0 ) {
+                        // What the disk would hold if the machine died now
+                        Files.copy(file, crashed, StandardCopyOption.REPLACE_EXISTING);
+                        crashes++;
+                        try( MappedLinkyList recovered = MappedLinkyList.openInts(crashed) ) {
+                            recoveredAll &= mappedInts(recovered).equals(forced);
+                            
+                            // The rebuilt free chain must hand out only nodes the list is not using
+                            LinkedList<Integer> expected = new LinkedList<>(forced);
+                            for( int j = 0; j < 20; j++ ) {
+                                int index = rand.nextInt(expected.size() + 1);
+                                recovered.addInt(index, -j);
+                                expected.add(index, -j);
+                            }
+                            continuedAll &= mappedInts(recovered).equals(expected);
+                        }
+                    } else {
+                        mapped.addInt(val);
+                        java.add(val);
+                    }
+                }
+                assertBehavior("Mapped - contents after random edits", 
+                    mappedInts(mapped), java);
+            }
+            assertBehavior("Mapped - every crash recovers the last forced contents", 
+                recoveredAll && crashes > 0, true);
+            assertBehavior("Mapped - edits after each recovery", 
+                continuedAll, true);
+            
+            // A clean close keeps the free chain, so reopening reuses nodes rather than growing the file
+            long length = Files.size(file);
+            try( MappedLinkyList reopened = MappedLinkyList.openInts(file) ) {
+                assertBehavior("Mapped - clean reopen after random edits", 
+                    mappedInts(reopened), java);
+                for( int i = 0; i < 5; i++ ) {
+                    int count = reopened.size();
+                    reopened.clear();
+                    reopened.force();
+                    for( int j = 0; j < count; j++ ) {
+                        reopened.addInt(j);
+                    }
+                    reopened.force();
+                }
+            }
+            assertBehavior("Mapped - cleared nodes are reused after force()", 
+                Files.size(file), length);
+        } catch( IOException | UncheckedIOException e ) {
+            assertBehavior("Mapped - crash at random points", 
+                e.toString(), "no exception");
+        } finally {
+            deleteQuietly(file);
+            deleteQuietly(crashed);
+        }
+    }
+    
+    private static void testMappedBadFiles()
+    {
+        Path file = null;
+        try {
+            file = Files.createTempFile("linky", ".map");
+            try( MappedLinkyList mapped = MappedLinkyList.openInts(file) ) {
+                mapped.addInt(1);
+            }
+            assertBehavior("Mapped - wrong element type rejected", 
+                mappedOpenFailure(file, OffHeapLinkyList.ElementType.LONG, Long.BYTES), "IOException");
+            
+            byte[] bytes = Files.readAllBytes(file);
+            bytes[0] = 'X';
+            Files.write(file, bytes);
+            assertBehavior("Mapped - bad magic rejected", 
+                mappedOpenFailure(file, OffHeapLinkyList.ElementType.INT, Integer.BYTES), "StreamCorruptedException");
+            
+            Files.write(file, new byte[100]);
+            assertBehavior("Mapped - short file rejected", 
+                mappedOpenFailure(file, OffHeapLinkyList.ElementType.INT, Integer.BYTES), "EOFException");
+            
+            Files.write(file, new byte[0]);
+            MappedLinkyList mapped = MappedLinkyList.openDoubles(file);
+            mapped.addDouble(2.5);
+            mapped.close();
+            boolean threw = false;
+            try {
+                mapped.force();
+            } catch( IllegalStateException e ) {
+                threw = true;
+            }
+            assertBehavior("Mapped - force() after close() rejected", 
+                threw, true);
+        } catch( IOException | UncheckedIOException e ) {
+            assertBehavior("Mapped - bad files", 
+                e.toString(), "no exception");
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+    
+    private static String mappedOpenFailure(Path file, OffHeapLinkyList.ElementType type, int elementBytes)
+    {
+        try( MappedLinkyList mapped = MappedLinkyList.open(file, type, elementBytes, 16) ) {
+            return "no exception, " + mapped.size() + " elements";
+        } catch( IOException e ) {
+            return e.getClass().getSimpleName();
+        }
+    }
+    
+    private static void deleteQuietly(Path file)
+    {
+        try {
+            if( file != null ) {
+                Files.deleteIfExists(file);
+            }
+        } catch( IOException e ) {
+            // Left for the temp directory cleanup
+        }
+    }
+    
+    // ==================== WRITE-AHEAD JOURNAL ====================
+    
+    private static <T> LinkedList<T> journalContents(JournaledLinkyList<T> journaled)
+    {
+        LinkedList<T> values = new LinkedList<>();
+        journaled.forEach(values::add);
+        return values;
+    }
+    
+    private static Path copyJournal(Path directory) throws IOException
+    {
+        // What the disk holds at this moment, as if the process died here
+        Path copy = Files.createTempDirectory("linky-crashed");
+        for( String name : new String[] { "snapshot.lnky", "journal.log" } ) {
+            if( Files.exists(directory.resolve(name)) ) {
+                Files.copy(directory.resolve(name), copy.resolve(name));
+            }
+        }
+        return copy;
+    }
+    
+    private static void deleteJournal(Path directory)
+    {
+        if( directory == null ) {
+            return;
+        }
+        for( String name : new String[] { "snapshot.lnky", "snapshot.lnky.tmp", "journal.log" } ) {
+            deleteQuietly(directory.resolve(name));
+        }
+        deleteQuietly(directory);
+    }
+    
+    private static void testJournalReplay()
+    {
+        Path directory = null;
+        try {
+            directory = Files.createTempDirectory("linky-journal");
+            LinkedList<String> java = new LinkedList<>();
+            try( JournaledLinkyList<String> journaled = JournaledLinkyList.open(directory, LinkyCodec.STRING, JournaledLinkyList.SyncPolicy.NEVER) ) {
+                Random rand = new Random(12345);
+                boolean removesAgree = true;
+                for( int i = 0; i < 2000; i++ ) {
+                    int op = rand.nextInt(6);
+                    String val = rand.nextInt(10) == 0 ? null : "v" + rand.nextInt(50);
+                    if( op == 0 && !java.isEmpty() ) {
+                        int index = rand.nextInt(java.size());
+                        journaled.remove(index);
+                        java.remove(index);
+                    } else if( op == 1 ) {
+                        removesAgree &= journaled.remove(val) == java.remove(val);
+                    } else if( op == 2 && !java.isEmpty() ) {
+                        int index = rand.nextInt(java.size());
+                        journaled.set(index, val);
+                        java.set(index, val);
+                    } else if( op == 3 ) {
+                        int index = rand.nextInt(java.size() + 1);
+                        journaled.add(index, val);
+                        java.add(index, val);
+                    } else {
+                        journaled.add(val);
+                        java.add(val);
+                    }
+                    if( i == 1000 ) {
+                        journaled.clear();
+                        java.clear();
+                    }
+                }
+                
+                assertBehavior("Journal - remove(Object) results", 
+                    removesAgree, true);
+                
+                // Rejected mutations are never logged
+                boolean threw = false;
+                try {
+                    journaled.add(java.size() + 5, "bad");
+                } catch( IndexOutOfBoundsException e ) {
+                    threw = true;
+                }
+                assertBehavior("Journal - out-of-range insert rejected", 
+                    threw, true);
+                assertBehavior("Journal - contents before reopen", 
+                    journalContents(journaled), java);
+            }
+            
+            try( JournaledLinkyList<String> reopened = JournaledLinkyList.open(directory, LinkyCodec.STRING, JournaledLinkyList.SyncPolicy.NEVER) ) {
+                assertBehavior("Journal - replay restores every mutation", 
+                    journalContents(reopened), java);
+                assertBehavior("Journal - replay restores size()", 
+                    reopened.size(), java.size());
+            }
+            
+            JournaledLinkyList<String> closed = JournaledLinkyList.open(directory, LinkyCodec.STRING, JournaledLinkyList.SyncPolicy.NEVER);
+            closed.close();
+            boolean threw = false;
+            try {
+                closed.add("late");
+            } catch( IllegalStateException e ) {
+                threw = true;
+            }
+            assertBehavior("Journal - add() after close() rejected", 
+                threw, true);
+        } catch( IOException | UncheckedIOException e ) {
+            assertBehavior("Journal - replay", 
+                e.toString(), "no exception");
+        } finally {
+            deleteJournal(directory);
+        }
+    }
+    
+    private static void testJournalCrashRecovery()
+    {
+        Path directory = null;
+        Path crashed = null;
+        try {
+            directory = Files.createTempDirectory("linky-journal");
+            LinkedList<Integer> java = new LinkedList<>();
+            try( JournaledLinkyList<Integer> journaled = JournaledLinkyList.open(directory, LinkyCodec.INTEGER, JournaledLinkyList.SyncPolicy.ALWAYS) ) {
+                for( int i = 0; i < 500; i++ ) {
+                    journaled.add(i);
+                    java.add(i);
+                }
+                journaled.remove(Integer.valueOf(250));
+                java.remove(Integer.valueOf(250));
+                journaled.set(0, null);
+                java.set(0, null);
+                
+                // ALWAYS: every acknowledged mutation is already on disk
+                crashed = copyJournal(directory);
+            }
+            
+            // A frame torn by the crash is dropped, and logging carries on after the last good one
+            Files.write(crashed.resolve("journal.log"), new byte[] { 0, 0, 0, 20, 1, 2, 3 }, StandardOpenOption.APPEND);
+            try( JournaledLinkyList<Integer> recovered = JournaledLinkyList.open(crashed, LinkyCodec.INTEGER, JournaledLinkyList.SyncPolicy.ALWAYS) ) {
+                assertBehavior("Journal - recovery after crash", 
+                    journalContents(recovered), java);
+                recovered.add(-1);
+                java.add(-1);
+            }
+            try( JournaledLinkyList<Integer> recovered = JournaledLinkyList.open(crashed, LinkyCodec.INTEGER, JournaledLinkyList.SyncPolicy.ALWAYS) ) {
+                assertBehavior("Journal - appends after dropping a torn frame", 
+                    journalContents(recovered), java);
+            }
+            
+            // A frame that passes its checksum but does not apply is real corruption, not a torn write
+            deleteJournal(directory);
+            directory = Files.createTempDirectory("linky-journal");
+            try( JournaledLinkyList<Integer> one = JournaledLinkyList.open(directory, LinkyCodec.INTEGER, JournaledLinkyList.SyncPolicy.NEVER) ) {
+                one.add(1);
+            }
+            // Header, then one frame: length, CRC32, and the record add(1) as op 1 and zigzag 2
+            byte[] log = Files.readAllBytes(directory.resolve("journal.log"));
+            assertBehavior("Journal - add(1) logs a two-byte record", 
+                log.length + " " + log[20] + " " + log[21], "22 1 2");
+            // Rewrite it as remove(5), with a checksum to match
+            log[20] = 4;
+            log[21] = 5;
+            CRC32 crc = new CRC32();
+            crc.update(log, 20, 2);
+            ByteBuffer.wrap(log, 16, 4).putInt((int) crc.getValue());
+            Files.write(directory.resolve("journal.log"), log);
+            String result;
+            try( JournaledLinkyList<Integer> corrupt = JournaledLinkyList.open(directory, LinkyCodec.INTEGER, JournaledLinkyList.SyncPolicy.NEVER) ) {
+                result = "no exception, " + corrupt.size() + " elements";
+            } catch( StreamCorruptedException e ) {
+                result = "StreamCorruptedException";
+            }
+            assertBehavior("Journal - intact record that does not apply is rejected", 
+                result, "StreamCorruptedException");
+        } catch( IOException | UncheckedIOException e ) {
+            assertBehavior("Journal - crash recovery", 
+                e.toString(), "no exception");
+        } finally {
+            deleteJournal(directory);
+            deleteJournal(crashed);
+        }
+    }
+    
+    private static void testJournalEncodeFailure()
+    {
+        // Writes part of a record before it gives up on negative values
+        LinkyCodec<Integer> picky = new LinkyCodec<>() {
+            public void encode(Integer value, DataOutput out) throws IOException {
+                out.writeByte(0x7F);
+                if( value < 0 ) {
+                    throw new IllegalArgumentException("negative: " + value);
+                }
+                out.writeInt(value);
+            }
+            
+            public Integer decode(DataInput in) throws IOException {
+                in.readByte();
+                return in.readInt();
+            }
+        };
+        Path directory = null;
+        try {
+            directory = Files.createTempDirectory("linky-journal");
+            try( JournaledLinkyList<Integer> journaled = JournaledLinkyList.open(directory, picky, JournaledLinkyList.SyncPolicy.ALWAYS) ) {
+                journaled.add(1);
+                journaled.add(2);
+                journaled.remove(Integer.valueOf(2));
+                
+                String result;
+                try {
+                    journaled.add(-1);
+                    result = "no exception";
+                } catch( IllegalArgumentException e ) {
+                    result = "IllegalArgumentException";
+                }
+                assertBehavior("Journal - codec exception rejects the call", 
+                    result, "IllegalArgumentException");
+                assertBehavior("Journal - rejected element is not applied", 
+                    journalContents(journaled), new LinkedList<>(Arrays.asList(1)));
+                
+                // Only that call failed; the journal keeps going
+                journaled.add(3);
+                journaled.set(0, 4);
+            }
+            
+            // The partial record was cut off, so the records after it replay cleanly
+            try( JournaledLinkyList<Integer> reopened = JournaledLinkyList.open(directory, picky, JournaledLinkyList.SyncPolicy.ALWAYS) ) {
+                assertBehavior("Journal - replay after a codec failure", 
+                    journalContents(reopened), new LinkedList<>(Arrays.asList(4, 3)));
+            }
+            
+            // A codec that cannot decode an intact frame reports corruption, not its own exception
+            LinkyCodec<Integer> unreadable = new LinkyCodec<>() {
+                public void encode(Integer value, DataOutput out) throws IOException {
+                    picky.encode(value, out);
+                }
+                
+                public Integer decode(DataInput in) throws IOException {
+                    return Integer.parseInt("x" + picky.decode(in));
+                }
+            };
+            String result;
+            try( JournaledLinkyList<Integer> reopened = JournaledLinkyList.open(directory, unreadable, JournaledLinkyList.SyncPolicy.ALWAYS) ) {
+                result = "no exception, " + reopened.size() + " elements";
+            } catch( StreamCorruptedException e ) {
+                result = "StreamCorruptedException";
+            }
+            assertBehavior("Journal - codec that fails to decode is rejected", 
+                result, "StreamCorruptedException");
+        } catch( IOException | UncheckedIOException e ) {
+            assertBehavior("Journal - codec failure", 
+                e.toString(), "no exception");
+        } finally {
+            deleteJournal(directory);
+        }
+    }
+    
+    private static void testJournalCheckpoint()
+    {
+        Path directory = null;
+        Path beforeReset = null;
+        try {
+            directory = Files.createTempDirectory("linky-journal");
+            LinkedList<Long> java = new LinkedList<>();
+            try( JournaledLinkyList<Long> journaled = JournaledLinkyList.open(directory, LinkyCodec.LONG, JournaledLinkyList.SyncPolicy.NEVER) ) {
+                for( long i = 0; i < 1000; i++ ) {
+                    journaled.add(i * i);
+                    java.add(i * i);
+                }
+                journaled.sync();
+                Path staleLog = copyJournal(directory);
+                
+                journaled.checkpoint();
+                assertBehavior("Journal - checkpoint() empties the log", 
+                    Files.size(directory.resolve("journal.log")), 12L);
+                
+                // A crash after the new snapshot but before the log was emptied: the old log must not replay
+                beforeReset = copyJournal(directory);
+                Files.copy(staleLog.resolve("journal.log"), beforeReset.resolve("journal.log"), StandardCopyOption.REPLACE_EXISTING);
+                deleteJournal(staleLog);
+                
+                for( long i = 0; i < 10; i++ ) {
+                    journaled.remove(0);
+                    java.remove(0);
+                }
+                journaled.add(-5L);
+                java.add(-5L);
+            }
+            
+            try( JournaledLinkyList<Long> reopened = JournaledLinkyList.open(directory, LinkyCodec.LONG, JournaledLinkyList.SyncPolicy.NEVER) ) {
+                assertBehavior("Journal - snapshot plus log replay", 
+                    journalContents(reopened), java);
+            }
+            try( JournaledLinkyList<Long> recovered = JournaledLinkyList.open(beforeReset, LinkyCodec.LONG, JournaledLinkyList.SyncPolicy.NEVER) ) {
+                assertBehavior("Journal - log older than the snapshot is ignored", 
+                    recovered.size(), 1000);
+            }
+        } catch( IOException | UncheckedIOException e ) {
+            assertBehavior("Journal - checkpoint", 
+                e.toString(), "no exception");
+        } finally {
+            deleteJournal(directory);
+            deleteJournal(beforeReset);
+        }
+    }
+    
+    private static void testJournalGroupCommit()
+    {
+        Path directory = null;
+        Path crashed = null;
+        try {
+            directory = Files.createTempDirectory("linky-journal");
+            int threads = 4;
+            int perThread = 500;
+            try( JournaledLinkyList<Integer> journaled = JournaledLinkyList.open(directory, LinkyCodec.INTEGER, JournaledLinkyList.SyncPolicy.ALWAYS) ) {
+                Thread[] workers = new Thread[threads];
+                for( int t = 0; t < threads; t++ ) {
+                    int base = t * perThread;
+                    workers[t] = new Thread(() -> {
+                        for( int i = 0; i < perThread; i++ ) {
+                            journaled.add(base + i);
+                        }
+                    });
+                    workers[t].start();
+                }
+                for( Thread worker : workers ) {
+                    worker.join();
+                }
+                crashed = copyJournal(directory);
+            }
+            
+            try( JournaledLinkyList<Integer> recovered = JournaledLinkyList.open(crashed, LinkyCodec.INTEGER, JournaledLinkyList.SyncPolicy.ALWAYS) ) {
+                Set<Integer> seen = new HashSet<>(journalContents(recovered));
+                assertBehavior("Journal - concurrent ALWAYS adds all durable", 
+                    seen.size() + " " + recovered.size(), (threads * perThread) + " " + (threads * perThread));
+            }
+            deleteJournal(crashed);
+            crashed = null;
+            
+            // INTERVAL: after a few intervals the background flusher has forced everything
+            try( JournaledLinkyList<Integer> interval = JournaledLinkyList.open(directory, LinkyCodec.INTEGER, JournaledLinkyList.SyncPolicy.INTERVAL, 10) ) {
+                interval.clear();
+                interval.add(7);
+                Thread.sleep(200);
+                crashed = copyJournal(directory);
+            }
+            try( JournaledLinkyList<Integer> recovered = JournaledLinkyList.open(crashed, LinkyCodec.INTEGER, JournaledLinkyList.SyncPolicy.NEVER) ) {
+                assertBehavior("Journal - INTERVAL flusher forces in the background", 
+                    recovered.toString(), "[7]");
+            }
+        } catch( IOException | UncheckedIOException | InterruptedException e ) {
+            assertBehavior("Journal - group commit", 
+                e.toString(), "no exception");
+        } finally {
+            deleteJournal(directory);
+            deleteJournal(crashed);
+        }
+    }
+    
+    // ==================== PERSISTENT LIST ====================
+    
+    private static void testPersistentUpdates()
+    {
+        PersistentLinkyList<Integer> persistent = PersistentLinkyList.empty();
+        LinkedList<Integer> java = new LinkedList<>();
+        List<PersistentLinkyList<Integer>> versions = new ArrayList<>();
+        List<LinkedList<Integer>> expected = new ArrayList<>();
+        Random rand = new Random(12345);
+        
+        for( int i = 0; i < 500; i++ ) {
+            int op = rand.nextInt(6);
+            Integer val = rand.nextInt(10) == 0 ? null : rand.nextInt(40);
+            if( op == 0 ) {
+                persistent = persistent.prepend(val);
+                java.addFirst(val);
+            } else if( op == 1 ) {
+                persistent = persistent.append(val);
+                java.addLast(val);
+            } else if( op == 2 ) {
+                int index = rand.nextInt(java.size() + 1);
+                persistent = persistent.insert(index, val);
+                java.add(index, val);
+            } else if( op == 3 && !java.isEmpty() ) {
+                int index = rand.nextInt(java.size());
+                persistent = persistent.set(index, val);
+                java.set(index, val);
+            } else if( op == 4 && !java.isEmpty() ) {
+                int index = rand.nextInt(java.size());
+                persistent = persistent.remove(index);
+                java.remove(index);
+            } else {
+                persistent = persistent.remove(val);
+                java.remove(val);
+            }
+            versions.add(persistent);
+            expected.add(new LinkedList<>(java));
+        }
+        
+        assertBehavior("Persistent - contents after mixed updates", 
+            persistent.toString(), java.toString());
+        assertBehavior("Persistent - size()", 
+            persistent.size(), java.size());
+        assertBehavior("Persistent - get(middle)", 
+            persistent.get(java.size() / 2), java.get(java.size() / 2));
+        assertBehavior("Persistent - indexOf(7)", 
+            persistent.indexOf(7), java.indexOf(7));
+        assertBehavior("Persistent - hashCode() matches LinkedList", 
+            persistent.hashCode(), java.hashCode());
+        assertListsEqual("Persistent - toLinkyList()", 
+            persistent.toLinkyList(), java);
+        
+        // Every earlier version is untouched by everything that came after it
+        boolean allIntact = true;
+        for( int i = 0; i < versions.size(); i++ ) {
+            allIntact &= versions.get(i).toString().equals(expected.get(i).toString());
+        }
+        assertBehavior("Persistent - every old version unchanged", 
+            allIntact, true);
+        
+        assertBehavior("Persistent - first() and rest()", 
+            PersistentLinkyList.of(1, 2, 3).first() + " " + PersistentLinkyList.of(1, 2, 3).rest(), "1 [2, 3]");
+        assertBehavior("Persistent - reverse()", 
+            PersistentLinkyList.of(1, 2, 3).reverse().toString(), "[3, 2, 1]");
+        assertBehavior("Persistent - equals() across separate builds", 
+            PersistentLinkyList.of(1, null, 3).equals(PersistentLinkyList.copyOf(Arrays.asList(1, null, 3))), true);
+        assertBehavior("Persistent - equals() with a different element", 
+            PersistentLinkyList.of(1, 2, 3).equals(PersistentLinkyList.of(1, 2, 4)), false);
+        
+        boolean threw = false;
+        try {
+            PersistentLinkyList.empty().first();
+        } catch( java.util.NoSuchElementException e ) {
+            threw = true;
+        }
+        assertBehavior("Persistent - first() on empty list throws", 
+            threw, true);
+        
+        threw = false;
+        try {
+            PersistentLinkyList.of(1, 2).set(2, 5);
+        } catch( IndexOutOfBoundsException e ) {
+            threw = true;
+        }
+        assertBehavior("Persistent - set() out of range throws", 
+            threw, true);
+    }
+    
+    private static void testPersistentSharing()
+    {
+        PersistentLinkyList.Builder<Integer> builder = PersistentLinkyList.builder();
+        for( int i = 0; i < 100; i++ ) {
+            builder.add(i);
+        }
+        PersistentLinkyList<Integer> original = builder.build();
+        
+        assertBehavior("Persistent - prepend() shares the whole list", 
+            original.prepend(-1).rest() == original, true);
+        
+        // Updates at index 10 share everything after it
+        PersistentLinkyList<Integer> suffix = original;
+        for( int i = 0; i < 11; i++ ) {
+            suffix = suffix.rest();
+        }
+        assertBehavior("Persistent - set() shares the suffix", 
+            drop(original.set(10, -1), 11) == suffix, true);
+        assertBehavior("Persistent - insert() shares the suffix", 
+            drop(original.insert(11, -1), 12) == suffix, true);
+        assertBehavior("Persistent - remove() shares the suffix", 
+            drop(original.remove(10), 10) == suffix, true);
+        assertBehavior("Persistent - remove() of absent value returns the same list", 
+            original.remove(Integer.valueOf(500)) == original, true);
+        
+        PersistentLinkyList<Integer> tail = PersistentLinkyList.of(7, 8, 9);
+        assertBehavior("Persistent - concat() shares the second list", 
+            drop(original.concat(tail), 100) == tail, true);
+        assertBehavior("Persistent - buildOnto() shares the suffix", 
+            drop(builder.buildOnto(tail), 100) == tail, true);
+        
+        // The builder keeps going without touching what it already built
+        builder.add(100);
+        assertBehavior("Persistent - builder reuse leaves earlier builds alone", 
+            original.size() + " " + builder.build().size(), "100 101");
+        
+        assertBehavior("Persistent - equals() of lists sharing a suffix", 
+            original.set(10, -1).equals(original.set(10, -1)), true);
+    }
+    
+    private static <T> PersistentLinkyList<T> drop(PersistentLinkyList<T> list, int count)
+    {
+        for( int i = 0; i < count; i++ ) {
+            list = list.rest();
+        }
+        return list;
+    }
+    
+    private static volatile PersistentLinkyList<Integer> publishedVersion;
+    
+    private static void testPersistentSnapshotsAcrossThreads()
+    {
+        // The writer keeps publishing new versions; readers take snapshots with no lock and check each one
+        int updates = 20000;
+        publishedVersion = PersistentLinkyList.empty();
+        boolean[] consistent = { true, true };
+        Thread[] readers = new Thread[2];
+        for( int r = 0; r < readers.length; r++ ) {
+            int id = r;
+            readers[r] = new Thread(() -> {
+                while( true ) {
+                    PersistentLinkyList<Integer> snapshot = publishedVersion;
+                    // Each version counts down from size - 1 to 0
+                    int expected = snapshot.size() - 1;
+                    for( Integer value : snapshot ) {
+                        if( value != expected-- ) {
+                            consistent[id] = false;
+                        }
+                    }
+                    if( expected != -1 ) {
+                        consistent[id] = false;
+                    }
+                    if( snapshot.size() == updates ) {
+                        return;
+                    }
+                }
+            });
+            readers[r].start();
+        }
+        
+        PersistentLinkyList<Integer> current = PersistentLinkyList.empty();
+        for( int i = 0; i < updates; i++ ) {
+            current = current.prepend(i);
+            publishedVersion = current;
+        }
+        
+        try {
+            for( Thread reader : readers ) {
+                reader.join();
+            }
+        } catch( InterruptedException e ) {
+            consistent[0] = false;
+        }
+        assertBehavior("Persistent - lock-free snapshots always consistent", 
+            consistent[0] && consistent[1], true);
+    }
+    
+    // ==================== COPY-ON-WRITE LIST ====================
+    
+    private static void testCopyOnWriteMutators()
+    {
+        CopyOnWriteLinkyList<Integer> cow = new CopyOnWriteLinkyList<>();
+        LinkedList<Integer> java = new LinkedList<>();
+        Random rand = new Random(12345);
+        
+        boolean resultsAgree = true;
+        for( int i = 0; i < 600; i++ ) {
+            int op = rand.nextInt(7);
+            Integer val = rand.nextInt(10) == 0 ? null : rand.nextInt(40);
+            if( op == 0 && !java.isEmpty() ) {
+                int index = rand.nextInt(java.size());
+                resultsAgree &= Objects.equals(cow.remove(index), java.remove(index));
+            } else if( op == 1 ) {
+                resultsAgree &= cow.remove(val) == java.remove(val);
+            } else if( op == 2 && !java.isEmpty() ) {
+                int index = rand.nextInt(java.size());
+                resultsAgree &= Objects.equals(cow.set(index, val), java.set(index, val));
+            } else if( op == 3 ) {
+                int index = rand.nextInt(java.size() + 1);
+                cow.add(index, val);
+                java.add(index, val);
+            } else if( op == 4 ) {
+                int index = rand.nextInt(java.size() + 1);
+                List<Integer> batch = Arrays.asList(val, -1, -2);
+                resultsAgree &= cow.addAll(index, batch) == java.addAll(index, batch);
+            } else {
+                cow.add(val);
+                java.add(val);
+            }
+        }
+        assertBehavior("Copy-on-write - mutator results", 
+            resultsAgree, true);
+        assertBehavior("Copy-on-write - contents after mixed mutators", 
+            cow.toString(), java.toString());
+        assertBehavior("Copy-on-write - equals() LinkedList", 
+            cow.equals(java) && java.equals(cow), true);
+        assertBehavior("Copy-on-write - hashCode()", 
+            cow.hashCode(), java.hashCode());
+        assertBehavior("Copy-on-write - get(middle)", 
+            cow.get(java.size() / 2), java.get(java.size() / 2));
+        assertBehavior("Copy-on-write - lastIndexOf(-1)", 
+            cow.lastIndexOf(-1), java.lastIndexOf(-1));
+        
+        cow.removeIf(Objects::isNull);
+        java.removeIf(Objects::isNull);
+        cow.replaceAll(v -> v * 2);
+        java.replaceAll(v -> v * 2);
+        cow.sort(Comparator.reverseOrder());
+        java.sort(Comparator.reverseOrder());
+        cow.retainAll(Arrays.asList(0, 2, 4, 6, 8, -2, -4));
+        java.retainAll(Arrays.asList(0, 2, 4, 6, 8, -2, -4));
+        cow.removeAll(Set.of(4));
+        java.removeAll(Set.of(4));
+        assertBehavior("Copy-on-write - bulk mutators", 
+            cow.toString(), java.toString());
+        
+        cow.subList(1, 3).clear();
+        java.subList(1, 3).clear();
+        assertBehavior("Copy-on-write - subList().clear()", 
+            cow.toString(), java.toString());
+        cow.clear();
+        assertBehavior("Copy-on-write - clear()", 
+            cow.isEmpty(), true);
+    }
+    
+    private static void testCopyOnWriteSnapshotIteration()
+    {
+        CopyOnWriteLinkyList<String> cow = new CopyOnWriteLinkyList<>(Arrays.asList("a", "b", "c"));
+        
+        // Mutating while iterating: the iterator keeps its version and never throws
+        List<String> seen = new ArrayList<>();
+        boolean threw = false;
+        try {
+            for( String value : cow ) {
+                seen.add(value);
+                cow.add(value + value);
+                cow.remove(0);
+            }
+        } catch( ConcurrentModificationException e ) {
+            threw = true;
+        }
+        assertBehavior("Copy-on-write - iteration sees its snapshot, no CME", 
+            seen + " " + threw, "[a, b, c] false");
+        assertBehavior("Copy-on-write - changes made during iteration", 
+            cow.toString(), "[aa, bb, cc]");
+        
+        PersistentLinkyList<String> snapshot = cow.snapshot();
+        cow.set(0, "x");
+        assertBehavior("Copy-on-write - snapshot() unaffected by later writes", 
+            snapshot + " " + cow, "[aa, bb, cc] [x, bb, cc]");
+        
+        ListIterator<String> iter = cow.listIterator(1);
+        cow.clear();
+        String walked = iter.next() + iter.next() + iter.previous() + iter.previous() + iter.previous();
+        assertBehavior("Copy-on-write - listIterator() forward and back over its snapshot", 
+            walked + " " + iter.hasPrevious(), "bbccccbbx false");
+        
+        threw = false;
+        try {
+            cow.add("y");
+            Iterator<String> removing = cow.iterator();
+            removing.next();
+            removing.remove();
+        } catch( UnsupportedOperationException e ) {
+            threw = true;
+        }
+        assertBehavior("Copy-on-write - iterator remove() unsupported", 
+            threw, true);
+        
+        threw = false;
+        try {
+            cow.removeIf(v -> cow.add("z"));
+        } catch( ConcurrentModificationException e ) {
+            threw = true;
+        }
+        assertBehavior("Copy-on-write - removeIf() predicate that mutates is rejected", 
+            threw, true);
+        
+        assertBehavior("Copy-on-write - stream() over a snapshot", 
+            new CopyOnWriteLinkyList<>(Arrays.asList(1, 2, 3)).stream().map(String::valueOf).collect(Collectors.joining("+")), "1+2+3");
+    }
+    
+    private static void testCopyOnWriteBulkCopiesOnce()
+    {
+        CopyOnWriteLinkyList<Integer> cow = new CopyOnWriteLinkyList<>();
+        List<Integer> values = new ArrayList<>();
+        for( int i = 0; i < 100; i++ ) {
+            values.add(i);
+        }
+        cow.addAll(values);
+        
+        PersistentLinkyList<Integer> before = cow.snapshot();
+        assertBehavior("Copy-on-write - removeIf() that removes nothing publishes nothing", 
+            !cow.removeIf(v -> v < 0) && cow.snapshot() == before, true);
+        
+        // Only the cells up to the last change are copied; the rest is shared with the old version
+        cow.removeIf(v -> v == 3 || v == 7);
+        assertBehavior("Copy-on-write - removeIf() shares the tail", 
+            drop(cow.snapshot(), 6) == drop(before, 8), true);
+        
+        PersistentLinkyList<Integer> beforeInsert = cow.snapshot();
+        cow.addAll(2, Arrays.asList(-1, -2, -3));
+        assertBehavior("Copy-on-write - addAll(index) shares the tail", 
+            drop(cow.snapshot(), 5) == drop(beforeInsert, 2), true);
+        assertBehavior("Copy-on-write - addAll(index) contents", 
+            cow.subList(0, 7).toString(), "[0, 1, -1, -2, -3, 2, 4]");
+        
+        PersistentLinkyList<Integer> beforeAdd = cow.snapshot();
+        cow.add(0, 99);
+        assertBehavior("Copy-on-write - add(0) shares the whole old version", 
+            cow.snapshot().rest() == beforeAdd, true);
+        
+        // A collection that appends while it is being read stands in for another thread appending
+        // between the call and the lock; addAll() must still add after everything already there
+        CopyOnWriteLinkyList<Integer> appended = new CopyOnWriteLinkyList<>(Arrays.asList(1, 2));
+        List<Integer> racing = new ArrayList<>(Arrays.asList(4, 5)) {
+            public Object[] toArray() {
+                appended.add(3);
+                return super.toArray();
+            }
+        };
+        appended.addAll(racing);
+        assertBehavior("Copy-on-write - addAll() finds the end under the lock", 
+            appended.toString(), "[1, 2, 3, 4, 5]");
+        
+        String result = "";
+        for( int[] range : new int[][] { { -1, 2 }, { 2, 6 }, { 3, 2 } } ) {
+            try {
+                appended.removeRange(range[0], range[1]);
+                result += "removed ";
+            } catch( IndexOutOfBoundsException e ) {
+                result += "rejected ";
+            }
+        }
+        appended.removeRange(1, 3);
+        assertBehavior("Copy-on-write - removeRange() bounds", 
+            result + appended, "rejected rejected rejected [1, 4, 5]");
+    }
+    
+    private static void testCopyOnWriteConcurrentReaders()
+    {
+        // The writer swaps between two states that each sum to zero; readers must never see a mixture
+        CopyOnWriteLinkyList<Integer> cow = new CopyOnWriteLinkyList<>(Arrays.asList(1, -1));
+        boolean[] consistent = { true, true };
+        AtomicBoolean done = new AtomicBoolean();
+        Thread[] readers = new Thread[2];
+        for( int r = 0; r < readers.length; r++ ) {
+            int id = r;
+            readers[r] = new Thread(() -> {
+                while( !done.get() ) {
+                    int sum = 0;
+                    int count = 0;
+                    for( Integer value : cow ) {
+                        sum += value;
+                        count++;
+                    }
+                    int[] streamed = { 0 };
+                    cow.forEach(value -> streamed[0] += value);
+                    if( sum != 0 || streamed[0] != 0 || count % 2 != 0 ) {
+                        consistent[id] = false;
+                    }
+                }
+            });
+            readers[r].start();
+        }
+        
+        for( int i = 0; i < 5000; i++ ) {
+            int added = i;
+            cow.addAll(Arrays.asList(added, -added));
+            cow.removeIf(v -> v == added || v == -added);
+            cow.replaceAll(v -> -v);
+        }
+        done.set(true);
+        
+        try {
+            for( Thread reader : readers ) {
+                reader.join();
+            }
+        } catch( InterruptedException e ) {
+            consistent[0] = false;
+        }
+        assertBehavior("Copy-on-write - readers see only whole versions", 
+            consistent[0] && consistent[1], true);
+    }
+    
+    // ==================== HELPER METHODS ====================
+    
+    private static <T> void assertBehavior(String testName, T linkyResult, T javaResult)
+    {
+        boolean equal = (linkyResult == null && javaResult == null) || 
+                       (linkyResult != null && linkyResult.equals(javaResult));
+        
+        if( equal ) {
+            System.out.println("✓ " + testName);
+            testsPassed++;
+        } else {
+            System.out.println("✗ " + testName);
+            System.out.println("  Expected (LinkedList): " + javaResult);
+            System.out.println("  Got (LinkyList):       " + linkyResult);
+            testsFailed++;
+        }
+    }
+    
+    private static <T> void assertListsEqual(String testName, LinkyList<T> linky, LinkedList<T> java)
+    {
+        if( linky.size() != java.size() ) {
+            System.out.println("✗ " + testName + " - sizes differ");
+            System.out.println("  Expected size: " + java.size());
+            System.out.println("  Got size:      " + linky.size());
+            testsFailed++;
+            return;
+        }
+        
+        Iterator<T> linkyIter = linky.iterator();
+        Iterator<T> javaIter = java.iterator();
+        for( int i = 0; i < linky.size(); i++ ) {
+            T linkyVal = linkyIter.next();
+            T javaVal = javaIter.next();
+            
+            boolean equal = (linkyVal == null && javaVal == null) || 
+                           (linkyVal != null && linkyVal.equals(javaVal));
+            
+            if( !equal ) {
+                System.out.println("✗ " + testName + " - element at index " + i + " differs");
+                System.out.println("  Expected: " + javaVal);
+                System.out.println("  Got:      " + linkyVal);
+                testsFailed++;
+                return;
+            }
+        }
+        
+        System.out.println("✓ " + testName);
+        testsPassed++;
+    }
+    
+    private static <T> void assertListsEqual(String testName, UnrolledLinkyList<T> unrolled, LinkedList<T> java)
+    {
+        if( unrolled.size() != java.size() ) {
+            System.out.println("✗ " + testName + " - sizes differ");
+            System.out.println("  Expected size: " + java.size());
+            System.out.println("  Got size:      " + unrolled.size());
+            testsFailed++;
+            return;
+        }
+        
+        for( int i = 0; i < unrolled.size(); i++ ) {
+            T unrolledVal = unrolled.get(i);
+            T javaVal = java.get(i);
+            
+            boolean equal = (unrolledVal == null && javaVal == null) || 
+                           (unrolledVal != null && unrolledVal.equals(javaVal));
+            
+            if( !equal ) {
+                System.out.println("✗ " + testName + " - element at index " + i + " differs");
+                System.out.println("  Expected: " + javaVal);
+                System.out.println("  Got:      " + unrolledVal);
+                testsFailed++;
+                return;
+            }
+        }
+        
+        System.out.println("✓ " + testName);
+        testsPassed++;
+    }
+}
@@ -0,0 +1,362 @@
+package linkylist;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+
+/**
+ * An OffHeapLinkyList whose slabs are regions of a memory-mapped file, so the list survives restarts and
+ * can be far larger than the heap. A node's link is its node number, which is also its position in the
+ * file, so the file is the list: reopening it maps the regions back in and picks up where it left off
+ * without reading, let alone deserializing, a single element. Pages are loaded by the operating system
+ * as they are touched, and scans and appends run against the page cache.
+ * <p>
+ * The file starts with a 4 KB header holding the element type, the list's head, tail and size, the
+ * number of nodes used and the head of the free chain, which is threaded through the free nodes' own
+ * links. After it come the slabs, back to back, each mapped as its own region when the list first needs
+ * it. Everything is little-endian, whatever the platform.
+ * <p>
+ * force() is the durability point. It flushes every region to disk and only then writes and flushes the
+ * header, so a crash leaves the file as it was at the last force(). Between forces the nodes the header
+ * describes are never overwritten: an edit that would change one (a set, or a relink in front of an
+ * insert or removal) copies it, and the saved nodes in front of it, to fresh nodes, shadow-paging
+ * style, and saved nodes that leave the list are only reused after the next force(). Each saved node is
+ * copied at most once per force(), and appends and edits at the head copy nothing. Call force() after
+ * each batch of edits that must survive together. close() forces before it unmaps.
+ * <p>
+ * Free nodes are reused between forces, so the free chain in the header is only trusted when the file
+ * was closed cleanly. After a crash, open() rebuilds it: it marks the saved chain in the nodes' own
+ * links and sweeps the used nodes for unmarked ones, so recovery needs no memory in proportion to the
+ * list. Either way open() walks the saved chain once, checking it against the header.
+ * <p>
+ * Only one MappedLinkyList may have a file open at a time; the file is locked while it is open.
+ *
+ * @author Austin Benedicto
+ * @version 12/14/2025
+ */
+public class MappedLinkyList extends OffHeapLinkyList
+{
+    /**
+     * Number of nodes in each mapped region when no region size is given
+     */
+    public static final int DEFAULT_NODES_PER_REGION = 1 << 20;
+
+    private static final int MAGIC = 0x4C4E4B4D;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 4096;
+
+    // Header layout
+    private static final int MAGIC_AT = 0;
+    private static final int VERSION_AT = 4;
+    private static final int TYPE_AT = 8;
+    private static final int ELEMENT_BYTES_AT = 12;
+    private static final int NODES_PER_REGION_AT = 16;
+    private static final int SIZE_AT = 20;
+    private static final int HEAD_AT = 24;
+    private static final int TAIL_AT = 32;
+    private static final int USED_AT = 40;
+    private static final int FREE_AT = 48;
+    // Non-zero only while the file is closed and its free chain is exact
+    private static final int CLEAN_AT = 56;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final FileLock lock;
+    private final MappedByteBuffer header;
+    private final ArrayList<MappedByteBuffer> regions;
+
+    private MappedLinkyList( Path file, FileChannel channel, FileLock lock, MappedByteBuffer header,
+                             ElementType type, int elementBytes, int nodesPerRegion )
+    {
+        super( type, elementBytes, nodesPerRegion );
+        this.file = file;
+        this.channel = channel;
+        this.lock = lock;
+        this.header = header;
+        this.regions = new ArrayList<>();
+    }
+
+    /**
+     * Opens a file-backed list of int values, creating the file if it does not exist
+     *
+     * @param file the file holding the list
+     * @return the list stored in the file
+     * @throws IOException if the file cannot be opened or is not a list of ints
+     */
+    public static MappedLinkyList openInts( Path file ) throws IOException
+    {
+        return open( file, ElementType.INT, Integer.BYTES, DEFAULT_NODES_PER_REGION );
+    }
+
+    /**
+     * Opens a file-backed list of long values, creating the file if it does not exist
+     *
+     * @param file the file holding the list
+     * @return the list stored in the file
+     * @throws IOException if the file cannot be opened or is not a list of longs
+     */
+    public static MappedLinkyList openLongs( Path file ) throws IOException
+    {
+        return open( file, ElementType.LONG, Long.BYTES, DEFAULT_NODES_PER_REGION );
+    }
+
+    /**
+     * Opens a file-backed list of double values, creating the file if it does not exist
+     *
+     * @param file the file holding the list
+     * @return the list stored in the file
+     * @throws IOException if the file cannot be opened or is not a list of doubles
+     */
+    public static MappedLinkyList openDoubles( Path file ) throws IOException
+    {
+        return open( file, ElementType.DOUBLE, Double.BYTES, DEFAULT_NODES_PER_REGION );
+    }
+
+    /**
+     * Opens a file-backed list of fixed-size byte records, creating the file if it does not exist
+     *
+     * @param file the file holding the list
+     * @param recordBytes the size of every record in bytes
+     * @return the list stored in the file
+     * @throws IOException if the file cannot be opened or is not a list of records of that size
+     */
+    public static MappedLinkyList openRecords( Path file, int recordBytes ) throws IOException
+    {
+        return open( file, ElementType.RECORD, recordBytes, DEFAULT_NODES_PER_REGION );
+    }
+
+    /**
+     * Opens a file-backed list, creating the file if it does not exist. An existing file keeps the region
+     * size it was created with, whatever nodesPerRegion says.
+     *
+     * @param file the file holding the list
+     * @param type the kind of element the list holds
+     * @param elementBytes the width of each element in bytes
+     * @param nodesPerRegion the number of nodes in each mapped region of a new file; rounded up to a power of two
+     * @return the list stored in the file
+     * @throws IOException if the file cannot be opened, is already open, is not a list of the given type, or is damaged
+     * @throws IllegalArgumentException if elementBytes or nodesPerRegion is not positive, or a region would exceed 2GB
+     */
+    public static MappedLinkyList open( Path file, ElementType type, int elementBytes, int nodesPerRegion ) throws IOException
+    {
+        FileChannel channel = FileChannel.open( file, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE );
+        try
+        {
+            FileLock lock;
+            try
+            {
+                lock = channel.tryLock();
+            }
+            catch( OverlappingFileLockException e )
+            {
+                lock = null;
+            }
+            if( lock == null )
+                throw new IOException("File is already open: " + file);
+
+            long length = channel.size();
+            if( length > 0 && length < HEADER_BYTES )
+                throw new EOFException("File is too short to hold a list: " + file);
+
+            MappedByteBuffer header = channel.map( FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES );
+            header.order( ByteOrder.LITTLE_ENDIAN );
+
+            if( length == 0 )
+            {
+                MappedLinkyList list = new MappedLinkyList( file, channel, lock, header, type, elementBytes, nodesPerRegion );
+                list.writeHeader( false );
+                header.force();
+                list.pin();
+                return list;
+            }
+
+            if( header.getInt( MAGIC_AT ) != MAGIC )
+                throw new StreamCorruptedException("Not a LinkyList file: " + file);
+            if( header.getInt( VERSION_AT ) != VERSION )
+                throw new StreamCorruptedException("Unsupported file version: " + header.getInt( VERSION_AT ));
+
+            int typeOrdinal = header.getInt( TYPE_AT );
+            int storedBytes = header.getInt( ELEMENT_BYTES_AT );
+            if( typeOrdinal != type.ordinal() || storedBytes != elementBytes )
+            {
+                String stored = (typeOrdinal >= 0 && typeOrdinal < ElementType.values().length)
+                    ? ElementType.values()[typeOrdinal].toString() : "unknown";
+                throw new IOException("File holds " + stored + " elements of " + storedBytes + " bytes, not "
+                    + type + " elements of " + elementBytes + " bytes");
+            }
+
+            int storedRegion = header.getInt( NODES_PER_REGION_AT );
+            int size = header.getInt( SIZE_AT );
+            long head = header.getLong( HEAD_AT );
+            long tail = header.getLong( TAIL_AT );
+            long used = header.getLong( USED_AT );
+            long free = header.getLong( FREE_AT );
+            boolean clean = header.getInt( CLEAN_AT ) != 0;
+            if( storedRegion <= 0 || Integer.bitCount( storedRegion ) != 1 || size < 0 || used < size
+                || !isNode( head, used ) || !isNode( tail, used ) || (size == 0) != (head == NIL) )
+                throw new StreamCorruptedException("Damaged header: " + file);
+
+            long regionBytes = (long) storedRegion * (Long.BYTES + elementBytes);
+            long regionsUsed = (used + storedRegion - 1) / storedRegion;
+            if( length < HEADER_BYTES + regionsUsed * regionBytes )
+                throw new EOFException("File is truncated: " + file);
+
+            MappedLinkyList list = new MappedLinkyList( file, channel, lock, header, type, elementBytes, storedRegion );
+            try
+            {
+                if( clean )
+                    list.restore( head, tail, size, used, free );
+                else
+                    list.restore( head, tail, size, used );
+            }
+            catch( IllegalArgumentException e )
+            {
+                list.unmap();
+                throw new StreamCorruptedException("Damaged list: " + e.getMessage() + ": " + file);
+            }
+            list.pin();
+
+            // From here on the free chain changes without the header, until close() saves it again
+            if( clean )
+            {
+                header.putInt( CLEAN_AT, 0 );
+                header.force();
+            }
+            return list;
+        }
+        catch( IOException | RuntimeException e )
+        {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the file holding this list
+     *
+     * @return the file holding this list
+     */
+    public Path file()
+    {
+        return file;
+    }
+
+    /**
+     * Flushes every change made so far to disk. The regions go first and the header last, so if the
+     * system crashes part way through, the file still describes the state at the previous force().
+     *
+     * @throws IllegalStateException if the list has been closed
+     * @throws UncheckedIOException if the flush fails
+     */
+    public void force()
+    {
+        if( isClosed() )
+            throw new IllegalStateException("List has been closed");
+
+        for( MappedByteBuffer region : regions )
+            region.force();
+        writeHeader( false );
+        header.force();
+        pin();
+    }
+
+    /**
+     * Forces every change to disk, unmaps the file and releases it. Closing an already closed list has no
+     * effect.
+     *
+     * @throws UncheckedIOException if the final flush or closing the file fails
+     */
+    public void close()
+    {
+        if( isClosed() )
+            return;
+
+        try
+        {
+            // The second pass saves the free chain as it stands after the first one's pin()
+            force();
+            for( MappedByteBuffer region : regions )
+                region.force();
+            writeHeader( true );
+            header.force();
+        }
+        finally
+        {
+            try
+            {
+                unmap();
+            }
+            catch( IOException e )
+            {
+                throw new UncheckedIOException( e );
+            }
+        }
+    }
+
+    /**
+     * Maps the region of the file that holds the given slab, growing the file if it is not that long yet
+     *
+     * @param slabIndex the position of the slab in the list's slab table
+     * @param bytes the size of the slab in bytes
+     * @return the mapped region
+     * @throws UncheckedIOException if the region cannot be mapped
+     */
+    protected ByteBuffer allocateSlab( int slabIndex, int bytes )
+    {
+        try
+        {
+            MappedByteBuffer region = channel.map( FileChannel.MapMode.READ_WRITE, HEADER_BYTES + (long) slabIndex * bytes, bytes );
+            region.order( ByteOrder.LITTLE_ENDIAN );
+            regions.add( region );
+            return region;
+        }
+        catch( IOException e )
+        {
+            throw new UncheckedIOException( e );
+        }
+    }
+
+    /**
+     * Frees the slabs, unmaps the header and releases the file, without forcing anything
+     *
+     * @throws IOException if releasing the lock or closing the file fails
+     */
+    private void unmap() throws IOException
+    {
+        super.close();
+        regions.clear();
+        freeDirectBuffer( header );
+        lock.release();
+        channel.close();
+    }
+
+    private void writeHeader( boolean clean )
+    {
+        header.putInt( MAGIC_AT, MAGIC );
+        header.putInt( VERSION_AT, VERSION );
+        header.putInt( TYPE_AT, elementType().ordinal() );
+        header.putInt( ELEMENT_BYTES_AT, elementBytes() );
+        header.putInt( NODES_PER_REGION_AT, nodesPerSlab() );
+        header.putInt( SIZE_AT, size() );
+        header.putLong( HEAD_AT, headNode() );
+        header.putLong( TAIL_AT, tailNode() );
+        header.putLong( USED_AT, usedNodes() );
+        header.putLong( FREE_AT, freeNode() );
+        header.putInt( CLEAN_AT, clean ? 1 : 0 );
+    }
+
+    private static boolean isNode( long node, long used )
+    {
+        return node == NIL || (node >= 0 && node < used);
+    }
+}
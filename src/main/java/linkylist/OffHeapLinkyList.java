@@ -0,0 +1,1195 @@
+package linkylist;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * A version of LinkyList whose nodes live outside the Java heap. Each node is a fixed-width record
+ * in a direct ByteBuffer slab: an 8-byte link to the next node followed by the element payload.
+ * Nodes are addressed by a long node number rather than an object reference, so a list of any
+ * length is a handful of slab objects as far as the garbage collector is concerned.
+ * <p>
+ * The list holds one fixed-width element type, chosen when it is created: int, long, double, or
+ * byte records of a fixed size. Each type has its own typed accessors (addInt, getLong, ...), and
+ * calling an accessor for the wrong type throws IllegalStateException. Removed nodes are recycled
+ * through a free chain threaded through their own links.
+ * <p>
+ * Off-heap memory is not reclaimed by the garbage collector in any timely way, so the list must be
+ * closed when it is no longer needed. close() frees every slab immediately; any use of the list
+ * after that throws IllegalStateException.
+ *
+ * @author Austin Benedicto
+ * @version 12/14/2025
+ */
+public class OffHeapLinkyList implements AutoCloseable
+{
+    /**
+     * The kinds of element an OffHeapLinkyList can hold
+     */
+    public enum ElementType
+    {
+        INT, LONG, DOUBLE, RECORD
+    }
+
+    /**
+     * Number of nodes in each slab when no slab size is given
+     */
+    public static final int DEFAULT_NODES_PER_SLAB = 1 << 16;
+
+    // Node number that marks the end of the chain
+    protected static final long NIL = -1;
+    // Set in the links of live nodes while restore() sweeps for free ones; never set otherwise
+    private static final long LIVE_MARK = 1L << 62;
+    private static final int NEXT_OFFSET = 0;
+    private static final int PAYLOAD_OFFSET = Long.BYTES;
+
+    // sun.misc.Unsafe.invokeCleaner, looked up once; null where the JVM does not provide it
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+
+    static
+    {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try
+        {
+            Class<?> unsafeClass = Class.forName( "sun.misc.Unsafe" );
+            Field theUnsafe = unsafeClass.getDeclaredField( "theUnsafe" );
+            theUnsafe.setAccessible( true );
+            unsafe = theUnsafe.get( null );
+            invokeCleaner = unsafeClass.getMethod( "invokeCleaner", ByteBuffer.class );
+        }
+        catch( ReflectiveOperationException | RuntimeException e )
+        {
+            unsafe = null;
+            invokeCleaner = null;
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private final ElementType type;
+    private final int elementBytes;
+    private final int nodeBytes;
+    private final int slabShift;
+    private final int slabMask;
+
+    private ByteBuffer[] slabs;
+    private int slabCount;
+    private boolean closed;
+
+    private long head;
+    private long tail;
+    private int size;
+    // Node numbers below this one have been handed out at least once
+    private long used;
+    // Chain of node numbers released by removals
+    private long free;
+
+    // Set by pin(). From then on the nodes of the pinned chain are copied rather than overwritten:
+    // positions [0, copiedNodes) hold nodes written since the last pin(), the next sharedNodes positions
+    // are still the pinned nodes themselves, ending at the pinned tail, and any after them were appended
+    private boolean pinned;
+    private int copiedNodes;
+    private int sharedNodes;
+    // Pinned nodes that have left the list: a run of the pinned chain from its head, freed by the next pin()
+    private long retiredHead;
+    private long retiredTail;
+
+    /**
+     * Constructor for OffHeapLinkyList
+     *
+     * @param type the kind of element this list holds
+     * @param elementBytes the width of each element in bytes
+     * @param nodesPerSlab the number of nodes in each slab; rounded up to a power of two
+     * @throws IllegalArgumentException if elementBytes or nodesPerSlab is not positive, or a slab would exceed 2GB
+     */
+    protected OffHeapLinkyList( ElementType type, int elementBytes, int nodesPerSlab )
+    {
+        if( elementBytes <= 0 )
+            throw new IllegalArgumentException("Element width must be positive: " + elementBytes);
+        if( nodesPerSlab <= 0 )
+            throw new IllegalArgumentException("Nodes per slab must be positive: " + nodesPerSlab);
+
+        int roundedNodes = Integer.highestOneBit( nodesPerSlab );
+        if( roundedNodes < nodesPerSlab )
+            roundedNodes <<= 1;
+        if( (long) roundedNodes * (PAYLOAD_OFFSET + elementBytes) > Integer.MAX_VALUE )
+            throw new IllegalArgumentException("Slab of " + roundedNodes + " nodes exceeds 2GB");
+
+        this.type = type;
+        this.elementBytes = elementBytes;
+        this.nodeBytes = PAYLOAD_OFFSET + elementBytes;
+        this.slabShift = Integer.numberOfTrailingZeros( roundedNodes );
+        this.slabMask = roundedNodes - 1;
+        this.slabs = new ByteBuffer[4];
+        this.slabCount = 0;
+        this.closed = false;
+        reset();
+    }
+
+    /**
+     * Creates an empty off-heap list of int values
+     *
+     * @return an empty list of int values
+     */
+    public static OffHeapLinkyList ofInts()
+    {
+        return new OffHeapLinkyList( ElementType.INT, Integer.BYTES, DEFAULT_NODES_PER_SLAB );
+    }
+
+    /**
+     * Creates an empty off-heap list of long values
+     *
+     * @return an empty list of long values
+     */
+    public static OffHeapLinkyList ofLongs()
+    {
+        return new OffHeapLinkyList( ElementType.LONG, Long.BYTES, DEFAULT_NODES_PER_SLAB );
+    }
+
+    /**
+     * Creates an empty off-heap list of double values
+     *
+     * @return an empty list of double values
+     */
+    public static OffHeapLinkyList ofDoubles()
+    {
+        return new OffHeapLinkyList( ElementType.DOUBLE, Double.BYTES, DEFAULT_NODES_PER_SLAB );
+    }
+
+    /**
+     * Creates an empty off-heap list of fixed-size byte records
+     *
+     * @param recordBytes the size of every record in bytes
+     * @return an empty list of byte records
+     * @throws IllegalArgumentException if recordBytes is not positive
+     */
+    public static OffHeapLinkyList ofRecords( int recordBytes )
+    {
+        return new OffHeapLinkyList( ElementType.RECORD, recordBytes, DEFAULT_NODES_PER_SLAB );
+    }
+
+    /**
+     * Returns the kind of element this list holds
+     *
+     * @return the kind of element this list holds
+     */
+    public ElementType elementType()
+    {
+        return type;
+    }
+
+    /**
+     * Returns the width of each element in bytes
+     *
+     * @return the width of each element in bytes
+     */
+    public int elementBytes()
+    {
+        return elementBytes;
+    }
+
+    /**
+     * True if the OffHeapLinkyList is empty, false otherwise
+     *
+     * @return if the OffHeapLinkyList is empty, false otherwise
+     * @throws IllegalStateException if the list has been closed
+     */
+    public boolean isEmpty()
+    {
+        checkOpen();
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in this list
+     *
+     * @return the number of elements in this list
+     * @throws IllegalStateException if the list has been closed
+     */
+    public int size()
+    {
+        checkOpen();
+        return size;
+    }
+
+    /**
+     * Removes all of the elements from this list. The slabs already allocated are kept for reuse.
+     *
+     * @throws IllegalStateException if the list has been closed
+     */
+    public void clear()
+    {
+        checkOpen();
+        if( !pinned )
+        {
+            reset();
+            return;
+        }
+
+        // The pinned nodes must survive until the next pin(), so they are retired rather than forgotten
+        while( size > 0 )
+            remove( 0 );
+    }
+
+    /**
+     * Forgets every node, leaving the slabs as they are
+     */
+    private void reset()
+    {
+        head = NIL;
+        tail = NIL;
+        size = 0;
+        used = 0;
+        free = NIL;
+        copiedNodes = 0;
+        sharedNodes = 0;
+        retiredHead = NIL;
+        retiredTail = NIL;
+    }
+
+    /**
+     * Removes the element at the specified position in this list
+     *
+     * @param index the index of the element to be removed
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalStateException if the list has been closed
+     */
+    public void remove( int index )
+    {
+        checkOpen();
+        checkElementIndex( index );
+
+        boolean shared = isShared( index );
+        long pred = (index == 0) ? NIL : linkableNode( index - 1 );
+        long target = (pred == NIL) ? head : nextOf( pred );
+        long succ = nextOf( target );
+
+        if( pred == NIL )
+            head = succ;
+        else
+            setNext( pred, succ );
+        if( succ == NIL )
+            tail = pred;
+
+        if( shared )
+        {
+            // Now the first shared node, so it extends the retired run
+            if( retiredHead == NIL )
+                retiredHead = target;
+            retiredTail = target;
+            sharedNodes--;
+        }
+        else
+        {
+            if( index < copiedNodes )
+                copiedNodes--;
+            setNext( target, free );
+            free = target;
+        }
+        size--;
+    }
+
+    // ==================== INT ELEMENTS ====================
+
+    /**
+     * Appends the specified int to the end of this list
+     *
+     * @param value the value to be appended
+     * @throws IllegalStateException if this list does not hold ints or has been closed
+     */
+    public void addInt( int value )
+    {
+        checkType( ElementType.INT );
+        long node = linkLast();
+        slabOf( node ).putInt( payloadOf( node ), value );
+    }
+
+    /**
+     * Inserts the specified int at the specified position in this list
+     *
+     * @param index index at which the value is to be inserted
+     * @param value the value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalStateException if this list does not hold ints or has been closed
+     */
+    public void addInt( int index, int value )
+    {
+        checkType( ElementType.INT );
+        long node = linkAt( index );
+        slabOf( node ).putInt( payloadOf( node ), value );
+    }
+
+    /**
+     * Returns the int at the specified position in this list
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalStateException if this list does not hold ints or has been closed
+     */
+    public int getInt( int index )
+    {
+        checkType( ElementType.INT );
+        checkElementIndex( index );
+        long node = node( index );
+        return slabOf( node ).getInt( payloadOf( node ) );
+    }
+
+    /**
+     * Replaces the int at the specified position in this list
+     *
+     * @param index index of the value to replace
+     * @param value the value to be stored
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalStateException if this list does not hold ints or has been closed
+     */
+    public int setInt( int index, int value )
+    {
+        checkType( ElementType.INT );
+        checkElementIndex( index );
+        long node = writableNode( index );
+        ByteBuffer slab = slabOf( node );
+        int oldValue = slab.getInt( payloadOf( node ) );
+        slab.putInt( payloadOf( node ), value );
+        return oldValue;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified int, or -1 if this list does not contain it
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence, or -1 if there is none
+     * @throws IllegalStateException if this list does not hold ints or has been closed
+     */
+    public int indexOfInt( int value )
+    {
+        checkType( ElementType.INT );
+        int index = 0;
+        for( long node = head; node != NIL; node = nextOf( node ) )
+        {
+            if( slabOf( node ).getInt( payloadOf( node ) ) == value )
+                return index;
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Performs the given action for each int in this list, in order, following the links directly
+     *
+     * @param action the action to be performed for each value
+     * @throws IllegalStateException if this list does not hold ints or has been closed
+     */
+    public void forEachInt( IntConsumer action )
+    {
+        checkType( ElementType.INT );
+        for( long node = head; node != NIL; node = nextOf( node ) )
+            action.accept( slabOf( node ).getInt( payloadOf( node ) ) );
+    }
+
+    // ==================== LONG ELEMENTS ====================
+
+    /**
+     * Appends the specified long to the end of this list
+     *
+     * @param value the value to be appended
+     * @throws IllegalStateException if this list does not hold longs or has been closed
+     */
+    public void addLong( long value )
+    {
+        checkType( ElementType.LONG );
+        long node = linkLast();
+        slabOf( node ).putLong( payloadOf( node ), value );
+    }
+
+    /**
+     * Inserts the specified long at the specified position in this list
+     *
+     * @param index index at which the value is to be inserted
+     * @param value the value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalStateException if this list does not hold longs or has been closed
+     */
+    public void addLong( int index, long value )
+    {
+        checkType( ElementType.LONG );
+        long node = linkAt( index );
+        slabOf( node ).putLong( payloadOf( node ), value );
+    }
+
+    /**
+     * Returns the long at the specified position in this list
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalStateException if this list does not hold longs or has been closed
+     */
+    public long getLong( int index )
+    {
+        checkType( ElementType.LONG );
+        checkElementIndex( index );
+        long node = node( index );
+        return slabOf( node ).getLong( payloadOf( node ) );
+    }
+
+    /**
+     * Replaces the long at the specified position in this list
+     *
+     * @param index index of the value to replace
+     * @param value the value to be stored
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalStateException if this list does not hold longs or has been closed
+     */
+    public long setLong( int index, long value )
+    {
+        checkType( ElementType.LONG );
+        checkElementIndex( index );
+        long node = writableNode( index );
+        ByteBuffer slab = slabOf( node );
+        long oldValue = slab.getLong( payloadOf( node ) );
+        slab.putLong( payloadOf( node ), value );
+        return oldValue;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified long, or -1 if this list does not contain it
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence, or -1 if there is none
+     * @throws IllegalStateException if this list does not hold longs or has been closed
+     */
+    public int indexOfLong( long value )
+    {
+        checkType( ElementType.LONG );
+        int index = 0;
+        for( long node = head; node != NIL; node = nextOf( node ) )
+        {
+            if( slabOf( node ).getLong( payloadOf( node ) ) == value )
+                return index;
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Performs the given action for each long in this list, in order, following the links directly
+     *
+     * @param action the action to be performed for each value
+     * @throws IllegalStateException if this list does not hold longs or has been closed
+     */
+    public void forEachLong( LongConsumer action )
+    {
+        checkType( ElementType.LONG );
+        for( long node = head; node != NIL; node = nextOf( node ) )
+            action.accept( slabOf( node ).getLong( payloadOf( node ) ) );
+    }
+
+    // ==================== DOUBLE ELEMENTS ====================
+
+    /**
+     * Appends the specified double to the end of this list
+     *
+     * @param value the value to be appended
+     * @throws IllegalStateException if this list does not hold doubles or has been closed
+     */
+    public void addDouble( double value )
+    {
+        checkType( ElementType.DOUBLE );
+        long node = linkLast();
+        slabOf( node ).putDouble( payloadOf( node ), value );
+    }
+
+    /**
+     * Inserts the specified double at the specified position in this list
+     *
+     * @param index index at which the value is to be inserted
+     * @param value the value to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalStateException if this list does not hold doubles or has been closed
+     */
+    public void addDouble( int index, double value )
+    {
+        checkType( ElementType.DOUBLE );
+        long node = linkAt( index );
+        slabOf( node ).putDouble( payloadOf( node ), value );
+    }
+
+    /**
+     * Returns the double at the specified position in this list
+     *
+     * @param index index of the value to return
+     * @return the value at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalStateException if this list does not hold doubles or has been closed
+     */
+    public double getDouble( int index )
+    {
+        checkType( ElementType.DOUBLE );
+        checkElementIndex( index );
+        long node = node( index );
+        return slabOf( node ).getDouble( payloadOf( node ) );
+    }
+
+    /**
+     * Replaces the double at the specified position in this list
+     *
+     * @param index index of the value to replace
+     * @param value the value to be stored
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalStateException if this list does not hold doubles or has been closed
+     */
+    public double setDouble( int index, double value )
+    {
+        checkType( ElementType.DOUBLE );
+        checkElementIndex( index );
+        long node = writableNode( index );
+        ByteBuffer slab = slabOf( node );
+        double oldValue = slab.getDouble( payloadOf( node ) );
+        slab.putDouble( payloadOf( node ), value );
+        return oldValue;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified double, or -1 if this list does not contain it.
+     * Values are compared as by Double.equals, so NaN matches NaN and 0.0 does not match -0.0.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence, or -1 if there is none
+     * @throws IllegalStateException if this list does not hold doubles or has been closed
+     */
+    public int indexOfDouble( double value )
+    {
+        checkType( ElementType.DOUBLE );
+        long bits = Double.doubleToLongBits( value );
+        int index = 0;
+        for( long node = head; node != NIL; node = nextOf( node ) )
+        {
+            if( Double.doubleToLongBits( slabOf( node ).getDouble( payloadOf( node ) ) ) == bits )
+                return index;
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Performs the given action for each double in this list, in order, following the links directly
+     *
+     * @param action the action to be performed for each value
+     * @throws IllegalStateException if this list does not hold doubles or has been closed
+     */
+    public void forEachDouble( DoubleConsumer action )
+    {
+        checkType( ElementType.DOUBLE );
+        for( long node = head; node != NIL; node = nextOf( node ) )
+            action.accept( slabOf( node ).getDouble( payloadOf( node ) ) );
+    }
+
+    // ==================== RECORD ELEMENTS ====================
+
+    /**
+     * Appends a copy of the specified record to the end of this list
+     *
+     * @param record the record to be appended; must be exactly elementBytes() long
+     * @throws IllegalArgumentException if the record has the wrong length
+     * @throws IllegalStateException if this list does not hold records or has been closed
+     */
+    public void addRecord( byte[] record )
+    {
+        checkType( ElementType.RECORD );
+        checkRecord( record );
+        long node = linkLast();
+        slabOf( node ).put( payloadOf( node ), record, 0, elementBytes );
+    }
+
+    /**
+     * Inserts a copy of the specified record at the specified position in this list
+     *
+     * @param index index at which the record is to be inserted
+     * @param record the record to be inserted; must be exactly elementBytes() long
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalArgumentException if the record has the wrong length
+     * @throws IllegalStateException if this list does not hold records or has been closed
+     */
+    public void addRecord( int index, byte[] record )
+    {
+        checkType( ElementType.RECORD );
+        checkRecord( record );
+        long node = linkAt( index );
+        slabOf( node ).put( payloadOf( node ), record, 0, elementBytes );
+    }
+
+    /**
+     * Copies the record at the specified position into the given array
+     *
+     * @param index index of the record to read
+     * @param dst the array to copy into; must be exactly elementBytes() long
+     * @return dst, for convenience
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalArgumentException if dst has the wrong length
+     * @throws IllegalStateException if this list does not hold records or has been closed
+     */
+    public byte[] getRecord( int index, byte[] dst )
+    {
+        checkType( ElementType.RECORD );
+        checkRecord( dst );
+        checkElementIndex( index );
+        long node = node( index );
+        slabOf( node ).get( payloadOf( node ), dst, 0, elementBytes );
+        return dst;
+    }
+
+    /**
+     * Overwrites the record at the specified position with a copy of the given record
+     *
+     * @param index index of the record to replace
+     * @param record the new record; must be exactly elementBytes() long
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws IllegalArgumentException if the record has the wrong length
+     * @throws IllegalStateException if this list does not hold records or has been closed
+     */
+    public void setRecord( int index, byte[] record )
+    {
+        checkType( ElementType.RECORD );
+        checkRecord( record );
+        checkElementIndex( index );
+        long node = writableNode( index );
+        slabOf( node ).put( payloadOf( node ), record, 0, elementBytes );
+    }
+
+    /**
+     * Returns the index of the first record equal to the given one byte for byte, or -1 if there is none
+     *
+     * @param record the record to search for; must be exactly elementBytes() long
+     * @return the index of the first occurrence, or -1 if there is none
+     * @throws IllegalArgumentException if the record has the wrong length
+     * @throws IllegalStateException if this list does not hold records or has been closed
+     */
+    public int indexOfRecord( byte[] record )
+    {
+        checkType( ElementType.RECORD );
+        checkRecord( record );
+        int index = 0;
+        for( long node = head; node != NIL; node = nextOf( node ) )
+        {
+            if( recordEquals( slabOf( node ), payloadOf( node ), record ) )
+                return index;
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Compares a record in a slab with the given bytes using absolute reads, so scanning allocates nothing
+     *
+     * @param slab the slab holding the record
+     * @param payload the record's offset in the slab
+     * @param record the bytes to compare with
+     * @return true if the two are equal byte for byte
+     */
+    private static boolean recordEquals( ByteBuffer slab, int payload, byte[] record )
+    {
+        for( int i = 0; i < record.length; i++ )
+        {
+            if( slab.get( payload + i ) != record[i] )
+                return false;
+        }
+        return true;
+    }
+
+    // ==================== LIFECYCLE ====================
+
+    /**
+     * True if this list has been closed
+     *
+     * @return true if this list has been closed
+     */
+    public boolean isClosed()
+    {
+        return closed;
+    }
+
+    /**
+     * Frees all of the off-heap memory held by this list. Closing an already closed list has no effect.
+     */
+    public void close()
+    {
+        if( closed )
+            return;
+
+        closed = true;
+        for( int i = 0; i < slabCount; i++ )
+        {
+            releaseSlab( slabs[i] );
+            slabs[i] = null;
+        }
+        slabCount = 0;
+        reset();
+    }
+
+    /**
+     * Allocates the memory for a slab. Subclasses may override this to place slabs somewhere other than
+     * freshly allocated direct memory.
+     *
+     * @param slabIndex the position of the slab in the list's slab table
+     * @param bytes the size of the slab in bytes
+     * @return a buffer of exactly bytes bytes
+     */
+    protected ByteBuffer allocateSlab( int slabIndex, int bytes )
+    {
+        return ByteBuffer.allocateDirect( bytes ).order( ByteOrder.nativeOrder() );
+    }
+
+    /**
+     * Releases the memory of a slab when the list is closed. The default frees a direct buffer right away
+     * instead of waiting for it to be garbage collected.
+     *
+     * @param slab the slab to release
+     */
+    protected void releaseSlab( ByteBuffer slab )
+    {
+        freeDirectBuffer( slab );
+    }
+
+    /**
+     * Frees the memory behind a direct or mapped buffer immediately, where the JVM allows it. The buffer must
+     * not be used afterwards. Where the JVM does not allow it the memory is left to the garbage collector.
+     *
+     * @param buffer the buffer to free
+     */
+    protected static void freeDirectBuffer( ByteBuffer buffer )
+    {
+        if( buffer == null || !buffer.isDirect() || INVOKE_CLEANER == null )
+            return;
+
+        try
+        {
+            INVOKE_CLEANER.invoke( UNSAFE, buffer );
+        }
+        catch( ReflectiveOperationException | RuntimeException e )
+        {
+            // Leave it to the garbage collector
+        }
+    }
+
+    // ==================== STATE FOR SUBCLASSES ====================
+
+    /**
+     * Returns the number of nodes in each slab, after rounding up to a power of two
+     *
+     * @return the number of nodes in each slab
+     */
+    protected int nodesPerSlab()
+    {
+        return slabMask + 1;
+    }
+
+    /**
+     * Returns the number of the first node, or NIL if the list is empty
+     *
+     * @return the first node's number
+     */
+    protected long headNode()
+    {
+        return head;
+    }
+
+    /**
+     * Returns the number of the last node, or NIL if the list is empty
+     *
+     * @return the last node's number
+     */
+    protected long tailNode()
+    {
+        return tail;
+    }
+
+    /**
+     * Returns how many node numbers have been handed out; every slab holding one of them is allocated
+     *
+     * @return the number of node numbers handed out
+     */
+    protected long usedNodes()
+    {
+        return used;
+    }
+
+    /**
+     * Returns the first node of the free chain, or NIL if it is empty
+     *
+     * @return the first free node's number
+     */
+    protected long freeNode()
+    {
+        return free;
+    }
+
+    /**
+     * Pins the current chain, so a subclass can save it somewhere and rely on it staying intact until the
+     * next pin(). Until then no node of the pinned chain is written, except the pinned tail's link: an
+     * edit that would change a pinned node copies it, and the pinned nodes in front of it, to fresh nodes
+     * instead, and pinned nodes that leave the list are reused only after the next pin(). Nodes written
+     * since the last pin() are edited in place as usual.
+     *
+     * @throws IllegalStateException if the list has been closed
+     */
+    protected void pin()
+    {
+        checkOpen();
+        if( retiredTail != NIL )
+        {
+            // The retired nodes are still linked to each other as they were in the pinned chain
+            setNext( retiredTail, free );
+            free = retiredHead;
+        }
+        retiredHead = NIL;
+        retiredTail = NIL;
+        copiedNodes = 0;
+        sharedNodes = size;
+        pinned = true;
+    }
+
+    /**
+     * Takes over a chain of nodes and a free chain that already exist in the slabs, such as ones a subclass
+     * has mapped back in from a file. Allocates every slab the used nodes fall in, and walks the chain once
+     * to check that it runs from head to tail through exactly size nodes, all below used. The tail's link is
+     * cut first, since it may point at nodes appended after the state was saved; with the tail's link cut,
+     * a walk that ends at the tail cannot have visited any node twice.
+     *
+     * @param head the first node's number, or NIL
+     * @param tail the last node's number, or NIL
+     * @param size the number of nodes in the chain
+     * @param used how many node numbers have been handed out
+     * @param free the first node of the free chain, or NIL
+     * @throws IllegalStateException if the list has been closed or is not empty
+     * @throws IllegalArgumentException if the chain does not match head, tail, size and used
+     */
+    protected void restore( long head, long tail, int size, long used, long free )
+    {
+        if( free != NIL && (free < 0 || free >= used) )
+            throw new IllegalArgumentException("Free chain starts outside the used nodes: " + free);
+        adopt( head, tail, size, used, false );
+        this.free = free;
+    }
+
+    /**
+     * Takes over a chain of nodes that already exists in the slabs, as restore(head, tail, size, used, free)
+     * does, when the free chain saved with it cannot be trusted. The walk marks every node of the chain in
+     * its own link, and a sweep over the used nodes then clears the marks and threads every unmarked node
+     * onto a new free chain, so nothing but the slabs themselves grows with the list.
+     *
+     * @param head the first node's number, or NIL
+     * @param tail the last node's number, or NIL
+     * @param size the number of nodes in the chain
+     * @param used how many node numbers have been handed out
+     * @throws IllegalStateException if the list has been closed or is not empty
+     * @throws IllegalArgumentException if the chain does not match head, tail, size and used
+     */
+    protected void restore( long head, long tail, int size, long used )
+    {
+        adopt( head, tail, size, used, true );
+
+        // Sweep from the top down, so the lowest free nodes are reused first
+        for( long node = used - 1; node >= 0; node-- )
+        {
+            long next = nextOf( node );
+            if( node == tail )
+                continue;
+            if( next >= 0 && (next & LIVE_MARK) != 0 )
+                setNext( node, next & ~LIVE_MARK );
+            else
+            {
+                setNext( node, free );
+                free = node;
+            }
+        }
+    }
+
+    /**
+     * Allocates the slabs for a restored chain, checks the chain and adopts it, optionally marking each node
+     * but the tail as live. Links are read with any mark left by an earlier, interrupted sweep cleared.
+     *
+     * @param head the first node's number, or NIL
+     * @param tail the last node's number, or NIL
+     * @param size the number of nodes in the chain
+     * @param used how many node numbers have been handed out
+     * @param mark true to mark the chain's nodes for a sweep
+     * @throws IllegalStateException if the list has been closed or is not empty
+     * @throws IllegalArgumentException if the chain does not match head, tail, size and used
+     */
+    private void adopt( long head, long tail, int size, long used, boolean mark )
+    {
+        checkOpen();
+        if( this.used != 0 )
+            throw new IllegalStateException("Only an empty list can be restored");
+        if( size < 0 || used < size || (size == 0) != (head == NIL) || (size == 0) != (tail == NIL)
+            || (tail != NIL && (tail < 0 || tail >= used)) )
+            throw new IllegalArgumentException("Inconsistent list state: " + size + " nodes, " + used + " used");
+
+        long slabsNeeded = (used + slabMask) >>> slabShift;
+        while( slabCount < slabsNeeded )
+        {
+            if( slabCount == slabs.length )
+                slabs = Arrays.copyOf( slabs, slabCount * 2 );
+            slabs[slabCount] = allocateSlab( slabCount, (slabMask + 1) * nodeBytes );
+            slabCount++;
+        }
+
+        if( tail != NIL )
+            setNext( tail, NIL );
+        long node = head;
+        for( int i = 0; i < size - 1; i++ )
+        {
+            if( node < 0 || node >= used || node == tail )
+                throw new IllegalArgumentException("Chain breaks after " + i + " of " + size + " nodes");
+            long link = nextOf( node );
+            long next = (link >= 0) ? link & ~LIVE_MARK : link;
+            if( mark )
+                setNext( node, next | LIVE_MARK );
+            else if( link != next )
+                setNext( node, next );
+            node = next;
+        }
+        if( node != tail )
+            throw new IllegalArgumentException("Chain of " + size + " nodes does not end at the tail");
+
+        this.head = head;
+        this.tail = tail;
+        this.size = size;
+        this.used = used;
+        this.free = NIL;
+    }
+
+    // ==================== NODE MANAGEMENT ====================
+
+    /**
+     * Returns the node number at the specified position. The index must already have been checked.
+     *
+     * @param index index of the node to return
+     * @return the node number at the specified position
+     */
+    private long node( int index )
+    {
+        if( index == size - 1 )
+            return tail;
+
+        long node = head;
+        for( int i = 0; i < index; i++ )
+            node = nextOf( node );
+        return node;
+    }
+
+    /**
+     * Allocates a node and links it as the last node of the list
+     *
+     * @return the new node's number
+     */
+    private long linkLast()
+    {
+        long node = allocateNode();
+        setNext( node, NIL );
+        if( tail == NIL )
+            head = node;
+        else
+            setNext( tail, node );
+        tail = node;
+        size++;
+        return node;
+    }
+
+    /**
+     * Allocates a node and links it at the specified position
+     *
+     * @param index the position of the new node
+     * @return the new node's number
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    private long linkAt( int index )
+    {
+        if( index < 0 || index > size )
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+        if( index == size )
+            return linkLast();
+
+        long pred = (index == 0) ? NIL : linkableNode( index - 1 );
+        long node = allocateNode();
+        if( pred == NIL )
+        {
+            setNext( node, head );
+            head = node;
+        }
+        else
+        {
+            setNext( node, nextOf( pred ) );
+            setNext( pred, node );
+        }
+        if( index <= copiedNodes )
+            copiedNodes++;
+        size++;
+        return node;
+    }
+
+    /**
+     * True if the node at the specified position is still a node of the pinned chain
+     *
+     * @param index the node's position
+     * @return true if the node must not be written
+     */
+    private boolean isShared( int index )
+    {
+        return index >= copiedNodes && index < copiedNodes + sharedNodes;
+    }
+
+    /**
+     * Returns the node at the specified position for an edit of its payload, first copying it, and the
+     * pinned nodes in front of it, if it belongs to the pinned chain. The index must already have been checked.
+     *
+     * @param index index of the node to return
+     * @return a node at that position that may be written
+     */
+    private long writableNode( int index )
+    {
+        return isShared( index ) ? copyThrough( index ) : node( index );
+    }
+
+    /**
+     * Returns the node at the specified position for an edit of its link. The pinned tail's link is not
+     * part of the pinned chain, so only the pinned nodes in front of it are copied.
+     *
+     * @param index index of the node to return
+     * @return a node at that position whose link may be written
+     */
+    private long linkableNode( int index )
+    {
+        return (isShared( index ) && index < copiedNodes + sharedNodes - 1) ? copyThrough( index ) : node( index );
+    }
+
+    /**
+     * Replaces the pinned nodes from the first shared position through the specified one with copies, and
+     * retires the originals. The walk to the position pays for the copying, and each pinned node is
+     * copied at most once between pins.
+     *
+     * @param index the position of the last node to copy; must be a shared position
+     * @return the copy now at that position
+     */
+    private long copyThrough( int index )
+    {
+        long pred = (copiedNodes == 0) ? NIL : node( copiedNodes - 1 );
+        long original = (pred == NIL) ? head : nextOf( pred );
+        for( int i = copiedNodes; i <= index; i++ )
+        {
+            long copy = allocateNode();
+            slabOf( copy ).put( offsetOf( copy ), slabOf( original ), offsetOf( original ), nodeBytes );
+            if( pred == NIL )
+                head = copy;
+            else
+                setNext( pred, copy );
+            if( original == tail )
+                tail = copy;
+            if( retiredHead == NIL )
+                retiredHead = original;
+            retiredTail = original;
+            pred = copy;
+            original = nextOf( copy );
+        }
+        sharedNodes -= index + 1 - copiedNodes;
+        copiedNodes = index + 1;
+        return pred;
+    }
+
+    /**
+     * Takes a node from the free chain, or a fresh one, allocating a new slab if needed
+     *
+     * @return the node number
+     */
+    private long allocateNode()
+    {
+        if( free != NIL )
+        {
+            long node = free;
+            free = nextOf( node );
+            return node;
+        }
+
+        long node = used++;
+        int slabIndex = (int) (node >>> slabShift);
+        if( slabIndex == slabCount )
+        {
+            if( slabCount == slabs.length )
+                slabs = Arrays.copyOf( slabs, slabCount * 2 );
+            slabs[slabCount] = allocateSlab( slabCount, (slabMask + 1) * nodeBytes );
+            slabCount++;
+        }
+        return node;
+    }
+
+    private ByteBuffer slabOf( long node )
+    {
+        return slabs[(int) (node >>> slabShift)];
+    }
+
+    private int offsetOf( long node )
+    {
+        return ((int) node & slabMask) * nodeBytes;
+    }
+
+    private int payloadOf( long node )
+    {
+        return offsetOf( node ) + PAYLOAD_OFFSET;
+    }
+
+    private long nextOf( long node )
+    {
+        return slabOf( node ).getLong( offsetOf( node ) + NEXT_OFFSET );
+    }
+
+    private void setNext( long node, long next )
+    {
+        slabOf( node ).putLong( offsetOf( node ) + NEXT_OFFSET, next );
+    }
+
+    // ==================== CHECKS ====================
+
+    private void checkOpen()
+    {
+        if( closed )
+            throw new IllegalStateException("List has been closed");
+    }
+
+    private void checkType( ElementType expected )
+    {
+        checkOpen();
+        if( type != expected )
+            throw new IllegalStateException("List holds " + type + " elements, not " + expected);
+    }
+
+    private void checkRecord( byte[] record )
+    {
+        if( record.length != elementBytes )
+            throw new IllegalArgumentException("Record must be " + elementBytes + " bytes: " + record.length);
+    }
+
+    /**
+     * Throws an IndexOutOfBoundsException if the index does not refer to an existing element
+     *
+     * @param index the index to check
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    private void checkElementIndex( int index )
+    {
+        if( index < 0 || index >= size )
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+}
@@ -0,0 +1,545 @@
+package linkylist;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * An immutable, persistent singly-linked list. Every list is a chain of cells that never change once
+ * built, so an "update" returns a new list and leaves the old one intact, and the two share every cell
+ * the update did not have to touch:
+ * <ul>
+ * <li>prepend(), first() and rest() are O(1), and the new list shares the old one whole.</li>
+ * <li>set(), insert() and remove() at index i copy the i cells in front of it and share the rest.</li>
+ * <li>append() copies the whole list, since every cell leads to the end. Build long lists with a
+ *     Builder instead, which costs one cell per element in total.</li>
+ * </ul>
+ * Because nothing can change, a list can be handed to any number of threads with no locking or
+ * copying: taking a snapshot is just keeping the reference. The cells' fields are final, so a list
+ * published through a data race is still seen complete. A writer that keeps replacing its current
+ * version and readers that each grab one see consistent lists, whatever the timing.
+ * <p>
+ * Every cell knows the size of the list it starts, so size() is O(1). Null elements are permitted.
+ *
+ * @author Austin Benedicto
+ * @version 12/14/2025
+ */
+public final class PersistentLinkyList <T> implements Iterable<T>
+{
+    @SuppressWarnings("rawtypes")
+    private static final PersistentLinkyList EMPTY = new PersistentLinkyList<>( null, null, 0 );
+
+    private final T first;
+    private final PersistentLinkyList<T> rest;
+    private final int size;
+    // Computed on first use; 0 means not yet. Racing threads compute the same value, so no lock is needed
+    private int hash;
+
+    private PersistentLinkyList( T first, PersistentLinkyList<T> rest, int size )
+    {
+        this.first = first;
+        this.rest = rest;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty list
+     *
+     * @param <T> the type of elements in the list
+     * @return the empty list
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentLinkyList<T> empty()
+    {
+        return (PersistentLinkyList<T>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the given elements, in order
+     *
+     * @param <T> the type of elements in the list
+     * @param elements the elements
+     * @return a list of the given elements
+     */
+    @SafeVarargs
+    public static <T> PersistentLinkyList<T> of( T... elements )
+    {
+        PersistentLinkyList<T> list = empty();
+        for( int i = elements.length - 1; i >= 0; i-- )
+            list = list.prepend( elements[i] );
+        return list;
+    }
+
+    /**
+     * Returns a list of the given elements, in iteration order
+     *
+     * @param <T> the type of elements in the list
+     * @param elements the elements
+     * @return a list of the given elements
+     */
+    public static <T> PersistentLinkyList<T> copyOf( Iterable<? extends T> elements )
+    {
+        Builder<T> builder = builder();
+        for( T element : elements )
+            builder.add( element );
+        return builder.build();
+    }
+
+    /**
+     * Returns a new, empty Builder
+     *
+     * @param <T> the type of elements in the list
+     * @return an empty Builder
+     */
+    public static <T> Builder<T> builder()
+    {
+        return new Builder<>();
+    }
+
+    // ==================== READS ====================
+
+    /**
+     * True if the list is empty, false otherwise
+     *
+     * @return if the list is empty, false otherwise
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in this list
+     *
+     * @return the number of elements in this list
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Returns the first element of this list
+     *
+     * @return the first element
+     * @throws NoSuchElementException if the list is empty
+     */
+    public T first()
+    {
+        if( size == 0 )
+            throw new NoSuchElementException();
+        return first;
+    }
+
+    /**
+     * Returns the list of every element but the first. The result is part of this list, not a copy.
+     *
+     * @return this list without its first element
+     * @throws NoSuchElementException if the list is empty
+     */
+    public PersistentLinkyList<T> rest()
+    {
+        if( size == 0 )
+            throw new NoSuchElementException();
+        return rest;
+    }
+
+    /**
+     * Returns the element at the specified position in this list
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public T get( int index )
+    {
+        checkElementIndex( index );
+        return cell( index ).first;
+    }
+
+    /**
+     * Returns true if this list contains the specified element
+     *
+     * @param obj element whose presence in this list is to be tested
+     * @return true if this list contains the specified element
+     */
+    public boolean contains( Object obj )
+    {
+        return indexOf( obj ) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this list, or -1 if this list does not contain the element
+     *
+     * @param obj element to search for
+     * @return the index of the first occurrence of the specified element in this list, or -1 if this list does not contain the element
+     */
+    public int indexOf( Object obj )
+    {
+        int index = 0;
+        for( PersistentLinkyList<T> cell = this; cell.size > 0; cell = cell.rest )
+        {
+            if( Objects.equals( obj, cell.first ) )
+                return index;
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an iterator over the elements of this list, in order. The list cannot change, so the
+     * iterator never throws ConcurrentModificationException; it does not support remove().
+     *
+     * @return an iterator over the elements in this list
+     */
+    public Iterator<T> iterator()
+    {
+        return new Iterator<T>()
+        {
+            private PersistentLinkyList<T> cell = PersistentLinkyList.this;
+
+            public boolean hasNext()
+            {
+                return cell.size > 0;
+            }
+
+            public T next()
+            {
+                if( cell.size == 0 )
+                    throw new NoSuchElementException();
+                T element = cell.first;
+                cell = cell.rest;
+                return element;
+            }
+        };
+    }
+
+    /**
+     * Performs the given action for each element of the list, in order
+     *
+     * @param action the action to be performed for each element
+     */
+    public void forEach( Consumer<? super T> action )
+    {
+        Objects.requireNonNull( action );
+        for( PersistentLinkyList<T> cell = this; cell.size > 0; cell = cell.rest )
+            action.accept( cell.first );
+    }
+
+    /**
+     * Returns a new mutable LinkyList with the elements of this list
+     *
+     * @return a LinkyList holding the same elements in the same order
+     */
+    public LinkyList<T> toLinkyList()
+    {
+        LinkyList<T> list = new LinkyList<>();
+        for( PersistentLinkyList<T> cell = this; cell.size > 0; cell = cell.rest )
+            list.add( cell.first );
+        return list;
+    }
+
+    // ==================== UPDATES ====================
+
+    /**
+     * Returns this list with the element added at the front, in O(1). The result shares all of this list.
+     *
+     * @param element the element to add
+     * @return the new list
+     */
+    public PersistentLinkyList<T> prepend( T element )
+    {
+        return new PersistentLinkyList<>( element, this, size + 1 );
+    }
+
+    /**
+     * Returns this list with the element added at the end. Copies every cell; use a Builder to build long lists.
+     *
+     * @param element the element to add
+     * @return the new list
+     */
+    public PersistentLinkyList<T> append( T element )
+    {
+        return insert( size, element );
+    }
+
+    /**
+     * Returns this list with the element inserted at the specified position. Copies the cells in front
+     * of it and shares the rest.
+     *
+     * @param index index at which the element is to be inserted
+     * @param element element to be inserted
+     * @return the new list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public PersistentLinkyList<T> insert( int index, T element )
+    {
+        if( index < 0 || index > size )
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+        return copyPrefix( index, cell( index ).prepend( element ) );
+    }
+
+    /**
+     * Returns this list with the element at the specified position replaced. Copies the cells in front of
+     * it and shares the rest.
+     *
+     * @param index index of the element to replace
+     * @param element element to be stored at the specified position
+     * @return the new list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public PersistentLinkyList<T> set( int index, T element )
+    {
+        checkElementIndex( index );
+        return copyPrefix( index, cell( index + 1 ).prepend( element ) );
+    }
+
+    /**
+     * Returns this list without the element at the specified position. Copies the cells in front of it and
+     * shares the rest.
+     *
+     * @param index the index of the element to be removed
+     * @return the new list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public PersistentLinkyList<T> remove( int index )
+    {
+        checkElementIndex( index );
+        return copyPrefix( index, cell( index + 1 ) );
+    }
+
+    /**
+     * Returns this list without the first occurrence of the specified element, or this list itself if the
+     * element is not present
+     *
+     * @param obj element to be removed, if present
+     * @return the new list, or this list if nothing was removed
+     */
+    public PersistentLinkyList<T> remove( Object obj )
+    {
+        int index = indexOf( obj );
+        return (index < 0) ? this : remove( index );
+    }
+
+    /**
+     * Returns this list followed by the other. Copies this list's cells and shares all of the other.
+     *
+     * @param other the list to put after this one
+     * @return the combined list
+     */
+    public PersistentLinkyList<T> concat( PersistentLinkyList<T> other )
+    {
+        if( other.isEmpty() )
+            return this;
+        return copyPrefix( size, other );
+    }
+
+    /**
+     * Returns this list in reverse order
+     *
+     * @return the reversed list
+     */
+    public PersistentLinkyList<T> reverse()
+    {
+        PersistentLinkyList<T> reversed = empty();
+        for( PersistentLinkyList<T> cell = this; cell.size > 0; cell = cell.rest )
+            reversed = reversed.prepend( cell.first );
+        return reversed;
+    }
+
+    // ==================== OBJECT METHODS ====================
+
+    /**
+     * Compares the specified object with this list for equality. Returns true if the object is also a
+     * PersistentLinkyList with the same elements in the same order. Lists that share a suffix stop
+     * comparing as soon as they reach it.
+     *
+     * @param obj the object to be compared for equality with this list
+     * @return true if the specified object is equal to this list
+     */
+    public boolean equals( Object obj )
+    {
+        if( this == obj )
+            return true;
+        if( !(obj instanceof PersistentLinkyList) )
+            return false;
+
+        PersistentLinkyList<?> other = (PersistentLinkyList<?>) obj;
+        if( size != other.size )
+            return false;
+        if( hash != 0 && other.hash != 0 && hash != other.hash )
+            return false;
+
+        PersistentLinkyList<?> a = this;
+        PersistentLinkyList<?> b = other;
+        while( a != b )
+        {
+            if( !Objects.equals( a.first, b.first ) )
+                return false;
+            a = a.rest;
+            b = b.rest;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the hash code for this list, computed as java.util.List specifies, so it matches a List
+     * with the same elements. Computed once and then remembered.
+     *
+     * @return the hash code value for this list
+     */
+    public int hashCode()
+    {
+        int h = hash;
+        if( h == 0 && size > 0 )
+        {
+            h = 1;
+            for( PersistentLinkyList<T> cell = this; cell.size > 0; cell = cell.rest )
+                h = 31 * h + Objects.hashCode( cell.first );
+            hash = h;
+        }
+        return (size == 0) ? 1 : h;
+    }
+
+    /**
+     * Returns a String representation of this list, in the same format as LinkyList
+     *
+     * @return a String representation of this collection
+     */
+    public String toString()
+    {
+        StringBuilder printList = new StringBuilder( "[" );
+        String separator = "";
+        for( PersistentLinkyList<T> cell = this; cell.size > 0; cell = cell.rest )
+        {
+            printList.append( separator ).append( String.valueOf( cell.first ) );
+            separator = ", ";
+        }
+        return printList.append( "]" ).toString();
+    }
+
+    // ==================== HELPERS ====================
+
+    /**
+     * Returns the cell at the specified position, or the empty list if index is the size
+     *
+     * @param index index of the cell to return
+     * @return the cell at that position
+     */
+    private PersistentLinkyList<T> cell( int index )
+    {
+        PersistentLinkyList<T> cell = this;
+        for( int i = 0; i < index; i++ )
+            cell = cell.rest;
+        return cell;
+    }
+
+    /**
+     * Copies the first count elements of this list in front of the given suffix
+     *
+     * @param count how many elements to copy
+     * @param suffix what the copies lead to
+     * @return the new list
+     */
+    @SuppressWarnings("unchecked")
+    private PersistentLinkyList<T> copyPrefix( int count, PersistentLinkyList<T> suffix )
+    {
+        // Cells can only be built back to front, so gather the prefix first
+        Object[] prefix = new Object[count];
+        PersistentLinkyList<T> cell = this;
+        for( int i = 0; i < count; i++ )
+        {
+            prefix[i] = cell.first;
+            cell = cell.rest;
+        }
+
+        PersistentLinkyList<T> result = suffix;
+        for( int i = count - 1; i >= 0; i-- )
+            result = result.prepend( (T) prefix[i] );
+        return result;
+    }
+
+    private void checkElementIndex( int index )
+    {
+        if( index < 0 || index >= size )
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+
+    /**
+     * Collects elements in order and then builds the list in one pass, for batch construction where
+     * repeated append() would copy the list each time. A Builder is not thread-safe, but the lists it
+     * builds are. It can keep collecting after build(), and later lists are unaffected by earlier ones.
+     */
+    public static final class Builder <T>
+    {
+        private final ArrayList<T> elements;
+
+        private Builder()
+        {
+            elements = new ArrayList<>();
+        }
+
+        /**
+         * Adds an element to the end of the list being built
+         *
+         * @param element the element to add
+         * @return this Builder
+         */
+        public Builder<T> add( T element )
+        {
+            elements.add( element );
+            return this;
+        }
+
+        /**
+         * Adds every element, in iteration order, to the end of the list being built
+         *
+         * @param more the elements to add
+         * @return this Builder
+         */
+        public Builder<T> addAll( Iterable<? extends T> more )
+        {
+            for( T element : more )
+                elements.add( element );
+            return this;
+        }
+
+        /**
+         * Returns the number of elements collected so far
+         *
+         * @return the number of elements collected
+         */
+        public int size()
+        {
+            return elements.size();
+        }
+
+        /**
+         * Returns a list of every element collected so far
+         *
+         * @return the list
+         */
+        public PersistentLinkyList<T> build()
+        {
+            return buildOnto( empty() );
+        }
+
+        /**
+         * Returns a list of every element collected so far followed by the given list, which is shared
+         * rather than copied
+         *
+         * @param suffix the list to put after the collected elements
+         * @return the list
+         */
+        public PersistentLinkyList<T> buildOnto( PersistentLinkyList<T> suffix )
+        {
+            PersistentLinkyList<T> list = suffix;
+            for( int i = elements.size() - 1; i >= 0; i-- )
+                list = list.prepend( elements.get( i ) );
+            return list;
+        }
+    }
+}
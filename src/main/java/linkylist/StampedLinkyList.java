@@ -0,0 +1,376 @@
+package linkylist;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+/**
+ * A thread-safe LinkyList for read-mostly workloads, guarded by a StampedLock. Mutators take the write
+ * lock. Reads first run without any lock under an optimistic stamp and keep the result only if no
+ * write happened in the meantime; otherwise they run again under the read lock. When writes are rare,
+ * readers never write to shared memory at all, so read throughput scales with cores instead of queueing
+ * on a monitor.
+ * <p>
+ * An optimistic read can run while a writer is halfway through relinking nodes. It may then see a
+ * partial chain, stop early or throw. None of that escapes: the stamp no longer validates, and the
+ * read is repeated under the lock. The wrapped list is private to this class, so every write is
+ * guaranteed to go through the lock.
+ *
+ * @author Austin Benedicto
+ * @version 12/14/2025
+ */
+public class StampedLinkyList <T>
+{
+    private final LinkyList<T> list;
+    private final StampedLock lock;
+
+    /**
+     * Constructor for StampedLinkyList
+     */
+    public StampedLinkyList()
+    {
+        list = new LinkyList<>();
+        lock = new StampedLock();
+    }
+
+    // ==================== READS ====================
+
+    /**
+     * True if the list is empty, false otherwise
+     *
+     * @return if the list is empty, false otherwise
+     */
+    public boolean isEmpty()
+    {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of elements in this list
+     *
+     * @return the number of elements in this list
+     */
+    public int size()
+    {
+        long stamp = lock.tryOptimisticRead();
+        int result = list.size();
+        if( lock.validate( stamp ) )
+            return result;
+
+        stamp = lock.readLock();
+        try
+        {
+            return list.size();
+        }
+        finally
+        {
+            lock.unlockRead( stamp );
+        }
+    }
+
+    /**
+     * Returns true if this list contains the specified element. More formally, returns true if and only if this list contains at least one element e such that Objects.equals(obj, e).
+     *
+     * @param obj element whose presence in this list is to be tested
+     * @return true if this list contains the specified element
+     */
+    public boolean contains( Object obj )
+    {
+        long stamp = lock.tryOptimisticRead();
+        if( stamp != 0L )
+        {
+            try
+            {
+                boolean result = list.contains( obj );
+                if( lock.validate( stamp ) )
+                    return result;
+            }
+            catch( RuntimeException e )
+            {
+                rethrowIfValid( stamp, e );
+            }
+        }
+
+        stamp = lock.readLock();
+        try
+        {
+            return list.contains( obj );
+        }
+        finally
+        {
+            lock.unlockRead( stamp );
+        }
+    }
+
+    /**
+     * Returns the element at the specified position in this list
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public T get( int index )
+    {
+        long stamp = lock.tryOptimisticRead();
+        if( stamp != 0L )
+        {
+            try
+            {
+                // Must not move the list's finger from a snapshot that may be half-updated
+                T result = list.getWithoutFinger( index );
+                if( lock.validate( stamp ) )
+                    return result;
+            }
+            catch( RuntimeException e )
+            {
+                rethrowIfValid( stamp, e );
+            }
+        }
+
+        stamp = lock.readLock();
+        try
+        {
+            // Other readers may hold the read lock too, so this must not move the finger either
+            return list.getWithoutFinger( index );
+        }
+        finally
+        {
+            lock.unlockRead( stamp );
+        }
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this list, or -1 if this list does not contain the element
+     *
+     * @param obj element to search for
+     * @return the index of the first occurrence of the specified element in this list, or -1 if this list does not contain the element
+     */
+    public int indexOf( Object obj )
+    {
+        long stamp = lock.tryOptimisticRead();
+        if( stamp != 0L )
+        {
+            try
+            {
+                int result = list.indexOf( obj );
+                if( lock.validate( stamp ) )
+                    return result;
+            }
+            catch( RuntimeException e )
+            {
+                rethrowIfValid( stamp, e );
+            }
+        }
+
+        stamp = lock.readLock();
+        try
+        {
+            return list.indexOf( obj );
+        }
+        finally
+        {
+            lock.unlockRead( stamp );
+        }
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in this list, or -1 if this list does not contain the element
+     *
+     * @param obj element to search for
+     * @return the index of the last occurrence of the specified element in this list, or -1 if this list does not contain the element
+     */
+    public int lastIndexOf( Object obj )
+    {
+        long stamp = lock.tryOptimisticRead();
+        if( stamp != 0L )
+        {
+            try
+            {
+                int result = list.lastIndexOf( obj );
+                if( lock.validate( stamp ) )
+                    return result;
+            }
+            catch( RuntimeException e )
+            {
+                rethrowIfValid( stamp, e );
+            }
+        }
+
+        stamp = lock.readLock();
+        try
+        {
+            return list.lastIndexOf( obj );
+        }
+        finally
+        {
+            lock.unlockRead( stamp );
+        }
+    }
+
+    /**
+     * Performs the given action for each element of the list, in order, while holding the read lock.
+     * Writers wait until the traversal is done, so the action should be quick.
+     *
+     * @param action the action to be performed for each element
+     */
+    public void forEach( Consumer<? super T> action )
+    {
+        long stamp = lock.readLock();
+        try
+        {
+            for( T element : list )
+                action.accept( element );
+        }
+        finally
+        {
+            lock.unlockRead( stamp );
+        }
+    }
+
+    /**
+     * Returns a String representation of this list, in the same format as LinkyList
+     *
+     * @return a String representation of this collection
+     */
+    public String toString()
+    {
+        long stamp = lock.readLock();
+        try
+        {
+            return list.toString();
+        }
+        finally
+        {
+            lock.unlockRead( stamp );
+        }
+    }
+
+    // ==================== WRITES ====================
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param element the element to be appended
+     * @return true if the addition was successful, false otherwise
+     */
+    public boolean add( T element )
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            return list.add( element );
+        }
+        finally
+        {
+            lock.unlockWrite( stamp );
+        }
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list
+     *
+     * @param index index at which the specified element is to be inserted
+     * @param element element to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public void add( int index, T element )
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            list.add( index, element );
+        }
+        finally
+        {
+            lock.unlockWrite( stamp );
+        }
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with the specified element
+     *
+     * @param index index of the element to replace
+     * @param element element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public T set( int index, T element )
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            return list.set( index, element );
+        }
+        finally
+        {
+            lock.unlockWrite( stamp );
+        }
+    }
+
+    /**
+     * Removes the element at the specified position in this list
+     *
+     * @param index the index of the element to be removed
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public T remove( int index )
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            return list.remove( index );
+        }
+        finally
+        {
+            lock.unlockWrite( stamp );
+        }
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from this list, if it is present.
+     *
+     * @param obj element to be removed from this list, if present
+     * @return true if this list contained the specified element
+     */
+    public boolean remove( Object obj )
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            return list.remove( obj );
+        }
+        finally
+        {
+            lock.unlockWrite( stamp );
+        }
+    }
+
+    /**
+     * Removes all of the elements from this list
+     */
+    public void clear()
+    {
+        long stamp = lock.writeLock();
+        try
+        {
+            list.clear();
+        }
+        finally
+        {
+            lock.unlockWrite( stamp );
+        }
+    }
+
+    /**
+     * Rethrows an exception from an optimistic read if no write overlapped it, since it is then a genuine
+     * result (such as an out-of-range index) rather than a symptom of reading a half-finished write
+     *
+     * @param stamp the optimistic stamp the read ran under
+     * @param e the exception the read threw
+     */
+    private void rethrowIfValid( long stamp, RuntimeException e )
+    {
+        if( lock.validate( stamp ) )
+            throw e;
+    }
+}
@@ -0,0 +1,525 @@
+package linkylist;
+
+/**
+ * An unrolled version of LinkyList. Each node holds a small array of elements instead of a
+ * single element, so traversals touch far fewer objects and read elements from contiguous
+ * memory. Nodes are split when an insert overflows them and merged with a neighbour when
+ * removals leave them less than half full.
+ *
+ * @author Austin Benedicto
+ * @version 12/14/2025
+ */
+public class UnrolledLinkyList <T>
+{
+    /**
+     * Number of elements each node holds when no capacity is given
+     */
+    public static final int DEFAULT_NODE_CAPACITY = 32;
+
+    private class Node
+    {
+        public final Object[] elements;
+        public int count;
+        public Node next;
+        public Node prev;
+
+        public Node()
+        {
+            this.elements = new Object[nodeCapacity];
+            this.count = 0;
+            this.next = null;
+            this.prev = null;
+        }
+    }
+
+    // What access() does once it has found an index
+    private static final int GET = 0;
+    private static final int SET = 1;
+    private static final int REMOVE = 2;
+    private static final int INSERT = 3;
+
+    private final int nodeCapacity;
+    private Node head;
+    private Node tail;
+    private int size;
+
+    /**
+     * Constructor for UnrolledLinkyList using the default node capacity
+     */
+    public UnrolledLinkyList()
+    {
+        this( DEFAULT_NODE_CAPACITY );
+    }
+
+    /**
+     * Constructor for UnrolledLinkyList
+     *
+     * @param nodeCapacity the number of elements each node can hold
+     * @throws IllegalArgumentException if nodeCapacity is less than 2
+     */
+    public UnrolledLinkyList( int nodeCapacity )
+    {
+        if( nodeCapacity < 2 )
+            throw new IllegalArgumentException("Node capacity must be at least 2: " + nodeCapacity);
+
+        this.nodeCapacity = nodeCapacity;
+        head = null;
+        tail = null;
+        size = 0;
+    }
+
+    /**
+     * True if the UnrolledLinkyList is empty, false otherwise
+     *
+     * @return if the UnrolledLinkyList is empty, false otherwise
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Removes all of the elements from this list. The list will be empty after this call returns.
+     */
+    public void clear()
+    {
+        head = null;
+        tail = null;
+        size = 0;
+    }
+
+    /**
+     * Returns the number of elements in this list
+     *
+     * @return the number of elements in this list
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Returns true if this list contains the specified element. More formally, returns true if and only if this list contains at least one element e such that Objects.equals(obj, e).
+     *
+     * @param obj element whose presence in this list is to be tested
+     * @return true if this list contains the specified element
+     */
+    public boolean contains( Object obj )
+    {
+        return indexOf( obj ) >= 0;
+    }
+
+    /**
+     * Returns the element at the specified position in this list
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public T get( int index )
+    {
+        checkElementIndex( index );
+
+        return access( index, GET, null );
+    }
+
+    /**
+     * Replaces the element at the specified position in this list with the specified element
+     *
+     * @param index index of the element to replace
+     * @param element element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public T set( int index, T element )
+    {
+        checkElementIndex( index );
+
+        return access( index, SET, element );
+    }
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param element the element to be appended
+     * @return true if the addition was successful, false otherwise
+     */
+    public boolean add( T element )
+    {
+        if( tail == null || tail.count == nodeCapacity )
+            linkAfter( new Node(), tail );
+
+        tail.elements[tail.count++] = element;
+        size++;
+        return true;
+    }
+
+    /**
+     * Inserts the specified element at the specified position in this list. Shifts the element currently at that position (if any) and any subsequent elements to the right (adds one to their indices).
+     *
+     * @param index index at which the specified element is to be inserted
+     * @param element element to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public void add( int index, T element )
+    {
+        if( index < 0 || index > size )
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+        if( index == size )
+        {
+            add( element );
+            return;
+        }
+
+        access( index, INSERT, element );
+    }
+
+    /**
+     * Removes the element at the specified position in this list
+     *
+     * @param index the index of the element to be removed
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public T remove( int index )
+    {
+        checkElementIndex( index );
+
+        return access( index, REMOVE, null );
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from this list, if it is present.
+     *
+     * @param obj element to be removed from this list, if present
+     * @return true if this list contained the specified element
+     */
+    public boolean remove( Object obj )
+    {
+        for( Node current = head; current != null; current = current.next )
+        {
+            Object[] elements = current.elements;
+            for( int i = 0; i < current.count; i++ )
+            {
+                if( (obj == null && elements[i] == null) || (obj != null && obj.equals(elements[i])) )
+                {
+                    removeAt( current, i );
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element in this list, or -1 if this list does not contain the element. More formally, returns the lowest index i such that Objects.equals(o, get(i)), or -1 if there is no such index.
+     *
+     * @param obj element to search for
+     * @return the index of the first occurrence of the specified element in this list, or -1 if this list does not contain the element
+     */
+    public int indexOf( Object obj )
+    {
+        int base = 0;
+        for( Node current = head; current != null; current = current.next )
+        {
+            Object[] elements = current.elements;
+            for( int i = 0; i < current.count; i++ )
+            {
+                if( (obj == null && elements[i] == null) || (obj != null && obj.equals(elements[i])) )
+                    return base + i;
+            }
+            base += current.count;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the specified element in this list, or -1 if this list does not contain the element. More formally, returns the highest index i such that Objects.equals(o, get(i)), or -1 if there is no such index.
+     *
+     * @param obj element to search for
+     * @return the index of the last occurrence of the specified element in this list, or -1 if this list does not contain the element
+     */
+    public int lastIndexOf( Object obj )
+    {
+        int base = size;
+        for( Node current = tail; current != null; current = current.prev )
+        {
+            base -= current.count;
+            Object[] elements = current.elements;
+            for( int i = current.count - 1; i >= 0; i-- )
+            {
+                if( (obj == null && elements[i] == null) || (obj != null && obj.equals(elements[i])) )
+                    return base + i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Compares the specified object with this list for equality
+     *
+     * @param obj the object to be compared for equality with this list
+     * @return true if the specified object is equal to this list
+     */
+    public boolean equals( Object obj )
+    {
+        if( obj == this )
+            return true;
+
+        if( !(obj instanceof UnrolledLinkyList) )
+            return false;
+
+        UnrolledLinkyList<?> list = (UnrolledLinkyList<?>) obj;
+        if( this.size != list.size )
+            return false;
+
+        // Node boundaries of the two lists need not line up, so walk both with their own offsets
+        UnrolledLinkyList<?>.Node otherCurrent = list.head;
+        int otherOffset = 0;
+        for( Node thisCurrent = head; thisCurrent != null; thisCurrent = thisCurrent.next )
+        {
+            for( int i = 0; i < thisCurrent.count; i++ )
+            {
+                if( otherOffset == otherCurrent.count )
+                {
+                    otherCurrent = otherCurrent.next;
+                    otherOffset = 0;
+                }
+                Object thisData = thisCurrent.elements[i];
+                Object otherData = otherCurrent.elements[otherOffset++];
+                if( thisData == null ? otherData != null : !thisData.equals(otherData) )
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this list, computed the same way as List.hashCode()
+     *
+     * @return a hash code for this list
+     */
+    public int hashCode()
+    {
+        int hash = 1;
+        for( Node current = head; current != null; current = current.next )
+        {
+            for( int i = 0; i < current.count; i++ )
+            {
+                Object data = current.elements[i];
+                hash = 31 * hash + (data == null ? 0 : data.hashCode());
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Returns a String representation of this UnrolledLinkyList. The String representation consists of a
+     * list of the collection's elements in order, enclosed in square brackets("[]"). Adjacent elements
+     * are separated by the characters ", " (comma and space). Elements are converted to Strings as by
+     * String.valueOf( Object).
+     *
+     * @return a String representation of this collection
+     */
+    public String toString()
+    {
+        StringBuilder printList = new StringBuilder( "[" );
+
+        String separator = "";
+        for( Node current = head; current != null; current = current.next )
+        {
+            for( int i = 0; i < current.count; i++ )
+            {
+                printList.append( separator ).append( String.valueOf(current.elements[i]) );
+                separator = ", ";
+            }
+        }
+        return printList.append("]").toString();
+    }
+
+    /**
+     * Finds the node holding the specified index and the index's offset inside it, walking nodes from
+     * whichever end of the list is closer, then does the given action there. The index must already
+     * have been checked. Working in place keeps the node and offset in locals, so no lookup allocates.
+     * A GET writes nothing to the list, so concurrent readers of an unchanging list cannot disturb each
+     * other.
+     *
+     * @param index index of the element to act on
+     * @param action GET, SET, REMOVE or INSERT
+     * @param element the element to store for SET or INSERT, otherwise ignored
+     * @return the element at the index before the action, or null for INSERT
+     */
+    private T access( int index, int action, T element )
+    {
+        Node current;
+        int offset;
+        if( index < (size >> 1) )
+        {
+            current = head;
+            while( index >= current.count )
+            {
+                index -= current.count;
+                current = current.next;
+            }
+            offset = index;
+        }
+        else
+        {
+            int remaining = size - index;
+            current = tail;
+            while( remaining > current.count )
+            {
+                remaining -= current.count;
+                current = current.prev;
+            }
+            offset = current.count - remaining;
+        }
+
+        switch( action )
+        {
+            case GET:
+                return elementAt( current, offset );
+            case SET:
+                T oldData = elementAt( current, offset );
+                current.elements[offset] = element;
+                return oldData;
+            case REMOVE:
+                return removeAt( current, offset );
+            default:
+                insertAt( current, offset, element );
+                return null;
+        }
+    }
+
+    /**
+     * Inserts the element at the given offset of the given node, first splitting the node in two when
+     * it is full
+     *
+     * @param current the node holding the element now at that position
+     * @param offset the offset inside the node to insert at
+     * @param element element to be inserted
+     */
+    private void insertAt( Node current, int offset, T element )
+    {
+        if( current.count == nodeCapacity )
+        {
+            // Split: move the upper half into a new node that follows this one
+            Node sibling = new Node();
+            int half = nodeCapacity >> 1;
+            int moved = current.count - half;
+            System.arraycopy( current.elements, half, sibling.elements, 0, moved );
+            java.util.Arrays.fill( current.elements, half, current.count, null );
+            sibling.count = moved;
+            current.count = half;
+            linkAfter( sibling, current );
+
+            if( offset > half )
+            {
+                current = sibling;
+                offset -= half;
+            }
+        }
+
+        System.arraycopy( current.elements, offset, current.elements, offset + 1, current.count - offset );
+        current.elements[offset] = element;
+        current.count++;
+        size++;
+    }
+
+    /**
+     * Removes the element at the given offset of the given node, merging the node with its successor
+     * (or dropping it) when it falls below half capacity
+     *
+     * @param current the node holding the element
+     * @param offset the offset of the element inside the node
+     * @return the removed element
+     */
+    private T removeAt( Node current, int offset )
+    {
+        T removedData = elementAt( current, offset );
+        int moved = current.count - offset - 1;
+        System.arraycopy( current.elements, offset + 1, current.elements, offset, moved );
+        current.elements[--current.count] = null;
+        size--;
+
+        if( current.count == 0 )
+        {
+            unlink( current );
+        }
+        else if( current.count < (nodeCapacity >> 1) && current.next != null
+                 && current.count + current.next.count <= nodeCapacity )
+        {
+            Node succ = current.next;
+            System.arraycopy( succ.elements, 0, current.elements, current.count, succ.count );
+            current.count += succ.count;
+            unlink( succ );
+        }
+        return removedData;
+    }
+
+    /**
+     * Links the specified node immediately after pred, or as the head if pred is null
+     *
+     * @param node the node to be linked
+     * @param pred the node that will precede it
+     */
+    private void linkAfter( Node node, Node pred )
+    {
+        Node succ = (pred == null) ? head : pred.next;
+        node.prev = pred;
+        node.next = succ;
+
+        if( pred == null )
+            head = node;
+        else
+            pred.next = node;
+
+        if( succ == null )
+            tail = node;
+        else
+            succ.prev = node;
+    }
+
+    /**
+     * Unlinks the specified node from the chain of nodes
+     *
+     * @param node the node to be unlinked
+     */
+    private void unlink( Node node )
+    {
+        Node pred = node.prev;
+        Node succ = node.next;
+
+        if( pred == null )
+            head = succ;
+        else
+            pred.next = succ;
+
+        if( succ == null )
+            tail = pred;
+        else
+            succ.prev = pred;
+
+        node.prev = null;
+        node.next = null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt( Node node, int offset )
+    {
+        return (T) node.elements[offset];
+    }
+
+    /**
+     * Throws an IndexOutOfBoundsException if the index does not refer to an existing element
+     *
+     * @param index the index to check
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    private void checkElementIndex( int index )
+    {
+        if( index < 0 || index >= size )
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+}